@@ -0,0 +1,42 @@
+package org.adt.volunteerscase.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.adt.volunteerscase.service.event.ApplicationCounterReconciler;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.util.List;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class ApplicationCounterReconciliation {
+
+    private final ApplicationCounterReconciler applicationCounterReconciler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${event.application-counters.reconcile.fixed-delay-ms:3600000}",
+            initialDelayString = "${event.application-counters.reconcile.initial-delay-ms:3600000}"
+    )
+    public void reconcileBySchedule() {
+        reconcile();
+    }
+
+    private void reconcile() {
+        List<Integer> driftedEventIds = applicationCounterReconciler.findDriftedEventIds();
+        if (driftedEventIds.isEmpty()) {
+            return;
+        }
+
+        log.warn("application counters of {} events drifted, recounting them", driftedEventIds.size());
+        driftedEventIds.forEach(applicationCounterReconciler::reconcile);
+    }
+}
@@ -0,0 +1,43 @@
+package org.adt.volunteerscase.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.adt.volunteerscase.service.CoverService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+/**
+ * One-off migration of covers stored with Base64 JSON metadata into the metadata columns.
+ * Every batch runs in its own transaction; once all rows are migrated the query finds nothing and the run is a no-op.
+ */
+@Slf4j
+@Configuration
+public class CoverMetadataMigration {
+
+    private final CoverService coverService;
+    private final int batchSize;
+
+    public CoverMetadataMigration(
+            CoverService coverService,
+            @Value("${cover.metadata-migration.batch-size:500}") int batchSize
+    ) {
+        this.coverService = coverService;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateLegacyCoverMetadataOnStartup() {
+        int batches = 0;
+        Integer lastCoverId = coverService.migrateLegacyMetadata(0, batchSize);
+
+        while (lastCoverId != null) {
+            batches++;
+            lastCoverId = coverService.migrateLegacyMetadata(lastCoverId, batchSize);
+        }
+
+        if (batches > 0) {
+            log.info("migrated legacy cover metadata in {} batches", batches);
+        }
+    }
+}
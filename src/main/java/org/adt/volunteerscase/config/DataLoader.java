@@ -14,8 +14,6 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
-import org.adt.volunteerscase.dto.cover.CoverMapper;
-import org.adt.volunteerscase.dto.cover.CoverMetadataDTO;
 import org.adt.volunteerscase.service.storage.ObjectStorageService;
 import org.adt.volunteerscase.service.storage.StoredObjectResult;
 import org.springframework.core.io.ClassPathResource;
@@ -45,7 +43,6 @@ public class DataLoader implements CommandLineRunner {
     private final CoordinatorRepository coordinatorRepository;
     private final UserEventRepository userEventRepository;
     private final ObjectStorageService objectStorageService;
-    private final CoverMapper coverMapper;
 
 
     @Value("${ADMIN_PASSWORD}")
@@ -599,7 +596,7 @@ public class DataLoader implements CommandLineRunner {
                     content
             );
 
-            CoverMetadataDTO metadata = CoverMetadataDTO.builder()
+            CoverFileMetadata metadata = CoverFileMetadata.builder()
                     .originalFileName(originalFileName)
                     .contentType(contentType)
                     .size((long) content.length)
@@ -613,7 +610,7 @@ public class DataLoader implements CommandLineRunner {
             return coverRepository.save(
                     CoverEntity.builder()
                             .link(uploaded.getLink())
-                            .metadata(coverMapper.encodeMetadata(metadata))
+                            .metadata(metadata)
                             .createdAt(Instant.now().toEpochMilli())
                             .deletedAt(null)
                             .build()
@@ -637,7 +634,7 @@ public class DataLoader implements CommandLineRunner {
         }
 
         try {
-            CoverMetadataDTO metadata = coverMapper.decodeMetadata(cover.getMetadata());
+            CoverFileMetadata metadata = cover.getMetadata();
             if (metadata != null && metadata.getObjectKey() != null) {
                 objectStorageService.deleteObject(metadata.getObjectKey());
             }
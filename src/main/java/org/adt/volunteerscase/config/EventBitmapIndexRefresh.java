@@ -0,0 +1,30 @@
+package org.adt.volunteerscase.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.adt.volunteerscase.service.event.EventBitmapIndex;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class EventBitmapIndexRefresh {
+
+    private final EventBitmapIndex eventBitmapIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        log.info("indexed {} events for filtered browsing", eventBitmapIndex.rebuild());
+    }
+
+    @Scheduled(
+            fixedDelayString = "${event.browse.index.refresh.fixed-delay-ms:600000}",
+            initialDelayString = "${event.browse.index.refresh.initial-delay-ms:600000}"
+    )
+    public void rebuildBySchedule() {
+        eventBitmapIndex.rebuild();
+    }
+}
@@ -0,0 +1,25 @@
+package org.adt.volunteerscase.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class EventCardInitializer {
+
+    private final EventCardWriter eventCardWriter;
+
+    // runs before the other startup listeners, which read event_popularity rebuilt together with the cards
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildEventCardsOnStartup() {
+        log.info("rebuilt {} event cards", eventCardWriter.rebuildAll());
+    }
+}
@@ -0,0 +1,30 @@
+package org.adt.volunteerscase.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.adt.volunteerscase.service.event.RecommendationIndex;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class RecommendationIndexRefresh {
+
+    private final RecommendationIndex recommendationIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        log.info("indexed {} upcoming events for recommendations", recommendationIndex.rebuild());
+    }
+
+    @Scheduled(
+            fixedDelayString = "${event.recommendations.index.refresh.fixed-delay-ms:600000}",
+            initialDelayString = "${event.recommendations.index.refresh.initial-delay-ms:600000}"
+    )
+    public void rebuildBySchedule() {
+        recommendationIndex.rebuild();
+    }
+}
@@ -55,6 +55,7 @@ public class SecurityConfig {
                                 .requestMatchers("/api/v1/location/create", "/api/v1/location/update/**").hasAnyAuthority("ROLE_ADMIN", "ROLE_COORDINATOR")
 
                                 .requestMatchers(HttpMethod.PATCH, "/api/v1/user-event/update/status/**").hasAuthority("ROLE_COORDINATOR")
+                                .requestMatchers(HttpMethod.POST, "/api/v1/user-event/create/*/group").hasAuthority("ROLE_COORDINATOR")
 
                                 .requestMatchers(HttpMethod.GET, "/api/v1/tag/id/**", "/api/v1/tag/name/**").authenticated()
                                 .requestMatchers(HttpMethod.DELETE, "/api/v1/tag/id/**", "/api/v1/tag/name/**").hasAuthority("ROLE_COORDINATOR")
@@ -75,10 +76,12 @@ public class SecurityConfig {
 
 
                                 .requestMatchers(HttpMethod.POST, "/api/v2/event/create").hasAuthority("ROLE_COORDINATOR")
+                                .requestMatchers(HttpMethod.POST, "/api/v2/event/bulk").hasAuthority("ROLE_COORDINATOR")
+                                .requestMatchers(HttpMethod.GET, "/api/v2/event/cache/stats").hasAuthority("ROLE_ADMIN")
                                 .requestMatchers(HttpMethod.GET, "/api/v2/event/**").authenticated()
 
                                 .requestMatchers(HttpMethod.GET, "/api/v2/user/me").authenticated()
-                                .requestMatchers(HttpMethod.GET, "/api/v2/user/registered-events").authenticated()
+                                .requestMatchers(HttpMethod.GET, "/api/v2/user/registered-events", "/api/v2/user/registered-events/cursor").authenticated()
                                 .requestMatchers(HttpMethod.GET, "/api/v2/user/rating").authenticated()
                                 .requestMatchers(HttpMethod.GET, "/api/v2/user/coordinator/rating").hasAuthority("ROLE_COORDINATOR")
 
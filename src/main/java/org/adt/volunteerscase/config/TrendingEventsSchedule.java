@@ -0,0 +1,38 @@
+package org.adt.volunteerscase.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.adt.volunteerscase.service.event.TrendingEvents;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class TrendingEventsSchedule {
+
+    private final TrendingEvents trendingEvents;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void restoreOnStartup() {
+        log.info("restored {} trending event scores", trendingEvents.restore());
+    }
+
+    @Scheduled(
+            fixedDelayString = "${event.trending.decay.fixed-delay-ms:60000}",
+            initialDelayString = "${event.trending.decay.initial-delay-ms:60000}"
+    )
+    public void decayBySchedule() {
+        trendingEvents.decay();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${event.trending.checkpoint.fixed-delay-ms:300000}",
+            initialDelayString = "${event.trending.checkpoint.initial-delay-ms:300000}"
+    )
+    public void checkpointBySchedule() {
+        log.debug("checkpointed {} trending event scores", trendingEvents.checkpoint());
+    }
+}
@@ -16,16 +16,21 @@ import org.adt.volunteerscase.dto.event.request.EventPatchRequest;
 import org.adt.volunteerscase.dto.event.request.EventStatusPatchRequest;
 import org.adt.volunteerscase.dto.event.response.GetAllResponse;
 import org.adt.volunteerscase.dto.event.response.PatchResponse;
+import org.adt.volunteerscase.dto.page.response.CursorPageResponse;
 import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.entity.user.UserDetailsImpl;
 import org.adt.volunteerscase.entity.user.UserEntity;
 import org.adt.volunteerscase.service.EventService;
+import org.adt.volunteerscase.service.event.EventETag;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.adt.volunteerscase.dto.event.request.EventSearchRequest;
 
 @RestController
@@ -64,7 +69,8 @@ public class EventController {
                     @ApiResponse(responseCode = "200", description = "данные успешно обновлены", content = @Content(schema = @Schema(implementation = PatchResponse.class))),
                     @ApiResponse(responseCode = "404", description = "по данному id не найдено мероприятие или обложка, или теги, подробнее смотрите в полученной ошибке", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "400", description = "невалидные данные", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
-                    @ApiResponse(responseCode = "409", description = "введённые локация или обложка уже заняты", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+                    @ApiResponse(responseCode = "409", description = "введённые локация или обложка уже заняты", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "412", description = "версия из If-Match устарела, мероприятие было изменено", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
 
             }
     )
@@ -76,9 +82,14 @@ public class EventController {
             @io.swagger.v3.oas.annotations.parameters.RequestBody(
                     description = "данные для обновления полей мероприятия, если какое-то поле пустое, оно не будет изменено"
             )
-            @RequestBody EventPatchRequest request
+            @RequestBody EventPatchRequest request,
+            @Parameter(description = "ETag, полученный при чтении мероприятия; при несовпадении версии вернётся 412")
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch
     ) {
-        return ResponseEntity.ok(eventService.patchEvent(eventId, request));
+        PatchResponse response = eventService.patchEvent(eventId, request, EventETag.parseIfMatch(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(EventETag.of(response.getVersion()))
+                .body(response);
     }
 
     @Operation(
@@ -122,6 +133,7 @@ public class EventController {
             description = "Возвращает подробную информацию о мероприятии по его идентификатору",
             responses = {
                     @ApiResponse(responseCode = "200", description = "мероприятие успешно получено", content = @Content(schema = @Schema(implementation = GetAllResponse.class))),
+                    @ApiResponse(responseCode = "304", description = "мероприятие не изменилось с версии из If-None-Match"),
                     @ApiResponse(responseCode = "401", description = "пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "404", description = "мероприятие с указанным id не найдено", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
@@ -130,9 +142,17 @@ public class EventController {
     @GetMapping("/{eventId}")
     public ResponseEntity<GetAllResponse> getEventById(
             @Parameter(description = "ID мероприятия", example = "1")
-            @PathVariable Integer eventId
+            @PathVariable Integer eventId,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(eventService.getEventById(eventId));
+        if (webRequest.checkNotModified(EventETag.of(eventService.getEventVersion(eventId)))) {
+            return null;
+        }
+
+        GetAllResponse response = eventService.getEventById(eventId);
+        return ResponseEntity.ok()
+                .eTag(EventETag.of(response.getVersion()))
+                .body(response);
     }
 
 
@@ -157,7 +177,15 @@ public class EventController {
             @Min(value = 1, message = "Page size must be at least 1")
             @Max(value = 100, message = "Page size must not exceed 100")
             @RequestParam(defaultValue = "10")
-            int size
+            int size,
+
+            @Parameter(description = "false - не считать общее количество, вернуть только hasNext", example = "true")
+            @RequestParam(defaultValue = "true")
+            boolean withTotal,
+
+            @Parameter(description = "при withTotal=false добавить приблизительное общее количество из кэша", example = "false")
+            @RequestParam(defaultValue = "false")
+            boolean approximateTotal
     ) {
         Pageable pageable = PageRequest.of(
                 page,
@@ -165,7 +193,32 @@ public class EventController {
                 Sort.by(Sort.Direction.DESC, "dateTimestamp")
         );
 
-        return ResponseEntity.ok().body(eventService.getAllEvents(pageable));
+        return ResponseEntity.ok().body(eventService.getAllEvents(pageable, TotalMode.of(withTotal, approximateTotal)));
+    }
+
+    @Operation(
+            summary = "получение всех событий по курсору",
+            description = "Keyset-пагинация по (dateTimestamp, eventId) от новых к старым без подсчёта общего количества. Возвращает непрозрачные курсоры nextCursor и prevCursor.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "данные получены"),
+                    @ApiResponse(responseCode = "400", description = "невалидный курсор или размер страницы", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/all/cursor")
+    public ResponseEntity<CursorPageResponse<GetAllResponse>> getAllEventsByCursor(
+            @Parameter(description = "Курсор из nextCursor или prevCursor предыдущего ответа, пусто для первой страницы")
+            @RequestParam(required = false)
+            String cursor,
+
+            @Parameter(description = "Количество элементов на странице", example = "10")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 100, message = "Page size must not exceed 100")
+            @RequestParam(defaultValue = "10")
+            int size
+    ) {
+        return ResponseEntity.ok(eventService.getAllEventsByCursor(cursor, size));
     }
 
     @Operation(
@@ -186,15 +239,28 @@ public class EventController {
             @RequestParam(defaultValue = "10")
             int size,
 
+            @Parameter(description = "false - не считать общее количество, вернуть только hasNext", example = "true")
+            @RequestParam(defaultValue = "true")
+            boolean withTotal,
+
+            @Parameter(description = "при withTotal=false добавить приблизительное общее количество из кэша", example = "false")
+            @RequestParam(defaultValue = "false")
+            boolean approximateTotal,
+
             @AuthenticationPrincipal UserDetailsImpl currentUser
     ) {
         Pageable pageable = PageRequest.of(page, size);
-        return ResponseEntity.ok().body(eventService.getRecommendations(currentUser.getUser().getUserId(), pageable));
+        return ResponseEntity.ok().body(eventService.getRecommendations(
+                currentUser.getUser().getUserId(),
+                pageable,
+                TotalMode.of(withTotal, approximateTotal)
+        ));
     }
 
     @Operation(
             summary = "поиск мероприятий",
-            description = "поиск мероприятий по наименованию с пагинацией",
+            description = "полнотекстовый поиск мероприятий по наименованию и описанию с ранжированием по релевантности " +
+                    "и подсветкой совпадений; mode=SUBSTRING - поиск подстроки в наименовании с сортировкой по имени",
             responses = {
                     @ApiResponse(responseCode = "200", description = "данные получены"),
                     @ApiResponse(responseCode = "400", description = "невалидные данные", content =
@@ -216,7 +282,15 @@ public class EventController {
             @Min(value = 1, message = "Page size must be at least 1")
             @Max(value = 60, message = "Page size must not exceed 60")
             @RequestParam(defaultValue = "10")
-            int size
+            int size,
+
+            @Parameter(description = "false - не считать общее количество, вернуть только hasNext", example = "true")
+            @RequestParam(defaultValue = "true")
+            boolean withTotal,
+
+            @Parameter(description = "при withTotal=false добавить приблизительное общее количество из кэша", example = "false")
+            @RequestParam(defaultValue = "false")
+            boolean approximateTotal
     ) {
         Pageable pageable = PageRequest.of(
                 page,
@@ -224,7 +298,7 @@ public class EventController {
                 Sort.by(Sort.Direction.ASC, "name")
         );
 
-        return ResponseEntity.ok().body(eventService.searchEvents(request, pageable));
+        return ResponseEntity.ok().body(eventService.searchEvents(request, pageable, TotalMode.of(withTotal, approximateTotal)));
     }
 
 }
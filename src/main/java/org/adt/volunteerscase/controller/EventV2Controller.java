@@ -8,20 +8,38 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.adt.volunteerscase.dto.ErrorResponse;
+import org.adt.volunteerscase.dto.event.request.EventBulkCreateRequest;
 import org.adt.volunteerscase.dto.event.request.EventCreateV2Request;
+import org.adt.volunteerscase.dto.event.request.EventFilterRequest;
+import org.adt.volunteerscase.dto.event.request.EventTagMatch;
+import org.adt.volunteerscase.dto.event.response.EventBulkCreateResponse;
+import org.adt.volunteerscase.dto.event.response.EventDetailCacheStatsResponse;
+import org.adt.volunteerscase.dto.event.response.EventMapClusterResponse;
 import org.adt.volunteerscase.dto.event.response.EventV2Response;
+import org.adt.volunteerscase.dto.page.response.CursorPageResponse;
 import org.adt.volunteerscase.dto.page.response.PageResponse;
+import org.adt.volunteerscase.entity.event.EventStatus;
 import org.adt.volunteerscase.service.EventService;
+import org.adt.volunteerscase.service.event.EventETag;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 
 @RestController
 @RequestMapping("/api/v2/event")
@@ -53,11 +71,33 @@ public class EventV2Controller {
         return ResponseEntity.noContent().build();
     }
 
+    @Operation(
+            summary = "массовое создание мероприятий v2",
+            description = "Создаёт до 500 мероприятий за один запрос. Локации, обложки, координаторы и теги проверяются для всей пачки сразу, "
+                    + "конфликты по локации и дате ищутся и в базе, и внутри пачки. Невалидные элементы пропускаются, "
+                    + "для каждого элемента возвращается результат в порядке запроса.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "пачка обработана", content = @Content(schema = @Schema(implementation = EventBulkCreateResponse.class))),
+                    @ApiResponse(responseCode = "400", description = "невалидные данные", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "пользователь не координатор", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "409", description = "локация или обложка заняты параллельным запросом, пачка отменена", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @SecurityRequirement(name = "jwtAuth")
+    @PostMapping("/bulk")
+    public ResponseEntity<EventBulkCreateResponse> createEvents(
+            @Valid @RequestBody EventBulkCreateRequest request
+    ) {
+        return ResponseEntity.ok(eventService.createEventsV2Bulk(request));
+    }
+
     @Operation(
             summary = "получение мероприятия v2 по id",
             description = "Возвращает мероприятие вместе с weightMinutes.",
             responses = {
                     @ApiResponse(responseCode = "200", description = "мероприятие успешно получено", content = @Content(schema = @Schema(implementation = EventV2Response.class))),
+                    @ApiResponse(responseCode = "304", description = "мероприятие не изменилось с версии из If-None-Match"),
                     @ApiResponse(responseCode = "401", description = "пользователь не авторизован",content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
                     @ApiResponse(responseCode = "404", description = "мероприятие не найдено", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
@@ -66,9 +106,32 @@ public class EventV2Controller {
     @GetMapping("/{eventId}")
     public ResponseEntity<EventV2Response> getEventById(
             @Parameter(description = "ID мероприятия", example = "1")
-            @PathVariable Integer eventId
+            @PathVariable Integer eventId,
+            WebRequest webRequest
     ) {
-        return ResponseEntity.ok(eventService.getEventV2ById(eventId));
+        if (webRequest.checkNotModified(EventETag.of(eventService.getEventVersion(eventId)))) {
+            return null;
+        }
+
+        EventV2Response response = eventService.getEventV2ById(eventId);
+        return ResponseEntity.ok()
+                .eTag(EventETag.of(response.getVersion()))
+                .body(response);
+    }
+
+    @Operation(
+            summary = "статистика кэша карточек мероприятий",
+            description = "Размер, попадания, промахи, вытеснения и инвалидации кэша ответов getEventById и getEventV2ById.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "статистика получена"),
+                    @ApiResponse(responseCode = "401", description = "пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "пользователь не администратор", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/cache/stats")
+    public ResponseEntity<EventDetailCacheStatsResponse> getEventDetailCacheStats() {
+        return ResponseEntity.ok(eventService.getEventDetailCacheStats());
     }
 
     @Operation(
@@ -92,7 +155,15 @@ public class EventV2Controller {
             @Min(value = 1, message = "Page size must be at least 1")
             @Max(value = 100, message = "Page size must not exceed 100")
             @RequestParam(defaultValue = "10")
-            int size
+            int size,
+
+            @Parameter(description = "false - не считать общее количество, вернуть только hasNext", example = "true")
+            @RequestParam(defaultValue = "true")
+            boolean withTotal,
+
+            @Parameter(description = "при withTotal=false добавить приблизительное общее количество из кэша", example = "false")
+            @RequestParam(defaultValue = "false")
+            boolean approximateTotal
     ) {
         Pageable pageable = PageRequest.of(
                 page,
@@ -100,6 +171,251 @@ public class EventV2Controller {
                 Sort.by(Sort.Direction.DESC, "dateTimestamp")
         );
 
-        return ResponseEntity.ok(eventService.getAllEventsV2(pageable));
+        return ResponseEntity.ok(eventService.getAllEventsV2(pageable, TotalMode.of(withTotal, approximateTotal)));
+    }
+
+    @Operation(
+            summary = "получение всех мероприятий v2 по курсору",
+            description = "Keyset-пагинация по (dateTimestamp, eventId) от новых к старым без подсчёта общего количества. Возвращает непрозрачные курсоры nextCursor и prevCursor.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "данные получены"),
+                    @ApiResponse(responseCode = "400", description = "невалидный курсор или размер страницы", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/all/cursor")
+    public ResponseEntity<CursorPageResponse<EventV2Response>> getAllEventsByCursor(
+            @Parameter(description = "Курсор из nextCursor или prevCursor предыдущего ответа, пусто для первой страницы")
+            @RequestParam(required = false)
+            String cursor,
+
+            @Parameter(description = "Количество элементов на странице", example = "10")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 100, message = "Page size must not exceed 100")
+            @RequestParam(defaultValue = "10")
+            int size
+    ) {
+        return ResponseEntity.ok(eventService.getAllEventsV2ByCursor(cursor, size));
+    }
+
+    @Operation(
+            summary = "ближайшие мероприятия",
+            description = "Предстоящие мероприятия в радиусе radiusKm от точки, отсортированные по расстоянию. " +
+                    "Использует GiST-индекс по координатам локации и точную проверку расстояния по формуле гаверсинуса.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "мероприятия успешно получены"),
+                    @ApiResponse(responseCode = "400", description = "невалидные координаты, радиус или параметры пагинации", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/nearby")
+    public ResponseEntity<PageResponse<EventV2Response>> getEventsNearby(
+            @Parameter(description = "Широта точки поиска", example = "55.7558")
+            @DecimalMin(value = "-90.0", message = "Latitude must be >= -90")
+            @DecimalMax(value = "90.0", message = "Latitude must be <= 90")
+            @RequestParam
+            double latitude,
+
+            @Parameter(description = "Долгота точки поиска", example = "37.6173")
+            @DecimalMin(value = "-180.0", message = "Longitude must be >= -180")
+            @DecimalMax(value = "180.0", message = "Longitude must be <= 180")
+            @RequestParam
+            double longitude,
+
+            @Parameter(description = "Радиус поиска в километрах", example = "5")
+            @DecimalMin(value = "0.1", message = "Radius must be at least 0.1 km")
+            @DecimalMax(value = "100.0", message = "Radius must not exceed 100 km")
+            @RequestParam(defaultValue = "5")
+            double radiusKm,
+
+            @Parameter(description = "Номер страницы, начиная с 0", example = "0")
+            @Min(value = 0, message = "Page number must be greater than or equal to 0")
+            @RequestParam(defaultValue = "0")
+            int page,
+
+            @Parameter(description = "Количество элементов на странице", example = "10")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 100, message = "Page size must not exceed 100")
+            @RequestParam(defaultValue = "10")
+            int size
+    ) {
+        return ResponseEntity.ok(eventService.getUpcomingEventsNearby(latitude, longitude, radiusKm, PageRequest.of(page, size)));
+    }
+
+    @Operation(
+            summary = "популярные мероприятия",
+            description = "Предстоящие мероприятия, отсортированные по числу заявок (на рассмотрении, принятых и отклонённых). " +
+                    "Читает готовые счётчики из event_popularity без подсчёта заявок, возвращает только hasNext без общего количества.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "мероприятия успешно получены"),
+                    @ApiResponse(responseCode = "400", description = "невалидные параметры пагинации", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/popular")
+    public ResponseEntity<PageResponse<EventV2Response>> getPopularEvents(
+            @Parameter(description = "Номер страницы, начиная с 0", example = "0")
+            @Min(value = 0, message = "Page number must be greater than or equal to 0")
+            @RequestParam(defaultValue = "0")
+            int page,
+
+            @Parameter(description = "Количество элементов на странице", example = "10")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 100, message = "Page size must not exceed 100")
+            @RequestParam(defaultValue = "10")
+            int size
+    ) {
+        return ResponseEntity.ok(eventService.getPopularUpcomingEventsV2(PageRequest.of(page, size)));
+    }
+
+    @Operation(
+            summary = "набирающие популярность мероприятия",
+            description = "Предстоящие мероприятия, отсортированные по числу новых заявок с экспоненциальным затуханием " +
+                    "(период полураспада по умолчанию 6 часов). Рейтинг хранится в памяти, заявки при запросе не подсчитываются.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "мероприятия успешно получены"),
+                    @ApiResponse(responseCode = "400", description = "невалидное количество мероприятий", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/trending")
+    public ResponseEntity<List<EventV2Response>> getTrendingEvents(
+            @Parameter(description = "Количество мероприятий", example = "10")
+            @Min(value = 1, message = "Limit must be at least 1")
+            @Max(value = 100, message = "Limit must not exceed 100")
+            @RequestParam(defaultValue = "10")
+            int limit
+    ) {
+        return ResponseEntity.ok(eventService.getTrendingEventsV2(limit));
+    }
+
+    @Operation(
+            summary = "фильтр мероприятий",
+            description = "Мероприятия в периоде проведения from..to (включительно) с одним из фильтров status, coordinatorId, " +
+                    "locationId или tagId, отсортированные по дате (sort=DATE_DESC или DATE_ASC). Каждая допустимая комбинация " +
+                    "обслуживается своим составным индексом; несколько фильтров-равенств одновременно не поддерживаются и возвращают 400.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "мероприятия успешно получены"),
+                    @ApiResponse(responseCode = "400", description = "неподдерживаемая комбинация фильтров, невалидный период или параметры пагинации", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping
+    public ResponseEntity<PageResponse<EventV2Response>> filterEvents(
+            @Valid @ModelAttribute EventFilterRequest filter,
+
+            @Parameter(description = "Номер страницы, начиная с 0", example = "0")
+            @Min(value = 0, message = "Page number must be greater than or equal to 0")
+            @RequestParam(defaultValue = "0")
+            int page,
+
+            @Parameter(description = "Количество элементов на странице", example = "10")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 100, message = "Page size must not exceed 100")
+            @RequestParam(defaultValue = "10")
+            int size
+    ) {
+        return ResponseEntity.ok(eventService.filterEventsV2(filter, PageRequest.of(page, size)));
+    }
+
+    @Operation(
+            summary = "фильтрация мероприятий по тегам, статусу и дате",
+            description = "Мероприятия с любым (tagMatch=ANY) или всеми (tagMatch=ALL) из тегов tagIds, с одним из статусов " +
+                    "status и датой проведения в днях from..to включительно, от новых к старым. Пустой фильтр не ограничивает выборку. " +
+                    "Фильтр вычисляется по битовым индексам в памяти, из базы загружается только страница.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "мероприятия успешно получены"),
+                    @ApiResponse(responseCode = "400", description = "невалидные параметры фильтра или пагинации", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/browse")
+    public ResponseEntity<PageResponse<EventV2Response>> browseEvents(
+            @Parameter(description = "Идентификаторы тегов", example = "1,2")
+            @RequestParam(required = false)
+            Set<Integer> tagIds,
+
+            @Parameter(description = "ANY - хотя бы один из тегов, ALL - все теги", example = "ANY")
+            @RequestParam(defaultValue = "ANY")
+            EventTagMatch tagMatch,
+
+            @Parameter(description = "Допустимые статусы мероприятия", example = "ONGOING")
+            @RequestParam(name = "status", required = false)
+            Set<EventStatus> statuses,
+
+            @Parameter(description = "Первый день периода проведения", example = "2026-05-01")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @RequestParam(required = false)
+            LocalDate from,
+
+            @Parameter(description = "Последний день периода проведения", example = "2026-05-31")
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            @RequestParam(required = false)
+            LocalDate to,
+
+            @Parameter(description = "Номер страницы, начиная с 0", example = "0")
+            @Min(value = 0, message = "Page number must be greater than or equal to 0")
+            @RequestParam(defaultValue = "0")
+            int page,
+
+            @Parameter(description = "Количество элементов на странице", example = "10")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 100, message = "Page size must not exceed 100")
+            @RequestParam(defaultValue = "10")
+            int size
+    ) {
+        return ResponseEntity.ok(eventService.browseEventsV2(tagIds, tagMatch, statuses, from, to, PageRequest.of(page, size)));
+    }
+
+    @Operation(
+            summary = "кластеры мероприятий для карты",
+            description = "Группирует предстоящие мероприятия в видимой области карты по сетке, размер ячейки зависит от zoom. " +
+                    "Для каждой ячейки возвращает количество мероприятий, их центр и несколько id ближайших по дате мероприятий.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "кластеры успешно получены"),
+                    @ApiResponse(responseCode = "400", description = "невалидная область карты или zoom", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/map/clusters")
+    public ResponseEntity<List<EventMapClusterResponse>> getEventMapClusters(
+            @Parameter(description = "Южная граница области", example = "55.5")
+            @DecimalMin(value = "-90.0", message = "Latitude must be >= -90")
+            @DecimalMax(value = "90.0", message = "Latitude must be <= 90")
+            @RequestParam
+            double minLatitude,
+
+            @Parameter(description = "Северная граница области", example = "56.0")
+            @DecimalMin(value = "-90.0", message = "Latitude must be >= -90")
+            @DecimalMax(value = "90.0", message = "Latitude must be <= 90")
+            @RequestParam
+            double maxLatitude,
+
+            @Parameter(description = "Западная граница области", example = "37.3")
+            @DecimalMin(value = "-180.0", message = "Longitude must be >= -180")
+            @DecimalMax(value = "180.0", message = "Longitude must be <= 180")
+            @RequestParam
+            double minLongitude,
+
+            @Parameter(description = "Восточная граница области", example = "37.9")
+            @DecimalMin(value = "-180.0", message = "Longitude must be >= -180")
+            @DecimalMax(value = "180.0", message = "Longitude must be <= 180")
+            @RequestParam
+            double maxLongitude,
+
+            @Parameter(description = "Масштаб карты", example = "10")
+            @Min(value = 0, message = "Zoom must be at least 0")
+            @Max(value = 20, message = "Zoom must not exceed 20")
+            @RequestParam
+            int zoom
+    ) {
+        return ResponseEntity.ok(eventService.getUpcomingEventMapClusters(minLatitude, maxLatitude, minLongitude, maxLongitude, zoom));
     }
-}
\ No newline at end of file
+}
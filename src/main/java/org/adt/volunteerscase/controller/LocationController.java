@@ -18,6 +18,7 @@ import org.adt.volunteerscase.dto.location.response.LocationPatchResponse;
 import org.adt.volunteerscase.dto.location.response.LocationResponse;
 import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.service.LocationService;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -33,9 +34,12 @@ public class LocationController {
 
     @Operation(
             summary = "эндпоинт для создания локации",
+            description = "если уже есть локации с похожим адресом, возвращается 409 со списком похожих адресов; " +
+                    "allowSimilar=true отключает эту проверку",
             responses = {
                     @ApiResponse(responseCode = "200", description = "успешно создано"),
-                    @ApiResponse(responseCode = "400", description = "невалидные данные", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+                    @ApiResponse(responseCode = "400", description = "невалидные данные", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "409", description = "адрес уже существует или есть похожие адреса", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
             }
     )
     @SecurityRequirement(name = "jwtAuth")
@@ -47,7 +51,7 @@ public class LocationController {
 
     @Operation(
             summary = "поиск локаций",
-            description = "поиск локаций по адресу с пагинацией",
+            description = "поиск локаций по подстроке адреса и по похожести (pg_trgm), сначала самые похожие",
             responses = {
                     @ApiResponse(responseCode = "200", description = "успешно"),
                     @ApiResponse(responseCode = "400", description = "невалидные данные", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
@@ -69,7 +73,15 @@ public class LocationController {
             @Min(value = 1, message = "Page size must be at least 1")
             @Max(value = 100, message = "Page size must not exceed 100")
             @RequestParam(defaultValue = "10")
-            int size
+            int size,
+
+            @Parameter(description = "false - не считать общее количество, вернуть только hasNext", example = "true")
+            @RequestParam(defaultValue = "true")
+            boolean withTotal,
+
+            @Parameter(description = "при withTotal=false добавить приблизительное общее количество из кэша", example = "false")
+            @RequestParam(defaultValue = "false")
+            boolean approximateTotal
     ) {
         Pageable pageable = PageRequest.of(
                 page,
@@ -77,7 +89,7 @@ public class LocationController {
                 Sort.by(Sort.Direction.ASC, "address")
         );
 
-        return ResponseEntity.ok().body(locationService.searchLocations(request, pageable));
+        return ResponseEntity.ok().body(locationService.searchLocations(request, pageable, TotalMode.of(withTotal, approximateTotal)));
     }
 
     @Operation(
@@ -17,6 +17,7 @@ import org.adt.volunteerscase.dto.rating.response.CoordinatorRatingResponse;
 import org.adt.volunteerscase.dto.rating.response.UserRatingResponse;
 import org.adt.volunteerscase.entity.rating.RatingPeriod;
 import org.adt.volunteerscase.service.RatingService;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -57,12 +58,20 @@ public class RatingController {
             @Min(value = 1, message = "Page size must be at least 1")
             @Max(value = 100, message = "Page size must not exceed 100")
             @RequestParam(defaultValue = "10")
-            int size
+            int size,
+
+            @Parameter(description = "false - не считать общее количество, вернуть только hasNext", example = "true")
+            @RequestParam(defaultValue = "true")
+            boolean withTotal,
+
+            @Parameter(description = "при withTotal=false добавить приблизительное общее количество из кэша", example = "false")
+            @RequestParam(defaultValue = "false")
+            boolean approximateTotal
     ) {
         RatingPeriod ratingPeriod = RatingPeriod.fromRequest(period);
         Pageable pageable = PageRequest.of(page, size);
 
-        return ResponseEntity.ok(ratingService.getUserRating(ratingPeriod, pageable));
+        return ResponseEntity.ok(ratingService.getUserRating(ratingPeriod, pageable, TotalMode.of(withTotal, approximateTotal)));
     }
 
     @Operation(
@@ -90,11 +99,19 @@ public class RatingController {
             @Min(value = 1, message = "Page size must be at least 1")
             @Max(value = 100, message = "Page size must not exceed 100")
             @RequestParam(defaultValue = "10")
-            int size
+            int size,
+
+            @Parameter(description = "false - не считать общее количество, вернуть только hasNext", example = "true")
+            @RequestParam(defaultValue = "true")
+            boolean withTotal,
+
+            @Parameter(description = "при withTotal=false добавить приблизительное общее количество из кэша", example = "false")
+            @RequestParam(defaultValue = "false")
+            boolean approximateTotal
     ) {
         RatingPeriod ratingPeriod = RatingPeriod.fromRequest(period);
         Pageable pageable = PageRequest.of(page, size);
 
-        return ResponseEntity.ok(ratingService.getCoordinatorRating(ratingPeriod, pageable));
+        return ResponseEntity.ok(ratingService.getCoordinatorRating(ratingPeriod, pageable, TotalMode.of(withTotal, approximateTotal)));
     }
 }
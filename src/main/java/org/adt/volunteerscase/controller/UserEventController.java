@@ -13,12 +13,17 @@ import lombok.RequiredArgsConstructor;
 import org.adt.volunteerscase.dto.ErrorResponse;
 import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.dto.userEvent.request.CoordinatorApplicationFilterRequest;
+import org.adt.volunteerscase.dto.userEvent.request.UserEventBulkStatusPatchRequest;
+import org.adt.volunteerscase.dto.userEvent.request.UserEventGroupCreateRequest;
 import org.adt.volunteerscase.dto.userEvent.request.UserEventStatusPatchRequest;
 import org.adt.volunteerscase.dto.userEvent.response.CoordinatorApplicationResponse;
 import org.adt.volunteerscase.dto.userEvent.response.CoordinatorEventApplicationsSummaryResponse;
+import org.adt.volunteerscase.dto.userEvent.response.UserEventBulkStatusResponse;
 import org.adt.volunteerscase.dto.userEvent.response.UserEventResponse;
 import org.adt.volunteerscase.entity.user.UserDetailsImpl;
 import org.adt.volunteerscase.service.UserEventService;
+import org.adt.volunteerscase.service.event.ApplicationAdmissionQueue;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -28,6 +33,8 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("api/v1/user-event")
 @RequiredArgsConstructor
@@ -35,6 +42,7 @@ import org.springframework.web.bind.annotation.*;
 public class UserEventController {
 
     private final UserEventService userEventService;
+    private final ApplicationAdmissionQueue applicationAdmissionQueue;
 
     @Operation(
             summary = "Подача заявки на мероприятие",
@@ -55,7 +63,37 @@ public class UserEventController {
             @AuthenticationPrincipal UserDetailsImpl currentUser
     ) {
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(userEventService.createApplication(eventId, currentUser.getUser().getUserId()));
+                .body(applicationAdmissionQueue.createApplication(eventId, currentUser.getUser().getUserId()));
+    }
+
+    @Operation(
+            summary = "Групповая подача заявок на мероприятие",
+            description = "Создаёт заявки сразу для группы пользователей (школа, компания). Доступно только координатору. Места резервируются для всей группы одной операцией: либо создаются все заявки, либо ни одной.",
+            responses = {
+                    @ApiResponse(responseCode = "201", description = "Заявки всей группы успешно созданы"),
+                    @ApiResponse(responseCode = "400", description = "Некорректное тело запроса: пустая группа или группа больше 100 человек", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "Текущий пользователь не является координатором", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "Мероприятие или один из пользователей не найдены", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "409", description = "У одного из пользователей уже есть активная заявка, пользователь указан дважды, мероприятие не принимает заявки или группа не помещается в лимит мест", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @SecurityRequirement(name = "jwtAuth")
+    @PostMapping("/create/{eventId}/group")
+    public ResponseEntity<List<UserEventResponse>> createGroupApplication(
+            @Parameter(description = "ID мероприятия", example = "1")
+            @PathVariable Integer eventId,
+
+            @Valid @RequestBody UserEventGroupCreateRequest request,
+
+            @AuthenticationPrincipal UserDetailsImpl currentUser
+    ) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(userEventService.createGroupApplication(
+                        eventId,
+                        request.getUserIds(),
+                        currentUser.getUser().getUserId()
+                ));
     }
 
     @Operation(
@@ -108,6 +146,14 @@ public class UserEventController {
             @RequestParam(defaultValue = "10")
             int size,
 
+            @Parameter(description = "false - не считать общее количество, вернуть только hasNext", example = "true")
+            @RequestParam(defaultValue = "true")
+            boolean withTotal,
+
+            @Parameter(description = "при withTotal=false добавить приблизительное общее количество из кэша", example = "false")
+            @RequestParam(defaultValue = "false")
+            boolean approximateTotal,
+
             @AuthenticationPrincipal UserDetailsImpl currentUser
     ) {
 
@@ -116,7 +162,8 @@ public class UserEventController {
         return ResponseEntity.ok(
                 userEventService.getMyEventApplicationSummaries(
                         currentUser.getUser().getUserId(),
-                        pageable
+                        pageable,
+                        TotalMode.of(withTotal, approximateTotal)
                 )
         );
     }
@@ -151,6 +198,14 @@ public class UserEventController {
             @RequestParam(defaultValue = "20")
             int size,
 
+            @Parameter(description = "false - не считать общее количество, вернуть только hasNext", example = "true")
+            @RequestParam(defaultValue = "true")
+            boolean withTotal,
+
+            @Parameter(description = "при withTotal=false добавить приблизительное общее количество из кэша", example = "false")
+            @RequestParam(defaultValue = "false")
+            boolean approximateTotal,
+
             @AuthenticationPrincipal UserDetailsImpl currentUser
     ) {
         Pageable pageable = PageRequest.of(page, size);
@@ -160,7 +215,8 @@ public class UserEventController {
                         eventId,
                         filter,
                         currentUser.getUser().getUserId(),
-                        pageable
+                        pageable,
+                        TotalMode.of(withTotal, approximateTotal)
                 )
         );
     }
@@ -199,4 +255,35 @@ public class UserEventController {
                 )
         );
     }
-}
\ No newline at end of file
+
+    @Operation(
+            summary = "Массовое изменение статуса заявок координатором",
+            description = "Принимает или отклоняет сразу несколько заявок на одно мероприятие. Мероприятие блокируется один раз, лимит мест проверяется один раз для всего набора: если все принимаемые заявки не помещаются, не принимается ни одна. Для каждого пользователя возвращается свой результат.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "Заявки обработаны, результат по каждому пользователю в items"),
+                    @ApiResponse(responseCode = "400", description = "Некорректное тело запроса: пустой список пользователей, статус не ACCEPTED/REJECTED или причина отказа невалидна", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "Пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "403", description = "Пользователь не имеет роли координатора или не является координатором указанного мероприятия", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "Мероприятие не найдено", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "409", description = "Мероприятие не принимает заявки или принимаемые заявки не помещаются в лимит мест", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @SecurityRequirement(name = "jwtAuth")
+    @PatchMapping("/coordinator/events/{eventId}/applications/status")
+    public ResponseEntity<UserEventBulkStatusResponse> updateCoordinatorApplicationStatuses(
+            @Parameter(description = "ID мероприятия", example = "1")
+            @PathVariable Integer eventId,
+
+            @Valid @RequestBody UserEventBulkStatusPatchRequest request,
+
+            @AuthenticationPrincipal UserDetailsImpl currentUser
+    ) {
+        return ResponseEntity.ok(
+                userEventService.updateApplicationStatuses(
+                        eventId,
+                        request,
+                        currentUser.getUser().getUserId()
+                )
+        );
+    }
+}
@@ -11,6 +11,7 @@ import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import org.adt.volunteerscase.dto.ErrorResponse;
+import org.adt.volunteerscase.dto.page.response.CursorPageResponse;
 import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.dto.user.response.GetUserV2Response;
 import org.adt.volunteerscase.dto.user.response.RegisteredEventResponse;
@@ -79,4 +80,32 @@ public class UserV2Controller {
 
         return ResponseEntity.ok(userService.getRegisteredEvents(currentUser.getUser(), pageable));
     }
+
+    @Operation(
+            summary = "получение мероприятий текущего пользователя по курсору",
+            description = "Keyset-пагинация по (dateTimestamp, eventId) от новых к старым без подсчёта общего количества. Возвращает непрозрачные курсоры nextCursor и prevCursor.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "данные получены"),
+                    @ApiResponse(responseCode = "400", description = "невалидный курсор или размер страницы", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "401", description = "пользователь не авторизован", content = @Content(schema = @Schema(implementation = ErrorResponse.class))),
+                    @ApiResponse(responseCode = "404", description = "пользователь не найден", content = @Content(schema = @Schema(implementation = ErrorResponse.class)))
+            }
+    )
+    @SecurityRequirement(name = "jwtAuth")
+    @GetMapping("/registered-events/cursor")
+    public ResponseEntity<CursorPageResponse<RegisteredEventResponse>> getRegisteredEventsByCursor(
+            @Parameter(description = "Курсор из nextCursor или prevCursor предыдущего ответа, пусто для первой страницы")
+            @RequestParam(required = false)
+            String cursor,
+
+            @Parameter(description = "Количество элементов на странице", example = "10")
+            @Min(value = 1, message = "Page size must be at least 1")
+            @Max(value = 100, message = "Page size must not exceed 100")
+            @RequestParam(defaultValue = "10")
+            int size,
+
+            @AuthenticationPrincipal UserDetailsImpl currentUser
+    ) {
+        return ResponseEntity.ok(userService.getRegisteredEventsByCursor(currentUser.getUser(), cursor, size));
+    }
 }
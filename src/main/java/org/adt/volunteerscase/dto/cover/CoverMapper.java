@@ -1,10 +1,10 @@
 package org.adt.volunteerscase.dto.cover;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.adt.volunteerscase.dto.cover.response.CoverResponse;
 import org.adt.volunteerscase.entity.CoverEntity;
+import org.adt.volunteerscase.entity.CoverFileMetadata;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
@@ -17,23 +17,28 @@ public class CoverMapper {
 
     private final ObjectMapper objectMapper;
 
-    public String encodeMetadata(CoverMetadataDTO metadata) {
-        try {
-            return
-                    Base64.getEncoder().encodeToString(objectMapper.writeValueAsBytes(metadata));
-        } catch (JsonProcessingException ex) {
-            throw new IllegalStateException("cannot encode cover metadata", ex);
-        }
-    }
-
-    public CoverMetadataDTO decodeMetadata(String encodedMetadata) {
+    /**
+     * Decodes the Base64 JSON format that covers were stored in before metadata got its own columns.
+     * Only the one-off migration of old rows needs it; responses are mapped from the columns.
+     */
+    public CoverFileMetadata decodeLegacyMetadata(String encodedMetadata) {
         if (!StringUtils.hasText(encodedMetadata)) {
             return null;
         }
 
         try {
             byte[] decoded = Base64.getDecoder().decode(encodedMetadata);
-            return objectMapper.readValue(decoded, CoverMetadataDTO.class);
+            CoverMetadataDTO metadata = objectMapper.readValue(decoded, CoverMetadataDTO.class);
+            return CoverFileMetadata.builder()
+                    .originalFileName(metadata.getOriginalFileName())
+                    .contentType(metadata.getContentType())
+                    .size(metadata.getSize())
+                    .width(metadata.getWidth())
+                    .height(metadata.getHeight())
+                    .bucket(metadata.getBucket())
+                    .objectKey(metadata.getObjectKey())
+                    .eTag(metadata.getETag())
+                    .build();
         } catch (IOException | IllegalArgumentException ex) {
             throw new IllegalStateException("cannot decode cover metadata", ex);
         }
@@ -49,7 +54,7 @@ public class CoverMapper {
                 .link(cover.getLink())
                 .createdAt(cover.getCreatedAt())
                 .deletedAt(cover.getDeletedAt())
-                .fileMetadata(decodeMetadata(cover.getMetadata()))
+                .fileMetadata(toMetadataDto(cover.getMetadata()))
                 .build();
     }
 
@@ -63,7 +68,24 @@ public class CoverMapper {
                 .link(cover.getLink())
                 .createdAt(cover.getCreatedAt())
                 .deletedAt(cover.getDeletedAt())
-                .fileMetadata(decodeMetadata(cover.getMetadata()))
+                .fileMetadata(toMetadataDto(cover.getMetadata()))
+                .build();
+    }
+
+    private CoverMetadataDTO toMetadataDto(CoverFileMetadata metadata) {
+        if (metadata == null) {
+            return null;
+        }
+
+        return CoverMetadataDTO.builder()
+                .originalFileName(metadata.getOriginalFileName())
+                .contentType(metadata.getContentType())
+                .size(metadata.getSize())
+                .width(metadata.getWidth())
+                .height(metadata.getHeight())
+                .bucket(metadata.getBucket())
+                .objectKey(metadata.getObjectKey())
+                .eTag(metadata.getETag())
                 .build();
     }
 }
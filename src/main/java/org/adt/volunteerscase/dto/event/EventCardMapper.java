@@ -0,0 +1,116 @@
+package org.adt.volunteerscase.dto.event;
+
+import lombok.RequiredArgsConstructor;
+import org.adt.volunteerscase.dto.coordinator.CoordinatorEntityDTO;
+import org.adt.volunteerscase.dto.cover.CoverMapper;
+import org.adt.volunteerscase.dto.event.response.EventV2Response;
+import org.adt.volunteerscase.dto.event.response.GetAllResponse;
+import org.adt.volunteerscase.dto.location.LocationEntityDTO;
+import org.adt.volunteerscase.dto.tag.TagEntityDTO;
+import org.adt.volunteerscase.entity.event.EventCardEntity;
+import org.adt.volunteerscase.entity.event.EventEntity;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class EventCardMapper {
+
+    private final CoverMapper coverMapper;
+
+    /**
+     * Builds the card of an event whose cover, coordinator, location and tags are initialized.
+     */
+    public EventCardEntity toCard(EventEntity event, long acceptedCount, long pendingCount) {
+        return EventCardEntity.builder()
+                .eventId(event.getEventId())
+                .status(event.getStatus())
+                .name(event.getName())
+                .description(event.getDescription())
+                .cover(coverMapper.toDto(event.getCover()))
+                .coordinatorId(event.getCoordinator().getUserId())
+                .coordinatorWorkLocation(event.getCoordinator().getWorkLocation())
+                .maxCapacity(event.getMaxCapacity())
+                .weightMinutes(event.getWeightMinutes())
+                .dateTimestamp(event.getDateTimestamp())
+                .locationId(event.getLocation() != null ? event.getLocation().getLocationId() : null)
+                .locationAddress(event.getLocation() != null ? event.getLocation().getAddress() : null)
+                .latitude(event.getLocation() != null ? event.getLocation().getLatitude() : null)
+                .longitude(event.getLocation() != null ? event.getLocation().getLongitude() : null)
+                .tags(event.getTags() == null ? new HashSet<>() : event.getTags().stream()
+                        .map(tag -> TagEntityDTO.builder()
+                                .tagId(tag.getTagId())
+                                .tagName(tag.getTagName())
+                                .build())
+                        .collect(Collectors.toSet()))
+                .acceptedCount(acceptedCount)
+                .pendingCount(pendingCount)
+                .version(event.getVersion())
+                .build();
+    }
+
+    public GetAllResponse toResponse(EventCardEntity card) {
+        return GetAllResponse.builder()
+                .eventId(card.getEventId())
+                .status(card.getStatus())
+                .name(card.getName())
+                .description(card.getDescription())
+                .cover(card.getCover())
+                .coordinator(toCoordinatorDto(card))
+                .maxCapacity(card.getMaxCapacity())
+                .dateTimestamp(card.getDateTimestamp())
+                .location(toLocationDto(card))
+                .tags(toTags(card))
+                .version(card.getVersion())
+                .acceptedCount(card.getAcceptedCount())
+                .pendingCount(card.getPendingCount())
+                .build();
+    }
+
+    public EventV2Response toV2Response(EventCardEntity card) {
+        return EventV2Response.builder()
+                .eventId(card.getEventId())
+                .status(card.getStatus())
+                .name(card.getName())
+                .description(card.getDescription())
+                .cover(card.getCover())
+                .coordinator(toCoordinatorDto(card))
+                .maxCapacity(card.getMaxCapacity())
+                .weightMinutes(card.getWeightMinutes())
+                .dateTimestamp(card.getDateTimestamp())
+                .location(toLocationDto(card))
+                .tags(toTags(card))
+                .version(card.getVersion())
+                .acceptedCount(card.getAcceptedCount())
+                .pendingCount(card.getPendingCount())
+                .build();
+    }
+
+    private CoordinatorEntityDTO toCoordinatorDto(EventCardEntity card) {
+        return CoordinatorEntityDTO.builder()
+                .userId(card.getCoordinatorId())
+                .workLocation(card.getCoordinatorWorkLocation())
+                .build();
+    }
+
+    private LocationEntityDTO toLocationDto(EventCardEntity card) {
+        if (card.getLocationId() == null) {
+            return null;
+        }
+
+        return LocationEntityDTO.builder()
+                .locationId(card.getLocationId())
+                .address(card.getLocationAddress())
+                .latitude(card.getLatitude())
+                .longitude(card.getLongitude())
+                .build();
+    }
+
+    private Set<TagEntityDTO> toTags(EventCardEntity card) {
+        return card.getTags() == null ? Collections.emptySet() : card.getTags();
+    }
+}
@@ -0,0 +1,8 @@
+package org.adt.volunteerscase.dto.event;
+
+public interface EventDistanceHit {
+
+    Integer getEventId();
+
+    Double getDistanceKm();
+}
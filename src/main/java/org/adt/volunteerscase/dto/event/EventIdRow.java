@@ -0,0 +1,6 @@
+package org.adt.volunteerscase.dto.event;
+
+public interface EventIdRow {
+
+    Integer getEventId();
+}
@@ -0,0 +1,14 @@
+package org.adt.volunteerscase.dto.event;
+
+import org.adt.volunteerscase.entity.event.EventStatus;
+
+import java.time.LocalDateTime;
+
+public interface EventIndexRow {
+
+    Integer getEventId();
+
+    EventStatus getStatus();
+
+    LocalDateTime getDateTimestamp();
+}
@@ -0,0 +1,12 @@
+package org.adt.volunteerscase.dto.event;
+
+public interface EventMapClusterRow {
+
+    Long getEventCount();
+
+    Double getLatitude();
+
+    Double getLongitude();
+
+    String getSampleEventIds();
+}
@@ -0,0 +1,10 @@
+package org.adt.volunteerscase.dto.event;
+
+public interface EventSearchHit {
+
+    Integer getEventId();
+
+    Double getRank();
+
+    String getHeadline();
+}
@@ -0,0 +1,10 @@
+package org.adt.volunteerscase.dto.event;
+
+import java.time.LocalDateTime;
+
+public interface EventSlotRow {
+
+    Integer getLocationId();
+
+    LocalDateTime getDateTimestamp();
+}
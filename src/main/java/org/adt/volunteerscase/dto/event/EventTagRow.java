@@ -0,0 +1,8 @@
+package org.adt.volunteerscase.dto.event;
+
+public interface EventTagRow {
+
+    Integer getEventId();
+
+    Integer getTagId();
+}
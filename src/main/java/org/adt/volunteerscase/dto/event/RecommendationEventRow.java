@@ -0,0 +1,12 @@
+package org.adt.volunteerscase.dto.event;
+
+import java.time.LocalDateTime;
+
+public interface RecommendationEventRow {
+
+    Integer getEventId();
+
+    LocalDateTime getDateTimestamp();
+
+    Long getPopularity();
+}
@@ -0,0 +1,24 @@
+package org.adt.volunteerscase.dto.event.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventBulkCreateRequest {
+
+    @Schema(description = "Мероприятия для создания, результат возвращается в том же порядке")
+    @NotEmpty(message = "events is empty")
+    @Size(max = 500, message = "events max size is 500")
+    private List<@Valid EventCreateV2Request> events;
+}
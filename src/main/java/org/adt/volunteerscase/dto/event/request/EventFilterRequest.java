@@ -0,0 +1,35 @@
+package org.adt.volunteerscase.dto.event.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.adt.volunteerscase.entity.event.EventStatus;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventFilterRequest {
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime from;                                         //начало периода проведения включительно
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime to;                                           //конец периода проведения включительно
+
+    private EventStatus status;
+
+    private Integer coordinatorId;
+
+    private Integer locationId;
+
+    private Integer tagId;
+
+    @Builder.Default
+    private EventFilterSort sort = EventFilterSort.DATE_DESC;
+
+}
@@ -17,4 +17,13 @@ public class EventSearchRequest {
     @Size(max = 255, message = "name max length is 255")
     private String name;
 
-}
\ No newline at end of file
+    @Builder.Default
+    private EventSearchMode mode = EventSearchMode.FULL_TEXT;           //SUBSTRING - старый поиск подстроки в названии
+
+    @Builder.Default
+    private boolean prefix = true;                                      //искать слова по началу, для поиска по мере ввода
+
+    @Builder.Default
+    private boolean highlight = true;                                   //вернуть фрагменты с подсветкой совпадений
+
+}
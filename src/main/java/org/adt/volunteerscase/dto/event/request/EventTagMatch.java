@@ -0,0 +1,6 @@
+package org.adt.volunteerscase.dto.event.request;
+
+public enum EventTagMatch {
+    ANY,
+    ALL
+}
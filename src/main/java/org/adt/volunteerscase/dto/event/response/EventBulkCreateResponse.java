@@ -0,0 +1,19 @@
+package org.adt.volunteerscase.dto.event.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventBulkCreateResponse {
+
+    private Integer created;
+    private Integer failed;
+    private List<EventBulkItemResult> items;
+}
@@ -0,0 +1,26 @@
+package org.adt.volunteerscase.dto.event.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventBulkItemResult {
+
+    private Integer index;                                              //позиция мероприятия в запросе
+    private EventBulkItemStatus status;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer eventId;                                            //только для созданных мероприятий
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String errorCode;                                           //тот же код, что вернул бы /create
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String message;
+}
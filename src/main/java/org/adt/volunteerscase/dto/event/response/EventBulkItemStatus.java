@@ -0,0 +1,6 @@
+package org.adt.volunteerscase.dto.event.response;
+
+public enum EventBulkItemStatus {
+    CREATED,
+    FAILED
+}
@@ -0,0 +1,20 @@
+package org.adt.volunteerscase.dto.event.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventDetailCacheStatsResponse {
+
+    private Integer size;
+    private Long hits;
+    private Long misses;
+    private Double hitRate;
+    private Long evictions;                                             //вытеснены по размеру или TTL
+    private Long invalidations;                                         //удалены после изменения мероприятия, обложки или тега
+}
@@ -0,0 +1,20 @@
+package org.adt.volunteerscase.dto.event.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventMapClusterResponse {
+
+    private Long count;                                                 //количество мероприятий в ячейке
+    private Double latitude;                                            //центр масс мероприятий ячейки
+    private Double longitude;
+    private List<Integer> sampleEventIds;                               //ближайшие по дате мероприятия ячейки
+}
@@ -1,5 +1,6 @@
 package org.adt.volunteerscase.dto.event.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -30,4 +31,14 @@ public class EventV2Response {
     private LocalDateTime dateTimestamp;
     private LocationEntityDTO location;
     private Set<TagEntityDTO> tags;
+    private Long version;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long acceptedCount;                                         //принятые заявки, только в списках
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long pendingCount;                                          //заявки на рассмотрении, только в списках
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceKm;                                          //расстояние до точки поиска, только для поиска рядом
 }
\ No newline at end of file
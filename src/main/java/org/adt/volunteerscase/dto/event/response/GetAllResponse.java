@@ -1,5 +1,6 @@
 package org.adt.volunteerscase.dto.event.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -29,5 +30,18 @@ public class GetAllResponse {
     private LocalDateTime dateTimestamp;
     private LocationEntityDTO location;
     private Set<TagEntityDTO> tags;
+    private Long version;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long acceptedCount;                                         //принятые заявки, только в списках
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long pendingCount;                                          //заявки на рассмотрении, только в списках
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double searchRank;                                          //ts_rank, только для полнотекстового поиска
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String searchHeadline;                                      //фрагмент с совпадениями в <mark></mark>
 
 }
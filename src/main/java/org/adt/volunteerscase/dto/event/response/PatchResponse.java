@@ -25,5 +25,6 @@ public class PatchResponse {
     private Integer locationId;
     private String locationAddress;
     private Set<Integer> tagIds;
+    private Long version;
 
 }
@@ -28,4 +28,6 @@ public class LocationCreateRequest {
     @DecimalMin(value = "-180.0", message = "Longitude must be >= -180")
     @DecimalMax(value = "180.0", message = "Longitude must be <= 180")
     private Double longitude;
+
+    private boolean allowSimilar;                                    //true - создать, даже если есть похожие адреса
 }
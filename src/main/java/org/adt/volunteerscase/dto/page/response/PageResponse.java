@@ -1,10 +1,12 @@
 package org.adt.volunteerscase.dto.page.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -16,8 +18,13 @@ public class PageResponse<T> {
     private List<T> content;
     private int pageNumber;
     private int pageSize;
-    private long totalElements;
-    private int totalPages;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long approximateTotal;
+    private boolean hasNext;
     private boolean first;
     private boolean last;
 
@@ -28,8 +35,27 @@ public class PageResponse<T> {
                 .pageSize(page.getSize())
                 .totalElements(page.getTotalElements())
                 .totalPages(page.getTotalPages())
+                .hasNext(page.hasNext())
                 .first(page.isFirst())
                 .last(page.isLast())
                 .build();
     }
+
+    /**
+     * Builds a response without an exact total; the count query is never executed for a slice.
+     *
+     * @param slice            slice of content fetched with one look-ahead row
+     * @param approximateTotal cached or estimated total, or {@code null} when it was not requested
+     */
+    public static <T> PageResponse<T> of(Slice<T> slice, Long approximateTotal) {
+        return PageResponse.<T>builder()
+                .content(slice.getContent())
+                .pageNumber(slice.getNumber())
+                .pageSize(slice.getSize())
+                .approximateTotal(approximateTotal)
+                .hasNext(slice.hasNext())
+                .first(slice.isFirst())
+                .last(slice.isLast())
+                .build();
+    }
 }
@@ -0,0 +1,35 @@
+package org.adt.volunteerscase.dto.userEvent.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserEventBulkStatusPatchRequest {
+
+    @NotEmpty(message = "user ids are empty")
+    @Size(max = 500, message = "max number of applications in one request is 500")
+    private List<@NotNull(message = "user id is null") Integer> userIds;
+
+    @NotBlank(message = "application status is blank")
+    @Pattern(
+            regexp = "^(ACCEPTED|REJECTED)$",
+            message = "application status must be one of: ACCEPTED, REJECTED"
+    )
+    private String status;
+
+    @Size(max = 1000, message = "reject reason max length is 1000")
+    @Pattern(regexp = "(?s).*\\S.*", message = "reject reason must not be blank")
+    private String rejectReason;
+}
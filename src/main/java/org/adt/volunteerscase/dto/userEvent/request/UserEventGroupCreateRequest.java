@@ -0,0 +1,22 @@
+package org.adt.volunteerscase.dto.userEvent.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserEventGroupCreateRequest {
+
+    @NotEmpty(message = "group is empty")
+    @Size(max = 100, message = "max group size is 100")
+    private List<@NotNull(message = "user id is null") Integer> userIds;           //должен содержать текущего пользователя
+}
@@ -0,0 +1,26 @@
+package org.adt.volunteerscase.dto.userEvent.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserEventBulkItemResult {
+
+    private Integer userId;
+    private UserEventBulkItemStatus result;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private UserEventResponse application;                              //заявка после изменения, кроме неуспешных
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String errorCode;                                           //тот же код, что вернул бы одиночный PATCH
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String message;
+}
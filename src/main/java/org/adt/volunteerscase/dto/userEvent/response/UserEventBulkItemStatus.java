@@ -0,0 +1,7 @@
+package org.adt.volunteerscase.dto.userEvent.response;
+
+public enum UserEventBulkItemStatus {
+    UPDATED,
+    UNCHANGED,
+    FAILED
+}
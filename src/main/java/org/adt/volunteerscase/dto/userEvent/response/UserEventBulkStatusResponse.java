@@ -0,0 +1,20 @@
+package org.adt.volunteerscase.dto.userEvent.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserEventBulkStatusResponse {
+
+    private Integer updated;
+    private Integer unchanged;
+    private Integer failed;
+    private List<UserEventBulkItemResult> items;
+}
@@ -16,7 +16,8 @@ import java.time.Instant;
 public class CoverEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "files_seq")
+    @SequenceGenerator(name = "files_seq", sequenceName = "files_seq", allocationSize = 50)
     @Column(name = "fileId")
     private Integer coverId;
 
@@ -24,9 +25,11 @@ public class CoverEntity {
     @Column(nullable = false, unique = true, length = 1024)
     private String link;
 
-    @NotBlank(message = "metadata is blank")
-    @Column(nullable = false, length = 4000)
-    private String metadata;
+    @Embedded
+    private CoverFileMetadata metadata;
+
+    @Column(name = "metadata", length = 4000)
+    private String legacyMetadata;                                      //Base64 JSON до переноса в колонки, после миграции null
 
     @NotNull(message = "createdAt is blank")
     @Column(name = "createdAt", nullable = false, updatable = false)
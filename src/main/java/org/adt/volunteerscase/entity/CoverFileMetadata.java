@@ -0,0 +1,40 @@
+package org.adt.volunteerscase.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Embeddable
+public class CoverFileMetadata {
+
+    @Column(name = "originalFileName")
+    private String originalFileName;
+
+    @Column(name = "contentType")
+    private String contentType;
+
+    @Column(name = "fileSize")
+    private Long size;                                                  //размер файла в байтах
+
+    @Column(name = "width")
+    private Integer width;
+
+    @Column(name = "height")
+    private Integer height;
+
+    @Column(name = "bucket")
+    private String bucket;
+
+    @Column(name = "objectKey", length = 1024)
+    private String objectKey;                                           //ключ объекта в хранилище
+
+    @Column(name = "eTag")
+    private String eTag;
+}
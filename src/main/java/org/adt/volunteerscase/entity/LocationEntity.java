@@ -18,7 +18,8 @@ import lombok.NoArgsConstructor;
 public class LocationEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "locations_seq")
+    @SequenceGenerator(name = "locations_seq", sequenceName = "locations_seq", allocationSize = 50)
     private Integer locationId;
 
     @NotBlank(message = "address is blank")
@@ -24,7 +24,8 @@ import lombok.NoArgsConstructor;
 public class TagEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tag_seq")
+    @SequenceGenerator(name = "tag_seq", sequenceName = "tag_seq", allocationSize = 50)
     private Integer tagId;
 
     @NotBlank(message = "tag is blank")
@@ -5,6 +5,7 @@ import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.adt.volunteerscase.entity.event.EventEntity;
 import org.adt.volunteerscase.entity.user.UserEntity;
+import org.springframework.data.domain.Persistable;
 
 import java.time.LocalDateTime;
 
@@ -17,7 +18,7 @@ import java.time.LocalDateTime;
 @EqualsAndHashCode(onlyExplicitlyIncluded = true)
 @Entity
 @Table(name = "user_events")
-public class UserEventEntity {
+public class UserEventEntity implements Persistable<UserEventId> {
 
 
     @EqualsAndHashCode.Include
@@ -65,6 +66,37 @@ public class UserEventEntity {
     @Column(name = "deleted_at")
     private LocalDateTime deletedAt;
 
+    // derived by the database from the flags above (ordinals of UserEventStatus) and used only by queries;
+    // in memory the status is still resolved with UserEventStatus.of, since this value is not refreshed on save
+    @Enumerated(EnumType.ORDINAL)
+    @Column(
+            name = "status",
+            insertable = false,
+            updatable = false,
+            columnDefinition = "SMALLINT GENERATED ALWAYS AS (CASE WHEN revoked THEN 3 WHEN rejected THEN 2 WHEN accepted THEN 1 ELSE 0 END) STORED"
+    )
+    @Setter(AccessLevel.NONE)
+    private UserEventStatus status;
+
+    // the id is assigned by the application, so without this flag every save of a new application is a merge
+    // that selects the row first and cannot be batched
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    private void markNotNew() {
+        newEntity = false;
+    }
+
     @PrePersist
     private void onCreate() {
         if (createdAt == null) {
@@ -0,0 +1,26 @@
+package org.adt.volunteerscase.entity;
+
+// ordinals are stored in user_events.status, so new values may only be appended
+public enum UserEventStatus {
+    PENDING,
+    ACCEPTED,
+    REJECTED,
+    REVOKED;
+
+    public static UserEventStatus of(UserEventEntity userEvent) {
+        if (userEvent.isRevoked()) {
+            return REVOKED;
+        }
+        if (userEvent.isRejected()) {
+            return REJECTED;
+        }
+        if (userEvent.isAccepted()) {
+            return ACCEPTED;
+        }
+        return PENDING;
+    }
+
+    public boolean isActive() {
+        return this == PENDING || this == ACCEPTED;
+    }
+}
@@ -0,0 +1,86 @@
+package org.adt.volunteerscase.entity.event;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.adt.volunteerscase.dto.cover.CoverEntityDTO;
+import org.adt.volunteerscase.dto.tag.TagEntityDTO;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+/**
+ * Denormalized list card of an event: everything a list item of GetAllResponse/EventV2Response shows, in one row.
+ * Rows are rewritten by EventCardWriter in the same transaction as the change they reflect.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "event_card")
+public class EventCardEntity {
+
+    @Id
+    @ToString.Include
+    @Column(name = "eventId")
+    private Integer eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EventStatus status;
+
+    @ToString.Include
+    @Column(nullable = false)
+    private String name;
+
+    @Column(length = 5000)
+    private String description;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "cover", columnDefinition = "jsonb")
+    private CoverEntityDTO cover;                                       //обложка вместе с метаданными файла
+
+    @Column(name = "coordinatorId", nullable = false)
+    private Integer coordinatorId;
+
+    @Column(name = "coordinatorWorkLocation")
+    private String coordinatorWorkLocation;
+
+    @Column(name = "maxCapacity", nullable = false)
+    private Integer maxCapacity;
+
+    @Column(name = "weightMinutes", nullable = false)
+    private Integer weightMinutes;
+
+    @Column(name = "dateTimestamp", nullable = false)
+    private LocalDateTime dateTimestamp;
+
+    @Column(name = "locationId")
+    private Integer locationId;
+
+    @Column(name = "locationAddress")
+    private String locationAddress;
+
+    @Column(name = "latitude")
+    private Double latitude;
+
+    @Column(name = "longitude")
+    private Double longitude;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "tags", columnDefinition = "jsonb")
+    private Set<TagEntityDTO> tags;                                     //id и названия тегов
+
+    @Column(name = "acceptedCount", nullable = false)
+    private long acceptedCount;                                         //принятые и не отозванные заявки
+
+    @Column(name = "pendingCount", nullable = false)
+    private long pendingCount;                                          //заявки, ожидающие решения
+
+    @Column(name = "version", nullable = false)
+    private Long version;                                               //версия мероприятия на момент записи карточки
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
 import org.adt.volunteerscase.entity.*;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 import java.util.Set;
@@ -26,12 +27,31 @@ import java.util.Set;
                         name = "uk_event_cover",
                         columnNames = {"coverId"}
                 )
+        },
+        indexes = {
+                @Index(
+                        name = "idx_event_date_timestamp_event_id",
+                        columnList = "dateTimestamp, eventId"
+                ),
+                @Index(
+                        name = "idx_event_status_date_timestamp_event_id",
+                        columnList = "status, dateTimestamp, eventId"
+                ),
+                @Index(
+                        name = "idx_event_coordinator_date_timestamp_event_id",
+                        columnList = "coordinatorId, dateTimestamp, eventId"
+                ),
+                @Index(
+                        name = "idx_event_location_date_timestamp_event_id",
+                        columnList = "locationId, dateTimestamp, eventId"
+                )
         }
 )
 public class EventEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "event_seq")
+    @SequenceGenerator(name = "event_seq", sequenceName = "event_seq", allocationSize = 50)
     @Column(name = "eventId")
     @ToString.Include
     private Integer eventId;
@@ -83,6 +103,10 @@ public class EventEntity {
             uniqueConstraints = @UniqueConstraint(
                     name = "uk_event_tag",
                     columnNames = {"eventId", "tagId"}
+            ),
+            indexes = @Index(
+                    name = "idx_event_tags_tag_event",
+                    columnList = "tagId, eventId"
             )
     )
     private Set<TagEntity> tags;                                              //тег, связь многие ко многим
@@ -96,4 +120,29 @@ public class EventEntity {
     @OneToMany(mappedBy = "event", fetch = FetchType.LAZY)
     private Set<UserEventEntity> userEvents;
 
+    @Version
+    @ToString.Include
+    @Column(name = "version", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long version;                                               //растёт при каждом изменении мероприятия, основа ETag
+
+    @UpdateTimestamp
+    @Column(name = "updatedAt")
+    private LocalDateTime updatedAt;
+
+    @Builder.Default
+    @Column(name = "activeCount", nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long activeCount = 0L;                                      //заявки на рассмотрении и принятые, пишутся только запросами счётчиков
+
+    @Builder.Default
+    @Column(name = "acceptedCount", nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long acceptedCount = 0L;
+
+    @Builder.Default
+    @Column(name = "rejectedCount", nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long rejectedCount = 0L;
+
+    @Builder.Default
+    @Column(name = "revokedCount", nullable = false, insertable = false, updatable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long revokedCount = 0L;
+
 }
@@ -0,0 +1,46 @@
+package org.adt.volunteerscase.entity.event;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Narrow per-event popularity row: the number of live, not revoked applications together with the columns
+ * popular listings filter on. The row is upserted by EventPopularityWriter and its counter is moved by the application
+ * state transitions, so readers never aggregate {@code user_events}.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(onlyExplicitlyIncluded = true)
+@Entity
+@Table(
+        name = "event_popularity",
+        indexes = {
+                @Index(
+                        name = "idx_event_popularity_status_date_popularity",
+                        columnList = "status, dateTimestamp, popularity"
+                )
+        }
+)
+public class EventPopularityEntity {
+
+    @Id
+    @ToString.Include
+    @Column(name = "eventId")
+    private Integer eventId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EventStatus status;
+
+    @Column(name = "dateTimestamp", nullable = false)
+    private LocalDateTime dateTimestamp;
+
+    @ToString.Include
+    @Column(name = "popularity", nullable = false)
+    private long popularity;                                            //заявки на рассмотрении, принятые и отклонённые
+}
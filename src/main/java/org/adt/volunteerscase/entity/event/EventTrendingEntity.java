@@ -0,0 +1,57 @@
+package org.adt.volunteerscase.entity.event;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * Checkpoint of the in-memory trending score of an event. The table is rewritten as a whole on every checkpoint
+ * and only read back on startup, so a restart keeps the trending feed instead of starting from zero.
+ */
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString(onlyExplicitlyIncluded = true)
+@Entity
+@Table(name = "event_trending")
+public class EventTrendingEntity implements Persistable<Integer> {
+
+    @Id
+    @ToString.Include
+    @Column(name = "eventId")
+    private Integer eventId;
+
+    @ToString.Include
+    @Column(name = "score", nullable = false)
+    private double score;                                               //затухающее число заявок на момент сохранения
+
+    @Column(name = "checkpointedAt", nullable = false)
+    private LocalDateTime checkpointedAt;
+
+    // rows are only ever inserted into an emptied table, so saving must not select them first
+    @Transient
+    @Builder.Default
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private boolean newEntity = true;
+
+    @Override
+    public Integer getId() {
+        return eventId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newEntity;
+    }
+
+    @PostLoad
+    @PostPersist
+    private void markNotNew() {
+        newEntity = false;
+    }
+}
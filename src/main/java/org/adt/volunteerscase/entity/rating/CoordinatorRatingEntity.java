@@ -27,7 +27,8 @@ import java.time.LocalDateTime;
 public class CoordinatorRatingEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "coordinator_ratings_seq")
+    @SequenceGenerator(name = "coordinator_ratings_seq", sequenceName = "coordinator_ratings_seq", allocationSize = 50)
     @Column(name = "coordinatorRatingId")
     private Long coordinatorRatingId;
 
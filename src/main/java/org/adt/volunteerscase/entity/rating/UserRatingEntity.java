@@ -27,7 +27,8 @@ import java.time.LocalDateTime;
 public class UserRatingEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_ratings_seq")
+    @SequenceGenerator(name = "user_ratings_seq", sequenceName = "user_ratings_seq", allocationSize = 50)
     @Column(name = "userRatingId")
     private Long userRatingId;
 
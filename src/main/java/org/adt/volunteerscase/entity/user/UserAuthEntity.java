@@ -15,7 +15,8 @@ import lombok.RequiredArgsConstructor;
 public class UserAuthEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_auth_seq")
+    @SequenceGenerator(name = "user_auth_seq", sequenceName = "user_auth_seq", allocationSize = 50)
     private Integer id;
 
     @OneToOne(fetch = FetchType.LAZY)
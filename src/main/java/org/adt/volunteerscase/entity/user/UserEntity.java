@@ -28,7 +28,8 @@ import java.util.Set;
 public class UserEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_seq")
+    @SequenceGenerator(name = "users_seq", sequenceName = "users_seq", allocationSize = 50)
     @ToString.Include
     @Column(name = "userId")
     private Integer userId;
@@ -0,0 +1,7 @@
+package org.adt.volunteerscase.exception;
+
+public class ApplicationAdmissionUnavailableException extends RuntimeException {
+    public ApplicationAdmissionUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package org.adt.volunteerscase.exception;
+
+public class EventVersionMismatchException extends RuntimeException {
+    public EventVersionMismatchException(String message) {
+        super(message);
+    }
+}
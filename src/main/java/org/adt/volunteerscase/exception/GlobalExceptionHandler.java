@@ -234,6 +234,22 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
     }
 
+    @ExceptionHandler(ApplicationAdmissionUnavailableException.class)
+    public ResponseEntity<ErrorResponse>
+    handleApplicationAdmissionUnavailableException(ApplicationAdmissionUnavailableException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("APPLICATION_ADMISSION_UNAVAILABLE", ex.getMessage(),
+                LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+    }
+
+    @ExceptionHandler(EventVersionMismatchException.class)
+    public ResponseEntity<ErrorResponse>
+    handleEventVersionMismatchException(EventVersionMismatchException ex) {
+        ErrorResponse errorResponse = new ErrorResponse("EVENT_VERSION_MISMATCH", ex.getMessage(),
+                LocalDateTime.now());
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(errorResponse);
+    }
+
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleIllegalArgumentException(IllegalArgumentException ex) {
         ErrorResponse errorResponse = new ErrorResponse(
@@ -4,6 +4,7 @@ import org.adt.volunteerscase.entity.rating.CoordinatorRatingEntity;
 import org.adt.volunteerscase.entity.rating.RatingPeriod;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -18,6 +19,13 @@ public interface CoordinatorRatingRepository extends JpaRepository<CoordinatorRa
             Pageable pageable
     );
 
+    Slice<CoordinatorRatingEntity> findSliceByPeriodOrderByRatingPositionAscCoordinatorUserIdAsc(
+            RatingPeriod period,
+            Pageable pageable
+    );
+
+    long countByPeriod(RatingPeriod period);
+
     Optional<CoordinatorRatingEntity> findByPeriodAndCoordinatorUserId(
             RatingPeriod period,
             Integer coordinatorId
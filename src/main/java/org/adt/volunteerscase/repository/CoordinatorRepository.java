@@ -2,6 +2,9 @@ package org.adt.volunteerscase.repository;
 
 import org.adt.volunteerscase.entity.CoordinatorEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Collection;
@@ -11,4 +14,12 @@ import java.util.List;
 public interface CoordinatorRepository extends JpaRepository<CoordinatorEntity, Integer> {
 
     List<CoordinatorEntity> findAllByUserIdIn(Collection<Integer> userIds);
+
+    @Modifying
+    @Query(value = """
+            UPDATE event
+            SET version = version + 1, updated_at = LOCALTIMESTAMP
+            WHERE coordinator_id = :coordinatorId
+            """, nativeQuery = true)
+    int bumpEventVersionsByCoordinatorId(@Param("coordinatorId") Integer coordinatorId);
 }
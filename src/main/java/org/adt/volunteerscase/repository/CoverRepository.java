@@ -1,14 +1,34 @@
 package org.adt.volunteerscase.repository;
 
 import org.adt.volunteerscase.entity.CoverEntity;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CoverRepository extends JpaRepository<CoverEntity, Integer> {
     Optional<CoverEntity> findByCoverIdAndDeletedAtIsNull(Integer coverId);
+    List<CoverEntity> findAllByCoverIdInAndDeletedAtIsNull(Collection<Integer> coverIds);
     boolean existsByLinkAndDeletedAtIsNull(String link);
     Optional<CoverEntity> findByLinkAndDeletedAtIsNull(String link);
+
+    List<CoverEntity> findByLegacyMetadataIsNotNullAndCoverIdGreaterThanOrderByCoverIdAsc(
+            Integer coverId,
+            Pageable pageable
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE event
+            SET version = version + 1, updated_at = LOCALTIMESTAMP
+            WHERE cover_id = :coverId
+            """, nativeQuery = true)
+    int bumpEventVersionsByCoverId(@Param("coverId") Integer coverId);
 }
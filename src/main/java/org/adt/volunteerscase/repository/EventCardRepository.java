@@ -0,0 +1,28 @@
+package org.adt.volunteerscase.repository;
+
+import org.adt.volunteerscase.entity.event.EventCardEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EventCardRepository extends JpaRepository<EventCardEntity, Integer> {
+
+    List<EventCardEntity> findAllByEventIdIn(Collection<Integer> eventIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            UPDATE event_card c
+            SET accepted_count = e.accepted_count,
+                pending_count = e.active_count - e.accepted_count
+            FROM event e
+            WHERE e.event_id = c.event_id
+              AND c.event_id = :eventId
+            """, nativeQuery = true)
+    int refreshApplicationCounts(@Param("eventId") Integer eventId);
+}
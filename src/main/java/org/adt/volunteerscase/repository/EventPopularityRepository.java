@@ -0,0 +1,50 @@
+package org.adt.volunteerscase.repository;
+
+import org.adt.volunteerscase.entity.event.EventPopularityEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface EventPopularityRepository extends JpaRepository<EventPopularityEntity, Integer> {
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO event_popularity (event_id, status, date_timestamp, popularity)
+            SELECT e.event_id, e.status, e.date_timestamp, e.active_count + e.rejected_count
+            FROM event e
+            WHERE e.event_id IN (:eventIds)
+            ON CONFLICT (event_id) DO UPDATE
+            SET status = EXCLUDED.status,
+                date_timestamp = EXCLUDED.date_timestamp,
+                popularity = EXCLUDED.popularity
+            """, nativeQuery = true)
+    int upsertFromEvents(@Param("eventIds") Collection<Integer> eventIds);
+
+    @Modifying
+    @Query("""
+            UPDATE EventPopularityEntity p
+            SET p.popularity = p.popularity + :delta
+            WHERE p.eventId = :eventId
+            """)
+    int adjustPopularity(@Param("eventId") Integer eventId, @Param("delta") long delta);
+
+    @Query("""
+            SELECT p.eventId
+            FROM EventPopularityEntity p
+            WHERE p.status IN (
+                  org.adt.volunteerscase.entity.event.EventStatus.ONGOING,
+                  org.adt.volunteerscase.entity.event.EventStatus.IN_PROGRESS
+              )
+              AND p.dateTimestamp > :now
+            ORDER BY p.popularity DESC, p.dateTimestamp DESC, p.eventId DESC
+            """)
+    Slice<Integer> findPopularUpcomingEventIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
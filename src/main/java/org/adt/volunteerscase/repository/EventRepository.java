@@ -1,6 +1,13 @@
 package org.adt.volunteerscase.repository;
 
 import jakarta.persistence.LockModeType;
+import org.adt.volunteerscase.dto.event.EventDistanceHit;
+import org.adt.volunteerscase.dto.event.EventIndexRow;
+import org.adt.volunteerscase.dto.event.EventMapClusterRow;
+import org.adt.volunteerscase.dto.event.EventSearchHit;
+import org.adt.volunteerscase.dto.event.EventSlotRow;
+import org.adt.volunteerscase.dto.event.EventTagRow;
+import org.adt.volunteerscase.dto.event.RecommendationEventRow;
 import org.adt.volunteerscase.dto.rating.RatingAggregateDTO;
 import org.adt.volunteerscase.entity.CoordinatorEntity;
 import org.adt.volunteerscase.entity.CoverEntity;
@@ -9,9 +16,12 @@ import org.adt.volunteerscase.entity.TagEntity;
 import org.adt.volunteerscase.entity.event.EventEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -23,10 +33,158 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface EventRepository extends JpaRepository<EventEntity, Integer> {
+public interface EventRepository extends JpaRepository<EventEntity, Integer>, JpaSpecificationExecutor<EventEntity> {
+
+    String RECOMMENDED_EVENT_IDS_QUERY = """
+            SELECT e.event_id
+            FROM event e
+            LEFT JOIN event_tags et
+                ON et.event_id = e.event_id
+            LEFT JOIN user_tags ut
+                ON ut.tag_id = et.tag_id
+               AND ut.user_id = :userId
+            LEFT JOIN event_popularity ep
+                ON ep.event_id = e.event_id
+            WHERE e.status <> 'COMPLETED'
+              AND e.date_timestamp > :now
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM user_events ue_self
+                  WHERE ue_self.event_id = e.event_id
+                    AND ue_self.user_id = :userId
+                    AND ue_self.deleted_at IS NULL
+              )
+            GROUP BY e.event_id, e.date_timestamp, ep.popularity
+            ORDER BY COUNT(ut.tag_id) DESC,
+                     COALESCE(ep.popularity, 0) DESC,
+                     e.date_timestamp DESC,
+                     e.event_id DESC
+            """;
+
+    String RECOMMENDED_EVENT_IDS_COUNT_QUERY = """
+            SELECT COUNT(*)
+            FROM event e
+            WHERE e.status <> 'COMPLETED'
+              AND e.date_timestamp > :now
+              AND NOT EXISTS (
+                  SELECT 1
+                  FROM user_events ue_self
+                  WHERE ue_self.event_id = e.event_id
+                    AND ue_self.user_id = :userId
+                    AND ue_self.deleted_at IS NULL
+              )
+            """;
+
+    String FULL_TEXT_SEARCH_QUERY = """
+            SELECT e.event_id AS "eventId",
+                   CAST(ts_rank(e.search_vector, q.query) AS double precision) AS "rank",
+                   CASE WHEN :highlight THEN ts_headline(
+                           'russian',
+                           concat_ws(' ', e.name, e.description),
+                           q.query,
+                           'StartSel=<mark>, StopSel=</mark>, MinWords=10, MaxWords=30, MaxFragments=2'
+                   ) END AS "headline"
+            FROM event e
+            CROSS JOIN (
+                SELECT to_tsquery('russian', :tsQuery) || to_tsquery('simple', :tsQuery) AS query
+            ) q
+            WHERE e.search_vector @@ q.query
+            ORDER BY "rank" DESC, e.event_id DESC
+            """;
+
+    String FULL_TEXT_SEARCH_COUNT_QUERY = """
+            SELECT COUNT(*)
+            FROM event e
+            WHERE e.search_vector @@ (to_tsquery('russian', :tsQuery) || to_tsquery('simple', :tsQuery))
+            """;
+
+    String NEARBY_UPCOMING_EVENTS_QUERY = """
+            SELECT nearby.event_id AS "eventId",
+                   nearby.distance_km AS "distanceKm"
+            FROM (
+                SELECT e.event_id,
+                       e.date_timestamp,
+                       6371.0 * 2 * asin(least(1.0, sqrt(
+                           power(sin(radians(l.latitude - :latitude) / 2), 2)
+                           + cos(radians(:latitude)) * cos(radians(l.latitude))
+                             * power(sin(radians(l.longitude - :longitude) / 2), 2)
+                       ))) AS distance_km
+                FROM locations l
+                JOIN event e
+                    ON e.location_id = l.location_id
+                WHERE l.latitude IS NOT NULL
+                  AND l.longitude IS NOT NULL
+                  AND point(l.longitude, l.latitude) <@ box(
+                      point(:minLongitude, :minLatitude),
+                      point(:maxLongitude, :maxLatitude)
+                  )
+                  AND e.status <> 'COMPLETED'
+                  AND e.date_timestamp > :now
+            ) nearby
+            WHERE nearby.distance_km <= :radiusKm
+            ORDER BY nearby.distance_km, nearby.date_timestamp, nearby.event_id
+            """;
+
+    String NEARBY_UPCOMING_EVENTS_COUNT_QUERY = """
+            SELECT COUNT(*)
+            FROM locations l
+            JOIN event e
+                ON e.location_id = l.location_id
+            WHERE l.latitude IS NOT NULL
+              AND l.longitude IS NOT NULL
+              AND point(l.longitude, l.latitude) <@ box(
+                  point(:minLongitude, :minLatitude),
+                  point(:maxLongitude, :maxLatitude)
+              )
+              AND e.status <> 'COMPLETED'
+              AND e.date_timestamp > :now
+              AND 6371.0 * 2 * asin(least(1.0, sqrt(
+                  power(sin(radians(l.latitude - :latitude) / 2), 2)
+                  + cos(radians(:latitude)) * cos(radians(l.latitude))
+                    * power(sin(radians(l.longitude - :longitude) / 2), 2)
+              ))) <= :radiusKm
+            """;
+
+    String UPCOMING_EVENT_MAP_CLUSTERS_QUERY = """
+            SELECT COUNT(*) AS "eventCount",
+                   avg(cell.latitude) AS "latitude",
+                   avg(cell.longitude) AS "longitude",
+                   string_agg(
+                       CASE WHEN cell.position <= :sampleSize THEN CAST(cell.event_id AS varchar) END,
+                       ',' ORDER BY cell.position
+                   ) AS "sampleEventIds"
+            FROM (
+                SELECT e.event_id,
+                       l.latitude,
+                       l.longitude,
+                       floor(l.longitude / :cellSize) AS cell_x,
+                       floor(l.latitude / :cellSize) AS cell_y,
+                       row_number() OVER (
+                           PARTITION BY floor(l.longitude / :cellSize), floor(l.latitude / :cellSize)
+                           ORDER BY e.date_timestamp, e.event_id
+                       ) AS position
+                FROM locations l
+                JOIN event e
+                    ON e.location_id = l.location_id
+                WHERE l.latitude IS NOT NULL
+                  AND l.longitude IS NOT NULL
+                  AND point(l.longitude, l.latitude) <@ box(
+                      point(:minLongitude, :minLatitude),
+                      point(:maxLongitude, :maxLatitude)
+                  )
+                  AND e.status <> 'COMPLETED'
+                  AND e.date_timestamp > :now
+            ) cell
+            GROUP BY cell.cell_x, cell.cell_y
+            ORDER BY "eventCount" DESC
+            LIMIT :maxClusters
+            """;
 
     Optional<EventEntity> findByEventId(Integer eventId);
 
+    @Query("SELECT e.version FROM EventEntity e WHERE e.eventId = :eventId")
+    Optional<Long> findVersionByEventId(@Param("eventId") Integer eventId);
+
     Optional<EventEntity> findByName(String name);
 
     Optional<EventEntity> findByCover(CoverEntity coverEntity);
@@ -51,49 +209,158 @@ public interface EventRepository extends JpaRepository<EventEntity, Integer> {
 
     boolean existsByCoordinator(CoordinatorEntity coordinator);
 
-    Page<EventEntity> findAllByOrderByDateTimestampDesc(Pageable pageable);
+    long countByCoordinatorUserId(Integer coordinatorId);
+
+    @Query(
+            value = "SELECT e.eventId FROM EventEntity e ORDER BY e.dateTimestamp DESC, e.eventId DESC",
+            countQuery = "SELECT COUNT(e) FROM EventEntity e"
+    )
+    Page<Integer> findEventIdsOrderByDateTimestampDesc(Pageable pageable);
+
+    @Query("SELECT e.eventId FROM EventEntity e ORDER BY e.dateTimestamp DESC, e.eventId DESC")
+    Slice<Integer> findEventIdSliceOrderByDateTimestampDesc(Pageable pageable);
+
+    @Query("SELECT e.eventId FROM EventEntity e ORDER BY e.dateTimestamp DESC, e.eventId DESC")
+    List<Integer> findFirstKeysetEventIds(Pageable pageable);
+
+    @Query("SELECT e.eventId FROM EventEntity e ORDER BY e.eventId")
+    Slice<Integer> findEventIdSliceOrderByEventId(Pageable pageable);
+
+    @Query("SELECT e.eventId FROM EventEntity e WHERE e.cover.coverId = :coverId")
+    List<Integer> findEventIdsByCoverId(@Param("coverId") Integer coverId);
+
+    @Query("SELECT e.eventId FROM EventEntity e WHERE e.location.locationId = :locationId")
+    List<Integer> findEventIdsByLocationId(@Param("locationId") Integer locationId);
+
+    @Query("SELECT e.eventId FROM EventEntity e WHERE e.coordinator.userId = :coordinatorId")
+    List<Integer> findEventIdsByCoordinatorId(@Param("coordinatorId") Integer coordinatorId);
+
+    @Modifying
+    @Query("""
+            UPDATE EventEntity e
+            SET e.activeCount = e.activeCount + :activeDelta,
+                e.acceptedCount = e.acceptedCount + :acceptedDelta,
+                e.rejectedCount = e.rejectedCount + :rejectedDelta,
+                e.revokedCount = e.revokedCount + :revokedDelta
+            WHERE e.eventId = :eventId
+            """)
+    int adjustApplicationCounters(
+            @Param("eventId") Integer eventId,
+            @Param("activeDelta") long activeDelta,
+            @Param("acceptedDelta") long acceptedDelta,
+            @Param("rejectedDelta") long rejectedDelta,
+            @Param("revokedDelta") long revokedDelta
+    );
+
+    @Modifying
+    @Query("""
+            UPDATE EventEntity e
+            SET e.activeCount = e.activeCount + :seats
+            WHERE e.eventId = :eventId
+              AND e.activeCount + :seats <= e.maxCapacity
+              AND e.status <> org.adt.volunteerscase.entity.event.EventStatus.COMPLETED
+              AND e.dateTimestamp > :now
+            """)
+    int reserveApplicationSeats(
+            @Param("eventId") Integer eventId,
+            @Param("seats") int seats,
+            @Param("now") LocalDateTime now
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE event e
+            SET active_count = e.active_count - CASE WHEN ue.status IN (0, 1) THEN 1 ELSE 0 END,
+                accepted_count = e.accepted_count - CASE WHEN ue.status = 1 THEN 1 ELSE 0 END,
+                rejected_count = e.rejected_count - CASE WHEN ue.status = 2 THEN 1 ELSE 0 END,
+                revoked_count = e.revoked_count - CASE WHEN ue.status = 3 THEN 1 ELSE 0 END
+            FROM user_events ue
+            WHERE ue.event_id = e.event_id
+              AND ue.user_id = :userId
+              AND ue.deleted_at IS NULL
+            """, nativeQuery = true)
+    int releaseApplicationCountersOfUser(@Param("userId") Integer userId);
+
+    @Query(value = """
+            SELECT e.event_id
+            FROM event e
+            JOIN (
+                SELECT ev.event_id,
+                       COUNT(ue.event_id) FILTER (WHERE ue.status IN (0, 1)) AS active_count,
+                       COUNT(ue.event_id) FILTER (WHERE ue.status = 1) AS accepted_count,
+                       COUNT(ue.event_id) FILTER (WHERE ue.status = 2) AS rejected_count,
+                       COUNT(ue.event_id) FILTER (WHERE ue.status = 3) AS revoked_count
+                FROM event ev
+                LEFT JOIN user_events ue ON ue.event_id = ev.event_id AND ue.deleted_at IS NULL
+                GROUP BY ev.event_id
+            ) c ON c.event_id = e.event_id
+            WHERE (e.active_count, e.accepted_count, e.rejected_count, e.revoked_count)
+                  IS DISTINCT FROM (c.active_count, c.accepted_count, c.rejected_count, c.revoked_count)
+            ORDER BY e.event_id
+            """, nativeQuery = true)
+    List<Integer> findEventIdsWithDriftedApplicationCounters();
+
+    @Modifying
+    @Query(value = """
+            UPDATE event e
+            SET active_count = c.active_count,
+                accepted_count = c.accepted_count,
+                rejected_count = c.rejected_count,
+                revoked_count = c.revoked_count
+            FROM (
+                SELECT COUNT(*) FILTER (WHERE ue.status IN (0, 1)) AS active_count,
+                       COUNT(*) FILTER (WHERE ue.status = 1) AS accepted_count,
+                       COUNT(*) FILTER (WHERE ue.status = 2) AS rejected_count,
+                       COUNT(*) FILTER (WHERE ue.status = 3) AS revoked_count
+                FROM user_events ue
+                WHERE ue.event_id = :eventId
+                  AND ue.deleted_at IS NULL
+            ) c
+            WHERE e.event_id = :eventId
+            """, nativeQuery = true)
+    int recountApplicationCounters(@Param("eventId") Integer eventId);
+
+    @Query("SELECT e.cover.coverId FROM EventEntity e WHERE e.cover.coverId IN :coverIds")
+    List<Integer> findUsedCoverIds(@Param("coverIds") Collection<Integer> coverIds);
+
+    @Query("""
+            SELECT e.location.locationId AS locationId, e.dateTimestamp AS dateTimestamp
+            FROM EventEntity e
+            WHERE e.location.locationId IN :locationIds
+              AND e.dateTimestamp IN :dateTimestamps
+            """)
+    List<EventSlotRow> findOccupiedSlots(
+            @Param("locationIds") Collection<Integer> locationIds,
+            @Param("dateTimestamps") Collection<LocalDateTime> dateTimestamps
+    );
+
+    @Query("""
+            SELECT e.eventId
+            FROM EventEntity e
+            WHERE (e.dateTimestamp, e.eventId) < (:dateTimestamp, :eventId)
+            ORDER BY e.dateTimestamp DESC, e.eventId DESC
+            """)
+    List<Integer> findKeysetEventIdsAfter(
+            @Param("dateTimestamp") LocalDateTime dateTimestamp,
+            @Param("eventId") Integer eventId,
+            Pageable pageable
+    );
+
+    @Query("""
+            SELECT e.eventId
+            FROM EventEntity e
+            WHERE (e.dateTimestamp, e.eventId) > (:dateTimestamp, :eventId)
+            ORDER BY e.dateTimestamp ASC, e.eventId ASC
+            """)
+    List<Integer> findKeysetEventIdsBefore(
+            @Param("dateTimestamp") LocalDateTime dateTimestamp,
+            @Param("eventId") Integer eventId,
+            Pageable pageable
+    );
 
     @Query(
-            value = """
-                    SELECT e.event_id
-                    FROM event e
-                    LEFT JOIN event_tags et
-                        ON et.event_id = e.event_id
-                    LEFT JOIN user_tags ut
-                        ON ut.tag_id = et.tag_id
-                       AND ut.user_id = :userId
-                    LEFT JOIN user_events ue_popularity
-                        ON ue_popularity.event_id = e.event_id
-                       AND ue_popularity.revoked = FALSE
-                       AND ue_popularity.deleted_at IS NULL
-                    WHERE e.status <> 'COMPLETED'
-                      AND e.date_timestamp > :now
-                      AND NOT EXISTS (
-                          SELECT 1
-                          FROM user_events ue_self
-                          WHERE ue_self.event_id = e.event_id
-                            AND ue_self.user_id = :userId
-                            AND ue_self.deleted_at IS NULL
-                      )
-                    GROUP BY e.event_id, e.date_timestamp
-                    ORDER BY COUNT(DISTINCT ut.tag_id) DESC,
-                             COUNT(DISTINCT ue_popularity.user_id) DESC,
-                             e.date_timestamp DESC,
-                             e.event_id DESC
-                    """,
-            countQuery = """
-                    SELECT COUNT(*)
-                    FROM event e
-                    WHERE e.status <> 'COMPLETED'
-                      AND e.date_timestamp > :now
-                      AND NOT EXISTS (
-                          SELECT 1
-                          FROM user_events ue_self
-                          WHERE ue_self.event_id = e.event_id
-                            AND ue_self.user_id = :userId
-                            AND ue_self.deleted_at IS NULL
-                      )
-                    """,
+            value = RECOMMENDED_EVENT_IDS_QUERY,
+            countQuery = RECOMMENDED_EVENT_IDS_COUNT_QUERY,
             nativeQuery = true
     )
     Page<Integer> findRecommendedEventIds(
@@ -102,6 +369,66 @@ public interface EventRepository extends JpaRepository<EventEntity, Integer> {
             Pageable pageable
     );
 
+    @Query(value = UPCOMING_EVENT_MAP_CLUSTERS_QUERY, nativeQuery = true)
+    List<EventMapClusterRow> findUpcomingEventMapClusters(
+            @Param("minLatitude") double minLatitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLongitude") double maxLongitude,
+            @Param("cellSize") double cellSize,
+            @Param("sampleSize") int sampleSize,
+            @Param("maxClusters") int maxClusters,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query(value = RECOMMENDED_EVENT_IDS_QUERY, nativeQuery = true)
+    Slice<Integer> findRecommendedEventIdSlice(
+            @Param("userId") Integer userId,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
+
+    @Query(value = RECOMMENDED_EVENT_IDS_COUNT_QUERY, nativeQuery = true)
+    long countRecommendedEventIds(
+            @Param("userId") Integer userId,
+            @Param("now") LocalDateTime now
+    );
+
+    @Query(value = """
+            SELECT p.event_id AS "eventId",
+                   p.date_timestamp AS "dateTimestamp",
+                   p.popularity AS "popularity"
+            FROM event_popularity p
+            WHERE p.status IN ('ONGOING', 'IN_PROGRESS')
+              AND p.date_timestamp > :now
+            """, nativeQuery = true)
+    List<RecommendationEventRow> findUpcomingRecommendationEvents(@Param("now") LocalDateTime now);
+
+    @Query(value = """
+            SELECT et.event_id AS "eventId",
+                   et.tag_id AS "tagId"
+            FROM event_tags et
+            JOIN event e ON e.event_id = et.event_id
+            WHERE e.status <> 'COMPLETED'
+              AND e.date_timestamp > :now
+            """, nativeQuery = true)
+    List<EventTagRow> findUpcomingEventTags(@Param("now") LocalDateTime now);
+
+    @Query("""
+            SELECT e.eventId AS eventId,
+                   e.status AS status,
+                   e.dateTimestamp AS dateTimestamp
+            FROM EventEntity e
+            """)
+    List<EventIndexRow> findAllEventIndexRows();
+
+    @Query(value = """
+            SELECT et.event_id AS "eventId",
+                   et.tag_id AS "tagId"
+            FROM event_tags et
+            """, nativeQuery = true)
+    List<EventTagRow> findAllEventTags();
+
     @EntityGraph(attributePaths = {"cover", "coordinator", "location", "tags" })
     @Query("SELECT DISTINCT e FROM EventEntity e WHERE e.eventId IN :eventIds")
     List<EventEntity> findDetailedByEventIdIn(@Param("eventIds") Collection<Integer> eventIds);
@@ -110,8 +437,47 @@ public interface EventRepository extends JpaRepository<EventEntity, Integer> {
     @Query("select e from EventEntity e where e.eventId = :eventId")
     Optional<EventEntity> findByEventIdForUpdate(@Param("eventId") Integer eventId);
 
-    @Query("SELECT e FROM EventEntity e WHERE LOWER(e.name) LIKE LOWER(CONCAT('%', :name, '%')) ESCAPE '\\'")
-    Page<EventEntity> searchByName(@Param("name") String name, Pageable pageable);
+    @Query(
+            value = "SELECT e.eventId FROM EventEntity e WHERE LOWER(e.name) LIKE LOWER(CONCAT('%', :name, '%')) ESCAPE '\\'",
+            countQuery = "SELECT COUNT(e) FROM EventEntity e WHERE LOWER(e.name) LIKE LOWER(CONCAT('%', :name, '%')) ESCAPE '\\'"
+    )
+    Page<Integer> searchEventIdsByName(@Param("name") String name, Pageable pageable);
+
+    @Query("SELECT e.eventId FROM EventEntity e WHERE LOWER(e.name) LIKE LOWER(CONCAT('%', :name, '%')) ESCAPE '\\'")
+    Slice<Integer> searchEventIdSliceByName(@Param("name") String name, Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM EventEntity e WHERE LOWER(e.name) LIKE LOWER(CONCAT('%', :name, '%')) ESCAPE '\\'")
+    long countByNameSearch(@Param("name") String name);
+
+    @Query(value = FULL_TEXT_SEARCH_QUERY, countQuery = FULL_TEXT_SEARCH_COUNT_QUERY, nativeQuery = true)
+    Page<EventSearchHit> fullTextSearchEvents(
+            @Param("tsQuery") String tsQuery,
+            @Param("highlight") boolean highlight,
+            Pageable pageable
+    );
+
+    @Query(value = FULL_TEXT_SEARCH_QUERY, nativeQuery = true)
+    Slice<EventSearchHit> fullTextSearchEventSlice(
+            @Param("tsQuery") String tsQuery,
+            @Param("highlight") boolean highlight,
+            Pageable pageable
+    );
+
+    @Query(value = FULL_TEXT_SEARCH_COUNT_QUERY, nativeQuery = true)
+    long countFullTextSearch(@Param("tsQuery") String tsQuery);
+
+    @Query(value = NEARBY_UPCOMING_EVENTS_QUERY, countQuery = NEARBY_UPCOMING_EVENTS_COUNT_QUERY, nativeQuery = true)
+    Page<EventDistanceHit> findNearbyUpcomingEvents(
+            @Param("latitude") double latitude,
+            @Param("longitude") double longitude,
+            @Param("radiusKm") double radiusKm,
+            @Param("minLatitude") double minLatitude,
+            @Param("maxLatitude") double maxLatitude,
+            @Param("minLongitude") double minLongitude,
+            @Param("maxLongitude") double maxLongitude,
+            @Param("now") LocalDateTime now,
+            Pageable pageable
+    );
 
     @Query("""
           SELECT COUNT(e)
@@ -0,0 +1,9 @@
+package org.adt.volunteerscase.repository;
+
+import org.adt.volunteerscase.entity.event.EventTrendingEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EventTrendingRepository extends JpaRepository<EventTrendingEntity, Integer> {
+}
@@ -3,16 +3,34 @@ package org.adt.volunteerscase.repository;
 import org.adt.volunteerscase.entity.LocationEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface LocationRepository extends JpaRepository<LocationEntity, Integer> {
 
+    String ADDRESS_SEARCH_QUERY = """
+            SELECT l.*
+            FROM locations l
+            WHERE lower(l.address) LIKE concat('%', lower(:address), '%')
+               OR lower(l.address) % lower(:address)
+            ORDER BY similarity(lower(l.address), lower(:address)) DESC, l.location_id
+            """;
+
+    String ADDRESS_SEARCH_COUNT_QUERY = """
+            SELECT COUNT(*)
+            FROM locations l
+            WHERE lower(l.address) LIKE concat('%', lower(:address), '%')
+               OR lower(l.address) % lower(:address)
+            """;
+
     Optional<LocationEntity> findByLocationId(Integer locationId);
     Optional<LocationEntity> findByAddress(String address);
 
@@ -20,7 +38,34 @@ public interface LocationRepository extends JpaRepository<LocationEntity, Intege
 
     boolean existsByLocationId(Integer id);
 
-    @Query("SELECT l FROM LocationEntity l WHERE " +
-            "LOWER(l.address) LIKE LOWER(CONCAT('%', :address, '%'))")
+    @Query(value = ADDRESS_SEARCH_QUERY, countQuery = ADDRESS_SEARCH_COUNT_QUERY, nativeQuery = true)
     Page<LocationEntity> searchByAddress(@Param("address") String address, Pageable pageable);
-}
\ No newline at end of file
+
+    @Query(value = ADDRESS_SEARCH_QUERY, nativeQuery = true)
+    Slice<LocationEntity> searchSliceByAddress(@Param("address") String address, Pageable pageable);
+
+    @Query(value = ADDRESS_SEARCH_COUNT_QUERY, nativeQuery = true)
+    long countByAddressSearch(@Param("address") String address);
+
+    @Query(value = """
+            SELECT l.address
+            FROM locations l
+            WHERE lower(l.address) % lower(:address)
+              AND similarity(lower(l.address), lower(:address)) >= :threshold
+            ORDER BY similarity(lower(l.address), lower(:address)) DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<String> findSimilarAddresses(
+            @Param("address") String address,
+            @Param("threshold") double threshold,
+            @Param("limit") int limit
+    );
+
+    @Modifying
+    @Query(value = """
+            UPDATE event
+            SET version = version + 1, updated_at = LOCALTIMESTAMP
+            WHERE location_id = :locationId
+            """, nativeQuery = true)
+    int bumpEventVersionsByLocationId(@Param("locationId") Integer locationId);
+}
@@ -24,6 +24,9 @@ public interface TagRepository extends JpaRepository<TagEntity, Integer> {
 
     void deleteByTagName(String tag);
 
+    @Query(value = "SELECT event_id FROM event_tags WHERE tag_id = :tagId", nativeQuery = true)
+    List<Integer> findEventIdsByTagId(@Param("tagId") Integer tagId);
+
     @Modifying
     @Query(value = "DELETE FROM user_tags WHERE tag_id = :tagId", nativeQuery = true)
     void deleteUserTagLinksByTagId(@Param("tagId") Integer tagId);
@@ -32,4 +35,12 @@ public interface TagRepository extends JpaRepository<TagEntity, Integer> {
     @Query(value = "DELETE FROM event_tags WHERE tag_id = :tagId", nativeQuery = true)
     void deleteEventTagLinksByTagId(@Param("tagId") Integer tagId);
 
+    @Modifying
+    @Query(value = """
+            UPDATE event
+            SET version = version + 1, updated_at = LOCALTIMESTAMP
+            WHERE event_id IN (SELECT et.event_id FROM event_tags et WHERE et.tag_id = :tagId)
+            """, nativeQuery = true)
+    int bumpEventVersionsByTagId(@Param("tagId") Integer tagId);
+
 }
@@ -1,30 +1,171 @@
 package org.adt.volunteerscase.repository;
 
+import jakarta.persistence.LockModeType;
 import org.adt.volunteerscase.entity.UserEventEntity;
 import org.adt.volunteerscase.entity.UserEventId;
+import org.adt.volunteerscase.entity.UserEventStatus;
 import org.adt.volunteerscase.entity.event.EventEntity;
 import org.adt.volunteerscase.entity.event.EventStatus;
 import org.adt.volunteerscase.entity.user.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.adt.volunteerscase.dto.userEvent.response.CoordinatorEventApplicationsSummaryResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.adt.volunteerscase.dto.rating.RatingAggregateDTO;
 import org.adt.volunteerscase.dto.report.UserReportRowDTO;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserEventRepository extends JpaRepository<UserEventEntity, UserEventId> {
 
+    String COORDINATOR_EVENT_APPLICATION_SUMMARIES_QUERY = """
+            SELECT new org.adt.volunteerscase.dto.userEvent.response.CoordinatorEventApplicationsSummaryResponse(
+                e.eventId,
+                e.name,
+                e.status,
+                e.dateTimestamp,
+                e.maxCapacity,
+                e.activeCount + e.rejectedCount + e.revokedCount,
+                e.activeCount - e.acceptedCount,
+                e.acceptedCount,
+                e.rejectedCount,
+                e.revokedCount
+            )
+            FROM EventEntity e
+            WHERE e.coordinator.userId = :coordinatorId
+            ORDER BY e.dateTimestamp DESC, e.eventId DESC
+            """;
+
+    String COORDINATOR_EVENT_APPLICATION_SUMMARIES_COUNT_QUERY = """
+            SELECT COUNT(e)
+            FROM EventEntity e
+            WHERE e.coordinator.userId = :coordinatorId
+            """;
+
+    String COORDINATOR_EVENT_APPLICATIONS_QUERY = """
+            SELECT ue
+            FROM UserEventEntity ue
+            JOIN FETCH ue.user u
+            JOIN FETCH ue.event e
+            WHERE e.eventId = :eventId
+              AND e.coordinator.userId = :coordinatorId
+              AND ue.deletedAt IS NULL
+            ORDER BY ue.createdAt DESC, u.userId ASC
+            """;
+
+    String COORDINATOR_EVENT_APPLICATIONS_COUNT_QUERY = """
+            SELECT COUNT(ue)
+            FROM UserEventEntity ue
+            JOIN ue.event e
+            WHERE e.eventId = :eventId
+              AND e.coordinator.userId = :coordinatorId
+              AND ue.deletedAt IS NULL
+            """;
+
+    // kept apart from the unfiltered query so each gets its own plan over the partial (event_id, status, created_at) index
+    String COORDINATOR_EVENT_APPLICATIONS_BY_STATUS_QUERY = """
+            SELECT ue
+            FROM UserEventEntity ue
+            JOIN FETCH ue.user u
+            JOIN FETCH ue.event e
+            WHERE e.eventId = :eventId
+              AND e.coordinator.userId = :coordinatorId
+              AND ue.deletedAt IS NULL
+              AND ue.status = :status
+            ORDER BY ue.createdAt DESC, u.userId ASC
+            """;
+
+    String COORDINATOR_EVENT_APPLICATIONS_BY_STATUS_COUNT_QUERY = """
+            SELECT COUNT(ue)
+            FROM UserEventEntity ue
+            JOIN ue.event e
+            WHERE e.eventId = :eventId
+              AND e.coordinator.userId = :coordinatorId
+              AND ue.deletedAt IS NULL
+              AND ue.status = :status
+            """;
+
     Optional<UserEventEntity> findByUserAndEvent(UserEntity user, EventEntity event);
 
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT ue FROM UserEventEntity ue WHERE ue.id = :id")
+    Optional<UserEventEntity> findByIdForUpdate(@Param("id") UserEventId id);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT ue
+            FROM UserEventEntity ue
+            WHERE ue.id.eventId = :eventId
+              AND ue.id.userId IN :userIds
+            """)
+    List<UserEventEntity> findAllByEventIdAndUserIdInForUpdate(
+            @Param("eventId") Integer eventId,
+            @Param("userIds") Collection<Integer> userIds
+    );
+
+    @Query("""
+            SELECT ue
+            FROM UserEventEntity ue
+            WHERE ue.id.eventId = :eventId
+              AND ue.id.userId IN :userIds
+              AND ue.deletedAt IS NULL
+            """)
+    List<UserEventEntity> findAllByEventIdAndUserIdIn(
+            @Param("eventId") Integer eventId,
+            @Param("userIds") Collection<Integer> userIds
+    );
+
+    // bulk status updates bypass the persistence context, so it is cleared to keep loaded applications from being flushed over them
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE UserEventEntity ue
+            SET ue.accepted = true,
+                ue.rejected = false,
+                ue.rejectReason = null,
+                ue.rejectedAt = null
+            WHERE ue.id.eventId = :eventId
+              AND ue.id.userId IN :userIds
+              AND ue.deletedAt IS NULL
+              AND ue.revoked = false
+            """)
+    int acceptApplications(
+            @Param("eventId") Integer eventId,
+            @Param("userIds") Collection<Integer> userIds
+    );
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE UserEventEntity ue
+            SET ue.accepted = false,
+                ue.rejected = true,
+                ue.rejectReason = :rejectReason,
+                ue.rejectedAt = :rejectedAt
+            WHERE ue.id.eventId = :eventId
+              AND ue.id.userId IN :userIds
+              AND ue.deletedAt IS NULL
+              AND ue.revoked = false
+            """)
+    int rejectApplications(
+            @Param("eventId") Integer eventId,
+            @Param("userIds") Collection<Integer> userIds,
+            @Param("rejectReason") String rejectReason,
+            @Param("rejectedAt") LocalDateTime rejectedAt
+    );
+
+    @Query("SELECT ue.id.eventId FROM UserEventEntity ue WHERE ue.id.userId = :userId AND ue.deletedAt IS NULL")
+    List<Integer> findEventIdsByUserId(@Param("userId") Integer userId);
+
     boolean existsByUserAndEvent(UserEntity user, EventEntity event);
 
     List<UserEventEntity> findAllByUserAndDeletedAtIsNull(UserEntity user);
@@ -33,18 +174,16 @@ public interface UserEventRepository extends JpaRepository<UserEventEntity, User
 
     boolean existsByUserAndEventAndDeletedAtIsNull(UserEntity user, EventEntity event);
 
-    long countByEventAndDeletedAtIsNullAndRejectedFalseAndRevokedFalse(EventEntity event);
-
-    long countByEventAndDeletedAtIsNullAndAcceptedTrueAndRevokedFalse(EventEntity event);
-
     @Query("""
             SELECT e
             FROM UserEventEntity ue
             JOIN ue.event e
             WHERE ue.user.userId = :userId
               AND ue.deletedAt IS NULL
-              AND ue.revoked = false
-              AND ue.rejected = false
+              AND ue.status IN (
+                  org.adt.volunteerscase.entity.UserEventStatus.PENDING,
+                  org.adt.volunteerscase.entity.UserEventStatus.ACCEPTED
+              )
               AND e.dateTimestamp > :now
               AND e.status <> org.adt.volunteerscase.entity.event.EventStatus.COMPLETED
             ORDER BY e.dateTimestamp ASC, e.eventId ASC
@@ -76,90 +215,125 @@ public interface UserEventRepository extends JpaRepository<UserEventEntity, User
             Pageable pageable
     );
 
+    @EntityGraph(attributePaths = {"event", "event.location", "event.coordinator", "event.coordinator.user"})
+    @Query("""
+            SELECT ue
+            FROM UserEventEntity ue
+            JOIN ue.event e
+            WHERE ue.user.userId = :userId
+              AND ue.deletedAt IS NULL
+            ORDER BY e.dateTimestamp DESC, e.eventId DESC
+            """)
+    List<UserEventEntity> findFirstKeysetRegisteredEvents(
+            @Param("userId") Integer userId,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = {"event", "event.location", "event.coordinator", "event.coordinator.user"})
+    @Query("""
+            SELECT ue
+            FROM UserEventEntity ue
+            JOIN ue.event e
+            WHERE ue.user.userId = :userId
+              AND ue.deletedAt IS NULL
+              AND (e.dateTimestamp, e.eventId) < (:dateTimestamp, :eventId)
+            ORDER BY e.dateTimestamp DESC, e.eventId DESC
+            """)
+    List<UserEventEntity> findKeysetRegisteredEventsAfter(
+            @Param("userId") Integer userId,
+            @Param("dateTimestamp") LocalDateTime dateTimestamp,
+            @Param("eventId") Integer eventId,
+            Pageable pageable
+    );
+
+    @EntityGraph(attributePaths = {"event", "event.location", "event.coordinator", "event.coordinator.user"})
+    @Query("""
+            SELECT ue
+            FROM UserEventEntity ue
+            JOIN ue.event e
+            WHERE ue.user.userId = :userId
+              AND ue.deletedAt IS NULL
+              AND (e.dateTimestamp, e.eventId) > (:dateTimestamp, :eventId)
+            ORDER BY e.dateTimestamp ASC, e.eventId ASC
+            """)
+    List<UserEventEntity> findKeysetRegisteredEventsBefore(
+            @Param("userId") Integer userId,
+            @Param("dateTimestamp") LocalDateTime dateTimestamp,
+            @Param("eventId") Integer eventId,
+            Pageable pageable
+    );
+
     @Query(
-            value = """
-                  SELECT new
-  org.adt.volunteerscase.dto.userEvent.response.CoordinatorEventApplicationsSummaryResponse(
-                      e.eventId,
-                      e.name,
-                      e.status,
-                      e.dateTimestamp,
-                      e.maxCapacity,
-                      COUNT(ue),
-                      SUM(CASE WHEN ue.accepted = false AND ue.rejected = false AND ue.revoked = false
-  THEN 1 ELSE 0 END),
-                      SUM(CASE WHEN ue.accepted = true AND ue.revoked = false THEN 1 ELSE 0 END),
-                      SUM(CASE WHEN ue.rejected = true AND ue.revoked = false THEN 1 ELSE 0 END),
-                      SUM(CASE WHEN ue.revoked = true THEN 1 ELSE 0 END)
-                  )
-                  FROM EventEntity e
-                  LEFT JOIN e.userEvents ue ON ue.deletedAt IS NULL
-                  WHERE e.coordinator.userId = :coordinatorId
-                  GROUP BY e.eventId, e.name, e.status, e.dateTimestamp, e.maxCapacity
-                  ORDER BY e.dateTimestamp DESC, e.eventId DESC
-  """,
-            countQuery = """
-                  SELECT COUNT(e)
-                  FROM EventEntity e
-                  WHERE e.coordinator.userId = :coordinatorId
-                  """
+            value = COORDINATOR_EVENT_APPLICATION_SUMMARIES_QUERY,
+            countQuery = COORDINATOR_EVENT_APPLICATION_SUMMARIES_COUNT_QUERY
     )
     Page<CoordinatorEventApplicationsSummaryResponse> findCoordinatorEventApplicationSummaries(
             @Param("coordinatorId") Integer coordinatorId,
             Pageable pageable
     );
 
+    @Query(COORDINATOR_EVENT_APPLICATION_SUMMARIES_QUERY)
+    Slice<CoordinatorEventApplicationsSummaryResponse> findCoordinatorEventApplicationSummarySlice(
+            @Param("coordinatorId") Integer coordinatorId,
+            Pageable pageable
+    );
+
     @Query(
-            value = """
-                  SELECT ue
-                  FROM UserEventEntity ue
-                  JOIN FETCH ue.user u
-                  JOIN FETCH ue.event e
-                  WHERE e.eventId = :eventId
-                    AND e.coordinator.userId = :coordinatorId
-                    AND ue.deletedAt IS NULL
-                    AND (
-                        :status IS NULL
-                        OR (:status = 'PENDING' AND ue.accepted = false AND ue.rejected = false AND
-  ue.revoked = false)
-                        OR (:status = 'ACCEPTED' AND ue.accepted = true AND ue.revoked = false)
-                        OR (:status = 'REJECTED' AND ue.rejected = true AND ue.revoked = false)
-                        OR (:status = 'REVOKED' AND ue.revoked = true)
-                    )
-                  ORDER BY ue.createdAt DESC, u.userId ASC
-  """,
-            countQuery = """
-                  SELECT COUNT(ue)
-                  FROM UserEventEntity ue
-                  JOIN ue.event e
-                  WHERE e.eventId = :eventId
-                    AND e.coordinator.userId = :coordinatorId
-                    AND ue.deletedAt IS NULL
-                    AND (
-                        :status IS NULL
-                        OR (:status = 'PENDING' AND ue.accepted = false AND ue.rejected = false AND
-  ue.revoked = false)
-                        OR (:status = 'ACCEPTED' AND ue.accepted = true AND ue.revoked = false)
-                        OR (:status = 'REJECTED' AND ue.rejected = true AND ue.revoked = false)
-                        OR (:status = 'REVOKED' AND ue.revoked = true)
-                    )
-  """
+            value = COORDINATOR_EVENT_APPLICATIONS_QUERY,
+            countQuery = COORDINATOR_EVENT_APPLICATIONS_COUNT_QUERY
     )
     Page<UserEventEntity> findApplicationsByCoordinatorAndEvent(
             @Param("eventId") Integer eventId,
             @Param("coordinatorId") Integer coordinatorId,
-            @Param("status") String status,
             Pageable pageable
     );
 
+    @Query(COORDINATOR_EVENT_APPLICATIONS_QUERY)
+    Slice<UserEventEntity> findApplicationSliceByCoordinatorAndEvent(
+            @Param("eventId") Integer eventId,
+            @Param("coordinatorId") Integer coordinatorId,
+            Pageable pageable
+    );
+
+    @Query(COORDINATOR_EVENT_APPLICATIONS_COUNT_QUERY)
+    long countApplicationsByCoordinatorAndEvent(
+            @Param("eventId") Integer eventId,
+            @Param("coordinatorId") Integer coordinatorId
+    );
+
+    @Query(
+            value = COORDINATOR_EVENT_APPLICATIONS_BY_STATUS_QUERY,
+            countQuery = COORDINATOR_EVENT_APPLICATIONS_BY_STATUS_COUNT_QUERY
+    )
+    Page<UserEventEntity> findApplicationsByCoordinatorAndEventAndStatus(
+            @Param("eventId") Integer eventId,
+            @Param("coordinatorId") Integer coordinatorId,
+            @Param("status") UserEventStatus status,
+            Pageable pageable
+    );
+
+    @Query(COORDINATOR_EVENT_APPLICATIONS_BY_STATUS_QUERY)
+    Slice<UserEventEntity> findApplicationSliceByCoordinatorAndEventAndStatus(
+            @Param("eventId") Integer eventId,
+            @Param("coordinatorId") Integer coordinatorId,
+            @Param("status") UserEventStatus status,
+            Pageable pageable
+    );
+
+    @Query(COORDINATOR_EVENT_APPLICATIONS_BY_STATUS_COUNT_QUERY)
+    long countApplicationsByCoordinatorAndEventAndStatus(
+            @Param("eventId") Integer eventId,
+            @Param("coordinatorId") Integer coordinatorId,
+            @Param("status") UserEventStatus status
+    );
+
     @Query("""
           SELECT COUNT(ue)
           FROM UserEventEntity ue
           JOIN ue.event e
           WHERE ue.user.userId = :userId
             AND ue.deletedAt IS NULL
-            AND ue.accepted = true
-            AND ue.revoked = false
+            AND ue.status = org.adt.volunteerscase.entity.UserEventStatus.ACCEPTED
             AND e.status = org.adt.volunteerscase.entity.event.EventStatus.COMPLETED
           """)
     long countCompletedParticipationsByUserId(
@@ -172,8 +346,7 @@ public interface UserEventRepository extends JpaRepository<UserEventEntity, User
           JOIN ue.event e
           WHERE ue.user.userId = :userId
             AND ue.deletedAt IS NULL
-            AND ue.accepted = true
-            AND ue.revoked = false
+            AND ue.status = org.adt.volunteerscase.entity.UserEventStatus.ACCEPTED
             AND e.status = :eventStatus
             AND e.dateTimestamp >= :from
             AND e.dateTimestamp < :to
@@ -191,8 +364,7 @@ public interface UserEventRepository extends JpaRepository<UserEventEntity, User
           JOIN ue.event e
           WHERE ue.user.userId = :userId
             AND ue.deletedAt IS NULL
-            AND ue.accepted = true
-            AND ue.revoked = false
+            AND ue.status = org.adt.volunteerscase.entity.UserEventStatus.ACCEPTED
             AND e.status = :eventStatus
           """)
     long sumCompletedParticipationWeightMinutesByUserId(
@@ -206,8 +378,7 @@ public interface UserEventRepository extends JpaRepository<UserEventEntity, User
           JOIN ue.event e
           WHERE ue.user.userId = :userId
             AND ue.deletedAt IS NULL
-            AND ue.accepted = true
-            AND ue.revoked = false
+            AND ue.status = org.adt.volunteerscase.entity.UserEventStatus.ACCEPTED
             AND e.status = :eventStatus
             AND e.dateTimestamp >= :from
             AND e.dateTimestamp < :to
@@ -225,8 +396,7 @@ public interface UserEventRepository extends JpaRepository<UserEventEntity, User
           JOIN ue.event e
           WHERE ue.user.userId = :userId
             AND ue.deletedAt IS NULL
-            AND ue.accepted = true
-            AND ue.revoked = false
+            AND ue.status = org.adt.volunteerscase.entity.UserEventStatus.ACCEPTED
             AND e.status = :eventStatus
           ORDER BY e.dateTimestamp ASC
           """)
@@ -242,8 +412,7 @@ public interface UserEventRepository extends JpaRepository<UserEventEntity, User
           WHERE e.coordinator.userId = :coordinatorId
             AND e.status = :eventStatus
             AND ue.deletedAt IS NULL
-            AND ue.accepted = true
-            AND ue.revoked = false
+            AND ue.status = org.adt.volunteerscase.entity.UserEventStatus.ACCEPTED
           """)
     long countCompletedEventParticipantsByCoordinatorId(
             @Param("coordinatorId") Integer coordinatorId,
@@ -258,8 +427,7 @@ public interface UserEventRepository extends JpaRepository<UserEventEntity, User
           FROM UserEventEntity ue
           JOIN ue.event e
           WHERE ue.deletedAt IS NULL
-            AND ue.accepted = true
-            AND ue.revoked = false
+            AND ue.status = org.adt.volunteerscase.entity.UserEventStatus.ACCEPTED
             AND ue.user.deletedAt IS NULL
             AND ue.user.isAdmin = false
             AND ue.user.isCoordinator = false
@@ -278,8 +446,7 @@ public interface UserEventRepository extends JpaRepository<UserEventEntity, User
           FROM UserEventEntity ue
           JOIN ue.event e
           WHERE ue.deletedAt IS NULL
-            AND ue.accepted = true
-            AND ue.revoked = false
+            AND ue.status = org.adt.volunteerscase.entity.UserEventStatus.ACCEPTED
             AND ue.user.deletedAt IS NULL
             AND ue.user.isAdmin = false
             AND ue.user.isCoordinator = false
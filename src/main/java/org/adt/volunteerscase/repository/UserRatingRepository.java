@@ -4,6 +4,7 @@ import org.adt.volunteerscase.entity.rating.RatingPeriod;
 import org.adt.volunteerscase.entity.rating.UserRatingEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -18,6 +19,13 @@ public interface UserRatingRepository extends JpaRepository<UserRatingEntity, Lo
             Pageable pageable
     );
 
+    Slice<UserRatingEntity> findSliceByPeriodOrderByRatingPositionAscUserUserIdAsc(
+            RatingPeriod period,
+            Pageable pageable
+    );
+
+    long countByPeriod(RatingPeriod period);
+
     Optional<UserRatingEntity> findByPeriodAndUserUserId(
             RatingPeriod period,
             Integer userId
@@ -70,4 +70,6 @@ public interface UserRepository extends JpaRepository<UserEntity, Integer> {
 
     boolean existsByTagsContaining(TagEntity tag);
 
+    @Query("SELECT t.tagId FROM UserEntity u JOIN u.tags t WHERE u.userId = :userId")
+    List<Integer> findTagIdsByUserId(@Param("userId") Integer userId);
 }
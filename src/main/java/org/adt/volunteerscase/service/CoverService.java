@@ -12,4 +12,13 @@ public interface CoverService {
     void deleteCoverById(Integer coverId);
 
     CoverResponse getCoverById(Integer coverId);
+
+    /**
+     * Moves one batch of covers from the legacy Base64 metadata column into the metadata columns.
+     *
+     * @param afterCoverId only covers with a greater id are migrated
+     * @param batchSize    maximum number of covers in the batch
+     * @return id of the last cover in the batch, or {@code null} when nothing is left to migrate
+     */
+    Integer migrateLegacyMetadata(Integer afterCoverId, int batchSize);
 }
@@ -6,31 +6,93 @@ import org.adt.volunteerscase.dto.event.request.EventPatchRequest;
 import org.adt.volunteerscase.dto.event.request.EventStatusPatchRequest;
 import org.adt.volunteerscase.dto.event.response.GetAllResponse;
 import org.adt.volunteerscase.dto.event.response.PatchResponse;
+import org.adt.volunteerscase.dto.page.response.CursorPageResponse;
 import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.entity.user.UserDetailsImpl;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.adt.volunteerscase.dto.event.request.EventSearchRequest;
 import org.adt.volunteerscase.dto.event.request.EventCreateV2Request;
+import org.adt.volunteerscase.dto.event.request.EventBulkCreateRequest;
+import org.adt.volunteerscase.dto.event.response.EventBulkCreateResponse;
+import org.adt.volunteerscase.dto.event.response.EventDetailCacheStatsResponse;
+import org.adt.volunteerscase.dto.event.response.EventMapClusterResponse;
 import org.adt.volunteerscase.dto.event.response.EventV2Response;
+import org.adt.volunteerscase.dto.event.request.EventFilterRequest;
+import org.adt.volunteerscase.dto.event.request.EventTagMatch;
+import org.adt.volunteerscase.entity.event.EventStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
 
 public interface EventService {
 
     void createEvent(EventCreateRequest request);
-    PatchResponse patchEvent(Integer eventId, EventPatchRequest request);
+    default PatchResponse patchEvent(Integer eventId, EventPatchRequest request) {
+        return patchEvent(eventId, request, null);
+    }
+    PatchResponse patchEvent(Integer eventId, EventPatchRequest request, Long expectedVersion);
     void updateStatus(Integer eventId, EventStatusPatchRequest request);
     void deleteEvent(Integer eventId);
 
     GetAllResponse getEventById(Integer eventId);
-    PageResponse<GetAllResponse> getAllEvents(Pageable pageable);
-    PageResponse<GetAllResponse> searchEvents(EventSearchRequest request, Pageable pageable);
+    Long getEventVersion(Integer eventId);
+    default PageResponse<GetAllResponse> getAllEvents(Pageable pageable) {
+        return getAllEvents(pageable, TotalMode.EXACT);
+    }
+    PageResponse<GetAllResponse> getAllEvents(Pageable pageable, TotalMode totalMode);
+    CursorPageResponse<GetAllResponse> getAllEventsByCursor(String cursor, int size);
+    default PageResponse<GetAllResponse> searchEvents(EventSearchRequest request, Pageable pageable) {
+        return searchEvents(request, pageable, TotalMode.EXACT);
+    }
+    PageResponse<GetAllResponse> searchEvents(EventSearchRequest request, Pageable pageable, TotalMode totalMode);
 
-    PageResponse<GetAllResponse> getRecommendations(Integer currentUserId, Pageable pageable);
+    default PageResponse<GetAllResponse> getRecommendations(Integer currentUserId, Pageable pageable) {
+        return getRecommendations(currentUserId, pageable, TotalMode.EXACT);
+    }
+    PageResponse<GetAllResponse> getRecommendations(Integer currentUserId, Pageable pageable, TotalMode totalMode);
 
     void createEventV2(EventCreateV2Request request);
 
+    EventBulkCreateResponse createEventsV2Bulk(EventBulkCreateRequest request);
+
     EventV2Response getEventV2ById(Integer eventId);
 
-    PageResponse<EventV2Response> getAllEventsV2(Pageable pageable);
+    EventDetailCacheStatsResponse getEventDetailCacheStats();
+
+    default PageResponse<EventV2Response> getAllEventsV2(Pageable pageable) {
+        return getAllEventsV2(pageable, TotalMode.EXACT);
+    }
+
+    PageResponse<EventV2Response> getAllEventsV2(Pageable pageable, TotalMode totalMode);
+
+    CursorPageResponse<EventV2Response> getAllEventsV2ByCursor(String cursor, int size);
+
+    PageResponse<EventV2Response> getUpcomingEventsNearby(double latitude, double longitude, double radiusKm, Pageable pageable);
+
+    PageResponse<EventV2Response> getPopularUpcomingEventsV2(Pageable pageable);
+
+    List<EventV2Response> getTrendingEventsV2(int limit);
+
+    PageResponse<EventV2Response> filterEventsV2(EventFilterRequest filter, Pageable pageable);
+
+    PageResponse<EventV2Response> browseEventsV2(
+            Set<Integer> tagIds,
+            EventTagMatch tagMatch,
+            Set<EventStatus> statuses,
+            LocalDate from,
+            LocalDate to,
+            Pageable pageable
+    );
+
+    List<EventMapClusterResponse> getUpcomingEventMapClusters(
+            double minLatitude,
+            double maxLatitude,
+            double minLongitude,
+            double maxLongitude,
+            int zoom
+    );
 }
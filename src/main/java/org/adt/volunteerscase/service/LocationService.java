@@ -6,11 +6,15 @@ import org.adt.volunteerscase.dto.location.request.LocationSearchRequest;
 import org.adt.volunteerscase.dto.location.response.LocationPatchResponse;
 import org.adt.volunteerscase.dto.location.response.LocationResponse;
 import org.adt.volunteerscase.dto.page.response.PageResponse;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.springframework.data.domain.Pageable;
 
 public interface LocationService {
 
     void createLocation(LocationCreateRequest request);
-    PageResponse<LocationResponse> searchLocations(LocationSearchRequest request, Pageable pageable);
+    default PageResponse<LocationResponse> searchLocations(LocationSearchRequest request, Pageable pageable) {
+        return searchLocations(request, pageable, TotalMode.EXACT);
+    }
+    PageResponse<LocationResponse> searchLocations(LocationSearchRequest request, Pageable pageable, TotalMode totalMode);
     LocationPatchResponse updateLocation(LocationPatchRequest request, Integer locationId);
 }
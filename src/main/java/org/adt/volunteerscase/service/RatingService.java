@@ -4,6 +4,7 @@ import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.dto.rating.response.CoordinatorRatingResponse;
 import org.adt.volunteerscase.dto.rating.response.UserRatingResponse;
 import org.adt.volunteerscase.entity.rating.RatingPeriod;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.springframework.data.domain.Pageable;
 
 public interface RatingService {
@@ -14,9 +15,17 @@ public interface RatingService {
 
     void rebuildCoordinatorRatings(RatingPeriod period);
 
-    PageResponse<UserRatingResponse> getUserRating(RatingPeriod period, Pageable pageable);
+    default PageResponse<UserRatingResponse> getUserRating(RatingPeriod period, Pageable pageable) {
+        return getUserRating(period, pageable, TotalMode.EXACT);
+    }
 
-    PageResponse<CoordinatorRatingResponse> getCoordinatorRating(RatingPeriod period, Pageable pageable);
+    PageResponse<UserRatingResponse> getUserRating(RatingPeriod period, Pageable pageable, TotalMode totalMode);
+
+    default PageResponse<CoordinatorRatingResponse> getCoordinatorRating(RatingPeriod period, Pageable pageable) {
+        return getCoordinatorRating(period, pageable, TotalMode.EXACT);
+    }
+
+    PageResponse<CoordinatorRatingResponse> getCoordinatorRating(RatingPeriod period, Pageable pageable, TotalMode totalMode);
 
     Integer getUserRatingPosition(Integer userId, RatingPeriod period);
 
@@ -7,11 +7,13 @@ import org.adt.volunteerscase.dto.tag.request.TagUpdateRequest;
 import org.adt.volunteerscase.dto.tag.response.TagGetResponse;
 import org.adt.volunteerscase.entity.TagEntity;
 
+import java.util.List;
 import java.util.Set;
 
 public interface TagService {
 
     Set<TagEntity> getTagEntities(Set<Integer> tagIds);
+    List<TagEntity> findTagEntities(Set<Integer> tagIds);
     void createTag(TagCreateRequest request);
 
     void updateTag(TagUpdateRequest request, Integer tagId);
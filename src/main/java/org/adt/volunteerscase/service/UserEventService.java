@@ -3,16 +3,26 @@ package org.adt.volunteerscase.service;
 
 import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.dto.userEvent.request.CoordinatorApplicationFilterRequest;
+import org.adt.volunteerscase.dto.userEvent.request.UserEventBulkStatusPatchRequest;
 import org.adt.volunteerscase.dto.userEvent.request.UserEventStatusPatchRequest;
 import org.adt.volunteerscase.dto.userEvent.response.CoordinatorApplicationResponse;
 import org.adt.volunteerscase.dto.userEvent.response.CoordinatorEventApplicationsSummaryResponse;
+import org.adt.volunteerscase.dto.userEvent.response.UserEventBulkStatusResponse;
 import org.adt.volunteerscase.dto.userEvent.response.UserEventResponse;
+import org.adt.volunteerscase.service.event.ApplicationAdmission;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 public interface UserEventService {
 
     UserEventResponse createApplication(Integer eventId, Integer currentUserId);
 
+    List<UserEventResponse> createGroupApplication(Integer eventId, List<Integer> userIds, Integer currentUserId);
+
+    List<ApplicationAdmission> admitApplications(Integer eventId, List<Integer> userIds);
+
     UserEventResponse updateApplicationStatus(
             Integer eventId,
             Integer userId,
@@ -20,17 +30,41 @@ public interface UserEventService {
             Integer currentCoordinatorId
     );
 
+    UserEventBulkStatusResponse updateApplicationStatuses(
+            Integer eventId,
+            UserEventBulkStatusPatchRequest request,
+            Integer currentCoordinatorId
+    );
+
     UserEventResponse getMyApplicationStatus(Integer eventId, Integer currentUserId);
 
-    PageResponse<CoordinatorEventApplicationsSummaryResponse> getMyEventApplicationSummaries(
+    default PageResponse<CoordinatorEventApplicationsSummaryResponse> getMyEventApplicationSummaries(
             Integer currentCoordinatorId,
             Pageable pageable
+    ) {
+        return getMyEventApplicationSummaries(currentCoordinatorId, pageable, TotalMode.EXACT);
+    }
+
+    PageResponse<CoordinatorEventApplicationsSummaryResponse> getMyEventApplicationSummaries(
+            Integer currentCoordinatorId,
+            Pageable pageable,
+            TotalMode totalMode
     );
 
-    PageResponse<CoordinatorApplicationResponse> getApplicationsForMyEvent(
+    default PageResponse<CoordinatorApplicationResponse> getApplicationsForMyEvent(
             Integer eventId,
             CoordinatorApplicationFilterRequest filter,
             Integer currentCoordinatorId,
             Pageable pageable
+    ) {
+        return getApplicationsForMyEvent(eventId, filter, currentCoordinatorId, pageable, TotalMode.EXACT);
+    }
+
+    PageResponse<CoordinatorApplicationResponse> getApplicationsForMyEvent(
+            Integer eventId,
+            CoordinatorApplicationFilterRequest filter,
+            Integer currentCoordinatorId,
+            Pageable pageable,
+            TotalMode totalMode
     );
 }
\ No newline at end of file
@@ -1,5 +1,6 @@
 package org.adt.volunteerscase.service;
 
+import org.adt.volunteerscase.dto.page.response.CursorPageResponse;
 import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.dto.user.request.UpdateCoordinatorRequest;
 import org.adt.volunteerscase.dto.user.response.GetUserResponse;
@@ -22,4 +23,6 @@ public interface UserService {
     GetUserV2Response getCurrentUserV2(UserEntity currentUser);
 
     PageResponse<RegisteredEventResponse> getRegisteredEvents(UserEntity currentUser, Pageable pageable);
+
+    CursorPageResponse<RegisteredEventResponse> getRegisteredEventsByCursor(UserEntity currentUser, String cursor, int size);
 }
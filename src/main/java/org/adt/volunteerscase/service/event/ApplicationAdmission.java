@@ -0,0 +1,17 @@
+package org.adt.volunteerscase.service.event;
+
+import org.adt.volunteerscase.dto.userEvent.response.UserEventResponse;
+
+/**
+ * Outcome of one application inside an admission batch: either the created application or the reason it was refused.
+ */
+public record ApplicationAdmission(UserEventResponse response, RuntimeException failure) {
+
+    public static ApplicationAdmission admitted(UserEventResponse response) {
+        return new ApplicationAdmission(response, null);
+    }
+
+    public static ApplicationAdmission refused(RuntimeException failure) {
+        return new ApplicationAdmission(null, failure);
+    }
+}
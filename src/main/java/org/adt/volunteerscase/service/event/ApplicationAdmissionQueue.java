@@ -0,0 +1,209 @@
+package org.adt.volunteerscase.service.event;
+
+import jakarta.annotation.PreDestroy;
+import org.adt.volunteerscase.dto.userEvent.response.UserEventResponse;
+import org.adt.volunteerscase.exception.ApplicationAdmissionUnavailableException;
+import org.adt.volunteerscase.service.UserEventService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Opt-in admission mode for sign-ups on hot events.
+ * <p>
+ * Applications for the same event are collected for a short window and admitted together by
+ * {@link UserEventService#admitApplications}: one transaction, one capacity check and one batched insert per window,
+ * so the database load of an event no longer grows with the size of the burst. Every event is pinned to one
+ * single-threaded stripe, which keeps its batches strictly sequential. When the mode is off, applications go
+ * straight to {@link UserEventService#createApplication}.
+ * <p>
+ * A caller waits at most {@code timeout-ms} for its batch. An application that times out before its window is drained
+ * is left out of the batch; one that times out while its batch is running may still be admitted.
+ */
+@Component
+public class ApplicationAdmissionQueue {
+
+    private final UserEventService userEventService;
+    private final boolean enabled;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final long timeoutMs;
+    private final ScheduledExecutorService[] stripes;
+    private final ConcurrentMap<Integer, EventQueue> queues = new ConcurrentHashMap<>();
+
+    public ApplicationAdmissionQueue(
+            UserEventService userEventService,
+            @Value("${user-event.admission.batching.enabled:false}") boolean enabled,
+            @Value("${user-event.admission.batching.window-ms:20}") long windowMs,
+            @Value("${user-event.admission.batching.max-batch-size:200}") int maxBatchSize,
+            @Value("${user-event.admission.batching.timeout-ms:5000}") long timeoutMs,
+            @Value("${user-event.admission.batching.stripes:4}") int stripeCount
+    ) {
+        this.userEventService = userEventService;
+        this.enabled = enabled;
+        this.windowMs = windowMs;
+        this.maxBatchSize = maxBatchSize;
+        this.timeoutMs = timeoutMs;
+        this.stripes = new ScheduledExecutorService[enabled ? stripeCount : 0];
+        for (int index = 0; index < stripes.length; index++) {
+            String threadName = "application-admission-" + index;
+            ScheduledThreadPoolExecutor stripe = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, threadName);
+                thread.setDaemon(true);
+                return thread;
+            });
+            // windows that have not started yet are failed by shutdown() instead of admitted on a closing context
+            stripe.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+            stripes[index] = stripe;
+        }
+    }
+
+    /**
+     * Creates an application of the user, through the admission queue when batching is enabled.
+     * The caller is blocked until the batch holding its application is committed or rolled back.
+     *
+     * @throws ApplicationAdmissionUnavailableException when the batch did not finish in time or the queue is shut down
+     */
+    public UserEventResponse createApplication(Integer eventId, Integer userId) {
+        if (!enabled) {
+            return userEventService.createApplication(eventId, userId);
+        }
+
+        try {
+            return submit(eventId, userId).orTimeout(timeoutMs, TimeUnit.MILLISECONDS).join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof TimeoutException) {
+                throw new ApplicationAdmissionUnavailableException(
+                        "application of user with id - " + userId + " to event with id - " + eventId
+                                + " was not admitted within " + timeoutMs + " ms"
+                );
+            }
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    private CompletableFuture<UserEventResponse> submit(Integer eventId, Integer userId) {
+        PendingApplication application = new PendingApplication(userId, new CompletableFuture<>());
+        EventQueue queue = queues.computeIfAbsent(eventId, id -> new EventQueue());
+        queue.pending.add(application);
+
+        if (queue.scheduled.compareAndSet(false, true)) {
+            try {
+                stripes[Math.floorMod(eventId, stripes.length)]
+                        .schedule(() -> drain(eventId, queue), windowMs, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException ex) {
+                // the stripe is shut down and will never drain this queue
+                reject(eventId, queue);
+            }
+        }
+        return application.result();
+    }
+
+    private void drain(Integer eventId, EventQueue queue) {
+        // cleared before polling, so an application queued after the last poll schedules the next window
+        queue.scheduled.set(false);
+
+        List<PendingApplication> batch = new ArrayList<>();
+        PendingApplication application;
+        while ((application = queue.pending.poll()) != null) {
+            batch.add(application);
+            if (batch.size() == maxBatchSize) {
+                admit(eventId, batch);
+                batch = new ArrayList<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            admit(eventId, batch);
+        }
+
+        // a submit that still holds this queue schedules its own window on it, so removing it loses nothing
+        if (queue.pending.isEmpty() && !queue.scheduled.get()) {
+            queues.remove(eventId, queue);
+        }
+    }
+
+    private void admit(Integer eventId, List<PendingApplication> batch) {
+        // callers that already timed out got an error, so their applications must not be created behind their back
+        batch.removeIf(pending -> pending.result().isDone());
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<ApplicationAdmission> admissions = userEventService.admitApplications(
+                    eventId,
+                    batch.stream().map(PendingApplication::userId).toList()
+            );
+
+            for (int index = 0; index < batch.size(); index++) {
+                ApplicationAdmission admission = admissions.get(index);
+                if (admission.failure() != null) {
+                    batch.get(index).result().completeExceptionally(admission.failure());
+                } else {
+                    batch.get(index).result().complete(admission.response());
+                }
+            }
+        } catch (RuntimeException | Error ex) {
+            batch.forEach(pending -> pending.result().completeExceptionally(ex));
+        }
+    }
+
+    private void reject(Integer eventId, EventQueue queue) {
+        queue.scheduled.set(false);
+
+        PendingApplication application;
+        while ((application = queue.pending.poll()) != null) {
+            application.result().completeExceptionally(
+                    new ApplicationAdmissionUnavailableException("application admission is shut down")
+            );
+        }
+        queues.remove(eventId, queue);
+    }
+
+    /**
+     * Stops accepting applications, waits for the batches that are already running and fails whatever is still queued.
+     * Applications submitted afterwards are refused by the stopped stripes.
+     */
+    @PreDestroy
+    public void shutdown() {
+        for (ScheduledExecutorService stripe : stripes) {
+            stripe.shutdown();
+        }
+        try {
+            for (ScheduledExecutorService stripe : stripes) {
+                stripe.awaitTermination(timeoutMs, TimeUnit.MILLISECONDS);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        queues.forEach(this::reject);
+    }
+
+    private static final class EventQueue {
+        private final Queue<PendingApplication> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+    }
+
+    private record PendingApplication(Integer userId, CompletableFuture<UserEventResponse> result) {
+    }
+}
@@ -0,0 +1,38 @@
+package org.adt.volunteerscase.service.event;
+
+import lombok.RequiredArgsConstructor;
+import org.adt.volunteerscase.repository.EventRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Verifies the application counters stored on {@code event} against {@code user_events} and repairs drifted ones.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationCounterReconciler {
+
+    private final EventRepository eventRepository;
+    private final EventCardWriter eventCardWriter;
+
+    @Transactional(readOnly = true)
+    public List<Integer> findDriftedEventIds() {
+        return eventRepository.findEventIdsWithDriftedApplicationCounters();
+    }
+
+    /**
+     * Recounts the applications of one event while holding its row lock, so the recount cannot interleave
+     * with an application changing state.
+     */
+    @Transactional
+    public void reconcile(Integer eventId) {
+        if (eventRepository.findByEventIdForUpdate(eventId).isEmpty()) {
+            return;
+        }
+
+        eventRepository.recountApplicationCounters(eventId);
+        eventCardWriter.refreshApplicationCounts(eventId);
+    }
+}
@@ -0,0 +1,334 @@
+package org.adt.volunteerscase.service.event;
+
+import org.adt.volunteerscase.dto.event.EventIndexRow;
+import org.adt.volunteerscase.dto.event.EventTagRow;
+import org.adt.volunteerscase.dto.event.request.EventTagMatch;
+import org.adt.volunteerscase.entity.TagEntity;
+import org.adt.volunteerscase.entity.event.EventStatus;
+import org.adt.volunteerscase.repository.EventRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * In-process inverted index of every event for filtered browsing.
+ * <p>
+ * Keeps one bitset of event ids per tag, per {@link EventStatus} and per calendar day of the event date, so a filter
+ * by tags (any-of or all-of), statuses and a date window is a handful of bitset OR/AND operations. Days are walked from
+ * the latest one, which yields the usual newest-first order and lets whole days before the requested page be skipped
+ * by their cardinality; only the ids of the page are sorted and handed to Postgres for hydration. The filter bitset is
+ * built once per query and every day is matched through one reusable scratch bitset, so a wide date window does not
+ * allocate per day.
+ * <p>
+ * Writers update the index after their transaction commits; a periodic {@link #rebuild()} repairs whatever the
+ * incremental updates miss. Writes that land while a rebuild reads its snapshot are logged and replayed on top of it,
+ * so the snapshot can not undo them. The first query builds the index if the startup build has not finished yet;
+ * concurrent first queries wait for that single build.
+ */
+@Component
+public class EventBitmapIndex {
+
+    private static final Comparator<IndexedEvent> NEWEST_FIRST = Comparator
+            .comparing(IndexedEvent::dateTimestamp).reversed()
+            .thenComparing(Comparator.comparing(IndexedEvent::eventId).reversed());
+
+    private final EventRepository eventRepository;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Integer, IndexedEvent> events = new HashMap<>();
+    private Map<Integer, BitSet> eventsByTag = new HashMap<>();
+    private Map<EventStatus, BitSet> eventsByStatus = new EnumMap<>(EventStatus.class);
+    private NavigableMap<LocalDate, BitSet> eventsByDay = new TreeMap<>();
+    private volatile boolean ready;
+
+    // writes seen since the running rebuild started reading, null when no rebuild runs; guarded by the write lock
+    private List<Runnable> rebuildLog;
+
+    public EventBitmapIndex(EventRepository eventRepository) {
+        this.eventRepository = eventRepository;
+    }
+
+    /**
+     * Reloads every event and its tags from the database.
+     *
+     * @return number of indexed events
+     */
+    public synchronized int rebuild() {
+        lock.writeLock().lock();
+        try {
+            rebuildLog = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            return swapIn(loadEvents());
+        } finally {
+            lock.writeLock().lock();
+            try {
+                rebuildLog = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private List<IndexedEvent> loadEvents() {
+        Map<Integer, Set<Integer>> tagIdsByEventId = new HashMap<>();
+        for (EventTagRow row : eventRepository.findAllEventTags()) {
+            tagIdsByEventId.computeIfAbsent(row.getEventId(), id -> new HashSet<>()).add(row.getTagId());
+        }
+        return eventRepository.findAllEventIndexRows().stream()
+                .map(row -> new IndexedEvent(
+                        row.getEventId(),
+                        row.getStatus(),
+                        row.getDateTimestamp(),
+                        tagIdsByEventId.getOrDefault(row.getEventId(), Set.of())
+                ))
+                .toList();
+    }
+
+    private int swapIn(List<IndexedEvent> rows) {
+        lock.writeLock().lock();
+        try {
+            events = new HashMap<>();
+            eventsByTag = new HashMap<>();
+            eventsByStatus = new EnumMap<>(EventStatus.class);
+            eventsByDay = new TreeMap<>();
+            rows.forEach(this::add);
+            rebuildLog.forEach(Runnable::run);
+            ready = true;
+            return events.size();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns one page of the events matching every given filter, latest event date first.
+     *
+     * @param filter   tags, statuses and date window to match; empty parts do not restrict the result
+     * @param pageable page to return, its sort is ignored
+     * @return page of event ids with the exact number of matching events
+     */
+    public Page<Integer> browse(Filter filter, Pageable pageable) {
+        ensureBuilt();
+
+        lock.readLock().lock();
+        try {
+            BitSet matching = matchTags(filter.tagIds(), filter.tagMatch());
+            if (filter.statuses() != null && !filter.statuses().isEmpty()) {
+                BitSet byStatus = new BitSet();
+                for (EventStatus status : filter.statuses()) {
+                    BitSet withStatus = eventsByStatus.get(status);
+                    if (withStatus != null) {
+                        byStatus.or(withStatus);
+                    }
+                }
+                if (matching == null) {
+                    matching = byStatus;
+                } else {
+                    matching.and(byStatus);
+                }
+            }
+
+            long skip = pageable.getOffset();
+            long total = 0;
+            List<Integer> eventIds = new ArrayList<>(pageable.getPageSize());
+            BitSet scratch = new BitSet();
+
+            for (BitSet day : days(filter.from(), filter.to()).descendingMap().values()) {
+                BitSet dayMatching = day;
+                if (matching != null) {
+                    if (!day.intersects(matching)) {
+                        continue;
+                    }
+                    scratch.clear();
+                    scratch.or(day);
+                    scratch.and(matching);
+                    dayMatching = scratch;
+                }
+                int dayCount = dayMatching.cardinality();
+                total += dayCount;
+
+                if (eventIds.size() == pageable.getPageSize() || dayCount == 0) {
+                    continue;
+                }
+                if (skip >= dayCount) {
+                    skip -= dayCount;
+                    continue;
+                }
+
+                List<IndexedEvent> dayEvents = dayMatching.stream()
+                        .mapToObj(events::get)
+                        .sorted(NEWEST_FIRST)
+                        .toList();
+                for (int index = (int) skip; index < dayEvents.size() && eventIds.size() < pageable.getPageSize(); index++) {
+                    eventIds.add(dayEvents.get(index).eventId());
+                }
+                skip = 0;
+            }
+
+            return new PageImpl<>(eventIds, pageable, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Replaces the indexed state of the changed events and drops the deleted ones once their transaction commits.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsChanged(EventsChanged change) {
+        List<IndexedEvent> indexed = change.changedEvents().stream()
+                .map(event -> new IndexedEvent(
+                        event.getEventId(),
+                        event.getStatus(),
+                        event.getDateTimestamp(),
+                        event.getTags() == null
+                                ? Set.of()
+                                : event.getTags().stream().map(TagEntity::getTagId).collect(Collectors.toSet())
+                ))
+                .toList();
+
+        write(() -> {
+            indexed.forEach(event -> {
+                remove(event.eventId());
+                add(event);
+            });
+            change.removedEventIds().forEach(this::remove);
+        });
+    }
+
+    /**
+     * Drops the tag from every event once the current transaction commits.
+     */
+    public void removeTagAfterCommit(Integer tagId) {
+        AfterCommit.run(() -> write(() -> {
+            BitSet tagged = eventsByTag.remove(tagId);
+            if (tagged == null) {
+                return;
+            }
+            tagged.stream().forEach(eventId -> {
+                IndexedEvent event = events.get(eventId);
+                Set<Integer> tagIds = new HashSet<>(event.tagIds());
+                tagIds.remove(tagId);
+                events.put(eventId, new IndexedEvent(event.eventId(), event.status(), event.dateTimestamp(), tagIds));
+            });
+        }));
+    }
+
+    private void ensureBuilt() {
+        if (ready) {
+            return;
+        }
+        synchronized (this) {
+            if (!ready) {
+                rebuild();
+            }
+        }
+    }
+
+    // null stands for "every event", so an absent tag filter costs nothing
+    private BitSet matchTags(Set<Integer> tagIds, EventTagMatch tagMatch) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return null;
+        }
+
+        BitSet matching = null;
+        for (Integer tagId : tagIds) {
+            BitSet tagged = eventsByTag.getOrDefault(tagId, new BitSet());
+            if (matching == null) {
+                matching = (BitSet) tagged.clone();
+            } else if (tagMatch == EventTagMatch.ALL) {
+                matching.and(tagged);
+            } else {
+                matching.or(tagged);
+            }
+        }
+        return matching;
+    }
+
+    private NavigableMap<LocalDate, BitSet> days(LocalDate from, LocalDate to) {
+        if (from != null && to != null) {
+            return eventsByDay.subMap(from, true, to, true);
+        }
+        if (from != null) {
+            return eventsByDay.tailMap(from, true);
+        }
+        if (to != null) {
+            return eventsByDay.headMap(to, true);
+        }
+        return eventsByDay;
+    }
+
+    private void add(IndexedEvent event) {
+        events.put(event.eventId(), event);
+        eventsByStatus.computeIfAbsent(event.status(), status -> new BitSet()).set(event.eventId());
+        eventsByDay.computeIfAbsent(event.dateTimestamp().toLocalDate(), day -> new BitSet()).set(event.eventId());
+        event.tagIds().forEach(tagId -> eventsByTag.computeIfAbsent(tagId, id -> new BitSet()).set(event.eventId()));
+    }
+
+    private void remove(Integer eventId) {
+        IndexedEvent event = events.remove(eventId);
+        if (event == null) {
+            return;
+        }
+        clear(eventsByStatus, event.status(), eventId);
+        clear(eventsByDay, event.dateTimestamp().toLocalDate(), eventId);
+        event.tagIds().forEach(tagId -> clear(eventsByTag, tagId, eventId));
+    }
+
+    private static <K> void clear(Map<K, BitSet> bitmaps, K key, int eventId) {
+        BitSet bitmap = bitmaps.get(key);
+        if (bitmap == null) {
+            return;
+        }
+        bitmap.clear(eventId);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+
+    private void write(Runnable action) {
+        lock.writeLock().lock();
+        try {
+            action.run();
+            if (rebuildLog != null) {
+                rebuildLog.add(action);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Browse filter; {@code null} or empty parts match every event.
+     *
+     * @param tagIds   tags to match
+     * @param tagMatch whether an event needs any or all of {@code tagIds}
+     * @param statuses accepted event statuses
+     * @param from     first day of the event date window, inclusive
+     * @param to       last day of the event date window, inclusive
+     */
+    public record Filter(
+            Set<Integer> tagIds,
+            EventTagMatch tagMatch,
+            Set<EventStatus> statuses,
+            LocalDate from,
+            LocalDate to
+    ) {
+    }
+
+    private record IndexedEvent(Integer eventId, EventStatus status, LocalDateTime dateTimestamp, Set<Integer> tagIds) {
+    }
+}
@@ -0,0 +1,119 @@
+package org.adt.volunteerscase.service.event;
+
+import lombok.RequiredArgsConstructor;
+import org.adt.volunteerscase.dto.event.EventCardMapper;
+import org.adt.volunteerscase.entity.event.EventCardEntity;
+import org.adt.volunteerscase.entity.event.EventEntity;
+import org.adt.volunteerscase.repository.EventCardRepository;
+import org.adt.volunteerscase.repository.EventRepository;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps {@code event_card} in step with the tables it is built from and publishes {@link EventsChanged}
+ * for every other store derived from the events.
+ * Every method joins the caller's transaction, so a card never outlives a rolled back change.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventCardWriter {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final EventRepository eventRepository;
+    private final EventCardRepository eventCardRepository;
+    private final EventCardMapper eventCardMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional
+    public void refresh(Integer eventId) {
+        refreshAll(List.of(eventId));
+    }
+
+    /**
+     * Rewrites the cards of the given events from their current state; cards of events that no longer exist are removed.
+     */
+    @Transactional
+    public void refreshAll(Collection<Integer> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return;
+        }
+
+        Set<Integer> uniqueEventIds = new LinkedHashSet<>(eventIds);
+        List<EventEntity> events = eventRepository.findDetailedByEventIdIn(uniqueEventIds);
+        List<EventCardEntity> cards = events.stream()
+                .map(event -> eventCardMapper.toCard(
+                        event,
+                        event.getAcceptedCount(),
+                        event.getActiveCount() - event.getAcceptedCount()
+                ))
+                .collect(Collectors.toList());
+        eventCardRepository.saveAll(cards);
+
+        events.forEach(event -> uniqueEventIds.remove(event.getEventId()));
+        if (!uniqueEventIds.isEmpty()) {
+            eventCardRepository.deleteAllByIdInBatch(uniqueEventIds);
+        }
+        eventPublisher.publishEvent(new EventsChanged(events, uniqueEventIds));
+    }
+
+    @Transactional
+    public void refreshByCoverId(Integer coverId) {
+        refreshAll(eventRepository.findEventIdsByCoverId(coverId));
+    }
+
+    @Transactional
+    public void refreshByLocationId(Integer locationId) {
+        refreshAll(eventRepository.findEventIdsByLocationId(locationId));
+    }
+
+    /**
+     * Copies the application counters of the event onto its card after one of its applications changed state.
+     */
+    @Transactional
+    public void refreshApplicationCounts(Integer eventId) {
+        eventCardRepository.refreshApplicationCounts(eventId);
+    }
+
+    @Transactional
+    public void delete(Integer eventId) {
+        eventCardRepository.deleteById(eventId);
+        eventPublisher.publishEvent(EventsChanged.removed(eventId));
+    }
+
+    /**
+     * Rebuilds every card in batches, for rows written around the services such as seed data.
+     * Each batch commits in a transaction of its own: the method is called without one on startup,
+     * and a self-invocation would not go through the transactional proxy.
+     *
+     * @return number of rebuilt cards
+     */
+    public int rebuildAll() {
+        int rebuilt = 0;
+        Pageable batch = PageRequest.of(0, REBUILD_BATCH_SIZE);
+
+        while (true) {
+            Pageable currentBatch = batch;
+            Slice<Integer> eventIdSlice = transactionTemplate.execute(status -> {
+                Slice<Integer> eventIds = eventRepository.findEventIdSliceOrderByEventId(currentBatch);
+                refreshAll(eventIds.getContent());
+                return eventIds;
+            });
+            rebuilt += eventIdSlice.getNumberOfElements();
+
+            if (!eventIdSlice.hasNext()) {
+                return rebuilt;
+            }
+            batch = eventIdSlice.nextPageable();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package org.adt.volunteerscase.service.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.adt.volunteerscase.dto.page.response.CursorPageResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Opaque keyset position over the {@code (dateTimestamp DESC, eventId DESC)} event order.
+ * <p>
+ * A cursor either points forward (rows strictly after the key) or backward (rows strictly before it).
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class EventCursor {
+
+    private static final String SEPARATOR = "|";
+
+    public enum Direction {
+        NEXT,
+        PREV
+    }
+
+    private final Direction direction;
+    private final LocalDateTime dateTimestamp;
+    private final Integer eventId;
+
+    public static EventCursor next(LocalDateTime dateTimestamp, Integer eventId) {
+        return new EventCursor(Direction.NEXT, dateTimestamp, eventId);
+    }
+
+    public static EventCursor prev(LocalDateTime dateTimestamp, Integer eventId) {
+        return new EventCursor(Direction.PREV, dateTimestamp, eventId);
+    }
+
+    public boolean isPrev() {
+        return direction == Direction.PREV;
+    }
+
+    public String encode() {
+        String raw = direction.name() + SEPARATOR + dateTimestamp + SEPARATOR + eventId;
+        return Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor previously produced by {@link #encode()}.
+     *
+     * @param cursor opaque cursor string, may be blank for the first page
+     * @return decoded cursor, or {@code null} when {@code cursor} is blank
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static EventCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", -1);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("invalid cursor - " + cursor);
+            }
+
+            return new EventCursor(
+                    Direction.valueOf(parts[0]),
+                    LocalDateTime.parse(parts[1]),
+                    Integer.valueOf(parts[2])
+            );
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new IllegalArgumentException("invalid cursor - " + cursor);
+        }
+    }
+
+    /**
+     * Cuts the look-ahead row off a keyset slice fetched with {@code size + 1} rows
+     * and restores the descending order for backward slices.
+     */
+    public static <R> List<R> window(List<R> rows, EventCursor cursor, int size) {
+        List<R> window = new ArrayList<>(rows.subList(0, Math.min(rows.size(), size)));
+        if (cursor != null && cursor.isPrev()) {
+            Collections.reverse(window);
+        }
+        return window;
+    }
+
+    /**
+     * Builds the cursor response for a window returned by {@link #window(List, EventCursor, int)}.
+     *
+     * @param content       mapped window content in descending order
+     * @param cursor        cursor the window was requested with, {@code null} for the first page
+     * @param size          requested page size
+     * @param hasMore       whether the query returned the look-ahead row
+     * @param dateTimestamp extracts the event date of an element
+     * @param eventId       extracts the event id of an element
+     */
+    public static <T> CursorPageResponse<T> toResponse(
+            List<T> content,
+            EventCursor cursor,
+            int size,
+            boolean hasMore,
+            Function<T, LocalDateTime> dateTimestamp,
+            Function<T, Integer> eventId
+    ) {
+        boolean backward = cursor != null && cursor.isPrev();
+        boolean hasNext = backward || hasMore;
+        boolean hasPrev = backward ? hasMore : cursor != null;
+
+        String nextCursor = null;
+        String prevCursor = null;
+        if (!content.isEmpty()) {
+            T first = content.get(0);
+            T last = content.get(content.size() - 1);
+            if (hasNext) {
+                nextCursor = next(dateTimestamp.apply(last), eventId.apply(last)).encode();
+            }
+            if (hasPrev) {
+                prevCursor = prev(dateTimestamp.apply(first), eventId.apply(first)).encode();
+            }
+        }
+
+        return CursorPageResponse.<T>builder()
+                .content(content)
+                .pageSize(size)
+                .nextCursor(nextCursor)
+                .prevCursor(prevCursor)
+                .hasNext(nextCursor != null)
+                .hasPrev(prevCursor != null)
+                .build();
+    }
+}
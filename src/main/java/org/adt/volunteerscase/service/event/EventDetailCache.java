@@ -0,0 +1,293 @@
+package org.adt.volunteerscase.service.event;
+
+import org.adt.volunteerscase.dto.coordinator.CoordinatorEntityDTO;
+import org.adt.volunteerscase.dto.cover.CoverEntityDTO;
+import org.adt.volunteerscase.dto.cover.CoverMetadataDTO;
+import org.adt.volunteerscase.dto.event.response.EventDetailCacheStatsResponse;
+import org.adt.volunteerscase.dto.event.response.EventV2Response;
+import org.adt.volunteerscase.dto.event.response.GetAllResponse;
+import org.adt.volunteerscase.dto.location.LocationEntityDTO;
+import org.adt.volunteerscase.dto.tag.TagEntityDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * In-process LRU cache of built event detail responses with a per-entry TTL.
+ * <p>
+ * Writers evict entries after their transaction commits, so a concurrent reader can not put back
+ * a response built from the old row: loads that overlap an eviction are returned but not stored.
+ * <p>
+ * The response DTOs are mutable, so the cache keeps a private copy of every loaded response and hands out
+ * a fresh copy on every hit; a caller that changes its response never changes what other callers get.
+ */
+@Component
+public class EventDetailCache {
+
+    private final Map<CacheKey, CachedDetail> entries;
+    private final long ttlMs;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private long invalidationGeneration;
+
+    public EventDetailCache(
+            @Value("${event.detail-cache.ttl-ms:60000}") long ttlMs,
+            @Value("${event.detail-cache.max-size:10000}") int maxSize
+    ) {
+        this.ttlMs = ttlMs;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<CacheKey, CachedDetail> eldest) {
+                if (size() > maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public GetAllResponse getResponse(Integer eventId, Supplier<GetAllResponse> loader) {
+        return get(new CacheKey(GetAllResponse.class, eventId), loader, EventDetailCache::copy, GetAllResponse::getCover, GetAllResponse::getLocation, GetAllResponse::getTags, GetAllResponse::getCoordinator);
+    }
+
+    public EventV2Response getV2Response(Integer eventId, Supplier<EventV2Response> loader) {
+        return get(new CacheKey(EventV2Response.class, eventId), loader, EventDetailCache::copy, EventV2Response::getCover, EventV2Response::getLocation, EventV2Response::getTags, EventV2Response::getCoordinator);
+    }
+
+    /**
+     * Drops every cached response of the event once the current transaction commits.
+     */
+    public void evictAfterCommit(Integer eventId) {
+        AfterCommit.run(() -> evictIf(entry -> entry.eventId().equals(eventId)));
+    }
+
+    /**
+     * Drops cached responses of events that show the given cover once the current transaction commits.
+     */
+    public void evictByCoverAfterCommit(Integer coverId) {
+        AfterCommit.run(() -> evictIf(entry -> coverId.equals(entry.coverId())));
+    }
+
+    /**
+     * Drops cached responses of events held at the given location once the current transaction commits.
+     */
+    public void evictByLocationAfterCommit(Integer locationId) {
+        AfterCommit.run(() -> evictIf(entry -> locationId.equals(entry.locationId())));
+    }
+
+    /**
+     * Drops cached responses of events that carry the given tag once the current transaction commits.
+     */
+    public void evictByTagAfterCommit(Integer tagId) {
+        AfterCommit.run(() -> evictIf(entry -> entry.tagIds().contains(tagId)));
+    }
+
+    /**
+     * Drops cached responses of events run by the given coordinator once the current transaction commits.
+     */
+    public void evictByCoordinatorAfterCommit(Integer coordinatorId) {
+        AfterCommit.run(() -> evictIf(entry -> coordinatorId.equals(entry.coordinatorId())));
+    }
+
+    public EventDetailCacheStatsResponse getStats() {
+        long hitCount = hits.sum();
+        long missCount = misses.sum();
+        long requestCount = hitCount + missCount;
+
+        return EventDetailCacheStatsResponse.builder()
+                .size(size())
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRate(requestCount == 0 ? 0.0 : (double) hitCount / requestCount)
+                .evictions(evictions.sum())
+                .invalidations(invalidations.sum())
+                .build();
+    }
+
+    private <T> T get(
+            CacheKey key,
+            Supplier<T> loader,
+            UnaryOperator<T> copy,
+            Function<T, CoverEntityDTO> cover,
+            Function<T, LocationEntityDTO> location,
+            Function<T, Set<TagEntityDTO>> tags,
+            Function<T, CoordinatorEntityDTO> coordinator
+    ) {
+        long now = System.currentTimeMillis();
+        long generation;
+
+        synchronized (this) {
+            CachedDetail cached = entries.get(key);
+            if (cached != null && cached.expiresAt() > now) {
+                hits.increment();
+                return copy.apply(castValue(cached));
+            }
+            if (cached != null) {
+                entries.remove(key);
+                evictions.increment();
+            }
+            generation = invalidationGeneration;
+        }
+
+        misses.increment();
+        T value = loader.get();
+
+        CoverEntityDTO coverDto = cover.apply(value);
+        LocationEntityDTO locationDto = location.apply(value);
+        Set<TagEntityDTO> tagDtos = tags.apply(value);
+        CoordinatorEntityDTO coordinatorDto = coordinator.apply(value);
+        Set<Integer> tagIds = tagDtos == null
+                ? Collections.emptySet()
+                : tagDtos.stream().map(TagEntityDTO::getTagId).collect(Collectors.toSet());
+
+        synchronized (this) {
+            if (generation == invalidationGeneration) {
+                entries.put(key, new CachedDetail(
+                        key.eventId(),
+                        copy.apply(value),
+                        coverDto == null ? null : coverDto.getCoverId(),
+                        locationDto == null ? null : locationDto.getLocationId(),
+                        tagIds,
+                        coordinatorDto == null ? null : coordinatorDto.getUserId(),
+                        now + ttlMs
+                ));
+            }
+        }
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T castValue(CachedDetail cached) {
+        return (T) cached.value();
+    }
+
+    private static GetAllResponse copy(GetAllResponse response) {
+        return GetAllResponse.builder()
+                .eventId(response.getEventId())
+                .status(response.getStatus())
+                .name(response.getName())
+                .description(response.getDescription())
+                .cover(copy(response.getCover()))
+                .coordinator(copy(response.getCoordinator()))
+                .maxCapacity(response.getMaxCapacity())
+                .dateTimestamp(response.getDateTimestamp())
+                .location(copy(response.getLocation()))
+                .tags(copy(response.getTags()))
+                .version(response.getVersion())
+                .acceptedCount(response.getAcceptedCount())
+                .pendingCount(response.getPendingCount())
+                .searchRank(response.getSearchRank())
+                .searchHeadline(response.getSearchHeadline())
+                .build();
+    }
+
+    private static EventV2Response copy(EventV2Response response) {
+        return EventV2Response.builder()
+                .eventId(response.getEventId())
+                .status(response.getStatus())
+                .name(response.getName())
+                .description(response.getDescription())
+                .cover(copy(response.getCover()))
+                .coordinator(copy(response.getCoordinator()))
+                .maxCapacity(response.getMaxCapacity())
+                .weightMinutes(response.getWeightMinutes())
+                .dateTimestamp(response.getDateTimestamp())
+                .location(copy(response.getLocation()))
+                .tags(copy(response.getTags()))
+                .version(response.getVersion())
+                .acceptedCount(response.getAcceptedCount())
+                .pendingCount(response.getPendingCount())
+                .distanceKm(response.getDistanceKm())
+                .build();
+    }
+
+    private static CoverEntityDTO copy(CoverEntityDTO cover) {
+        if (cover == null) {
+            return null;
+        }
+        CoverMetadataDTO metadata = cover.getFileMetadata();
+        return new CoverEntityDTO(
+                cover.getCoverId(),
+                cover.getLink(),
+                cover.getCreatedAt(),
+                cover.getDeletedAt(),
+                metadata == null ? null : new CoverMetadataDTO(
+                        metadata.getOriginalFileName(),
+                        metadata.getContentType(),
+                        metadata.getSize(),
+                        metadata.getWidth(),
+                        metadata.getHeight(),
+                        metadata.getBucket(),
+                        metadata.getObjectKey(),
+                        metadata.getETag()
+                )
+        );
+    }
+
+    private static CoordinatorEntityDTO copy(CoordinatorEntityDTO coordinator) {
+        return coordinator == null ? null : new CoordinatorEntityDTO(coordinator.getUserId(), coordinator.getWorkLocation());
+    }
+
+    private static LocationEntityDTO copy(LocationEntityDTO location) {
+        return location == null ? null : new LocationEntityDTO(
+                location.getLocationId(),
+                location.getAddress(),
+                location.getLatitude(),
+                location.getLongitude()
+        );
+    }
+
+    private static Set<TagEntityDTO> copy(Set<TagEntityDTO> tags) {
+        if (tags == null) {
+            return null;
+        }
+        return tags.stream()
+                .map(tag -> new TagEntityDTO(tag.getTagId(), tag.getTagName()))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+    }
+
+    private synchronized int size() {
+        return entries.size();
+    }
+
+    private synchronized void evictIf(Predicate<CachedDetail> predicate) {
+        invalidationGeneration++;
+        entries.values().removeIf(entry -> {
+            if (predicate.test(entry)) {
+                invalidations.increment();
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private record CacheKey(Class<?> type, Integer eventId) {
+    }
+
+    private record CachedDetail(
+            Integer eventId,
+            Object value,
+            Integer coverId,
+            Integer locationId,
+            Set<Integer> tagIds,
+            Integer coordinatorId,
+            long expiresAt
+    ) {
+    }
+}
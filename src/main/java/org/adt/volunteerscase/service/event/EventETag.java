@@ -0,0 +1,38 @@
+package org.adt.volunteerscase.service.event;
+
+/**
+ * Strong entity tag of an event representation, derived from {@code EventEntity.version}.
+ */
+public final class EventETag {
+
+    private EventETag() {
+    }
+
+    public static String of(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Reads the expected version from an {@code If-Match} header.
+     *
+     * @param ifMatch header value, may be blank
+     * @return expected version, or {@code null} when the header is absent or {@code *}
+     * @throws IllegalArgumentException when the header is not a single strong tag issued by {@link #of(Long)}
+     */
+    public static Long parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new IllegalArgumentException("invalid If-Match header - " + ifMatch);
+        }
+
+        try {
+            return Long.valueOf(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("invalid If-Match header - " + ifMatch);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package org.adt.volunteerscase.service.event;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.adt.volunteerscase.dto.event.request.EventFilterRequest;
+import org.adt.volunteerscase.dto.event.request.EventFilterSort;
+import org.adt.volunteerscase.entity.TagEntity;
+import org.adt.volunteerscase.entity.event.EventEntity;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Whitelisted shapes of the event filter.
+ * <p>
+ * A filter may combine the date window with at most one equality filter. Every plan is backed by a composite index
+ * that starts with that column and continues with {@code (date_timestamp, event_id)}, so both the date range and the
+ * requested order are read from the index. The tag plan is driven by {@code event_tags (tag_id, event_id)} and sorts
+ * the events of the tag. Combinations outside the whitelist are rejected instead of ending up as a sequential scan.
+ * <p>
+ * The indexes are declared on {@link EventEntity}. Nothing checks that Postgres actually picks them, so re-run
+ * {@code EXPLAIN} on the plan queries when the schema or the queries change.
+ */
+public enum EventFilterPlan {
+
+    DATE,
+    STATUS,
+    COORDINATOR,
+    LOCATION,
+    TAG;
+
+    /**
+     * Picks the plan of the filter.
+     *
+     * @param filter requested filter
+     * @return plan serving the filter
+     * @throws IllegalArgumentException when the filter combines several equality filters or has an inverted date window
+     */
+    public static EventFilterPlan of(EventFilterRequest filter) {
+        if (filter.getFrom() != null && filter.getTo() != null && filter.getFrom().isAfter(filter.getTo())) {
+            throw new IllegalArgumentException("invalid date window - from must not be after to");
+        }
+
+        EventFilterPlan plan = DATE;
+        List<String> equalityFilters = new ArrayList<>();
+        if (filter.getStatus() != null) {
+            plan = STATUS;
+            equalityFilters.add("status");
+        }
+        if (filter.getCoordinatorId() != null) {
+            plan = COORDINATOR;
+            equalityFilters.add("coordinatorId");
+        }
+        if (filter.getLocationId() != null) {
+            plan = LOCATION;
+            equalityFilters.add("locationId");
+        }
+        if (filter.getTagId() != null) {
+            plan = TAG;
+            equalityFilters.add("tagId");
+        }
+
+        if (equalityFilters.size() > 1) {
+            throw new IllegalArgumentException(
+                    "unsupported filter combination - " + String.join(", ", equalityFilters)
+                            + ", combine the date window with at most one of status, coordinatorId, locationId, tagId"
+            );
+        }
+        return plan;
+    }
+
+    /**
+     * Order of the plan's index in the requested direction, with the event id as the tie breaker.
+     */
+    public Sort sort(EventFilterSort sort) {
+        Sort.Direction direction = sort == EventFilterSort.DATE_ASC ? Sort.Direction.ASC : Sort.Direction.DESC;
+        return Sort.by(direction, "dateTimestamp", "eventId");
+    }
+
+    /**
+     * Builds the query of the plan: its equality filter and the date window, nothing else.
+     */
+    public Specification<EventEntity> toSpecification(EventFilterRequest filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.<LocalDateTime>get("dateTimestamp"), filter.getFrom()));
+            }
+            if (filter.getTo() != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.<LocalDateTime>get("dateTimestamp"), filter.getTo()));
+            }
+
+            switch (this) {
+                case STATUS -> predicates.add(cb.equal(root.get("status"), filter.getStatus()));
+                case COORDINATOR -> predicates.add(cb.equal(root.get("coordinator").get("userId"), filter.getCoordinatorId()));
+                case LOCATION -> predicates.add(cb.equal(root.get("location").get("locationId"), filter.getLocationId()));
+                case TAG -> {
+                    // a semi-join keeps one row per event, so paging and counting stay exact
+                    Subquery<Integer> tagged = query.subquery(Integer.class);
+                    Root<EventEntity> taggedEvent = tagged.from(EventEntity.class);
+                    Join<EventEntity, TagEntity> tag = taggedEvent.join("tags");
+                    tagged.select(taggedEvent.<Integer>get("eventId"))
+                            .where(cb.equal(tag.get("tagId"), filter.getTagId()));
+                    predicates.add(root.get("eventId").in(tagged));
+                }
+                case DATE -> {
+                }
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
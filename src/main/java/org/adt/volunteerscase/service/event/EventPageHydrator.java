@@ -0,0 +1,107 @@
+package org.adt.volunteerscase.service.event;
+
+import lombok.RequiredArgsConstructor;
+import org.adt.volunteerscase.dto.page.response.PageResponse;
+import org.adt.volunteerscase.entity.event.EventCardEntity;
+import org.adt.volunteerscase.repository.EventCardRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class EventPageHydrator {
+
+    private final EventCardRepository eventCardRepository;
+
+    /**
+     * Turns a page of event ids into a page of mapped events using a single primary-key read of {@code event_card}.
+     *
+     * @param eventIdPage page of event ids in the order they must be returned
+     * @param mapper      converter applied to every event card
+     * @param <T>         response element type
+     * @return page response with the same paging metadata as {@code eventIdPage}
+     */
+    public <T> PageResponse<T> hydrate(Page<Integer> eventIdPage, Function<EventCardEntity, T> mapper) {
+        List<T> content = hydrate(eventIdPage.getContent()).stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+
+        return PageResponse.of(
+                new PageImpl<>(
+                        content,
+                        eventIdPage.getPageable(),
+                        eventIdPage.getTotalElements()
+                )
+        );
+    }
+
+    /**
+     * Slice counterpart of {@link #hydrate(Page, Function)} for responses without an exact total.
+     *
+     * @param eventIdSlice     slice of event ids in the order they must be returned
+     * @param approximateTotal cached total to attach, or {@code null}
+     * @param mapper           converter applied to every event card
+     * @param <T>              response element type
+     * @return page response carrying {@code hasNext} instead of exact totals
+     */
+    public <T> PageResponse<T> hydrate(Slice<Integer> eventIdSlice, Long approximateTotal, Function<EventCardEntity, T> mapper) {
+        List<T> content = hydrate(eventIdSlice.getContent()).stream()
+                .map(mapper)
+                .collect(Collectors.toList());
+
+        return PageResponse.of(
+                new SliceImpl<>(content, eventIdSlice.getPageable(), eventIdSlice.hasNext()),
+                approximateTotal
+        );
+    }
+
+    /**
+     * Hydrates query rows that carry an event id together with per-row data such as a rank or a distance.
+     *
+     * @param rows    ordered rows, one per event
+     * @param eventId extracts the event id of a row
+     * @param mapper  converter receiving the event card and its row
+     * @param <R>     row type
+     * @param <T>     response element type
+     * @return mapped events in the order of {@code rows}; rows whose event no longer exists are skipped
+     */
+    public <R, T> List<T> hydrate(List<R> rows, Function<R, Integer> eventId, BiFunction<EventCardEntity, R, T> mapper) {
+        Map<Integer, R> rowsByEventId = rows.stream()
+                .collect(Collectors.toMap(eventId, Function.identity(), (first, second) -> first, LinkedHashMap::new));
+
+        return hydrate(new ArrayList<>(rowsByEventId.keySet())).stream()
+                .map(card -> mapper.apply(card, rowsByEventId.get(card.getEventId())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Loads the cards of the given events, keeping the order of the given ids.
+     *
+     * @param eventIds ordered event ids
+     * @return event cards in the order of {@code eventIds}; ids that no longer exist are skipped
+     */
+    public List<EventCardEntity> hydrate(List<Integer> eventIds) {
+        if (eventIds == null || eventIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<Integer, Integer> eventOrder = new LinkedHashMap<>();
+        for (int index = 0; index < eventIds.size(); index++) {
+            eventOrder.putIfAbsent(eventIds.get(index), index);
+        }
+
+        return eventCardRepository.findAllByEventIdIn(new ArrayList<>(eventOrder.keySet())).stream()
+                .sorted(Comparator.comparingInt(
+                        card -> eventOrder.getOrDefault(card.getEventId(), Integer.MAX_VALUE)
+                ))
+                .collect(Collectors.toList());
+    }
+}
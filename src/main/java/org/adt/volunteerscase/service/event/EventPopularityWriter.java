@@ -0,0 +1,34 @@
+package org.adt.volunteerscase.service.event;
+
+import lombok.RequiredArgsConstructor;
+import org.adt.volunteerscase.entity.event.EventEntity;
+import org.adt.volunteerscase.repository.EventPopularityRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the {@code event_popularity} rows of changed events in step with them.
+ * Listens synchronously, so the rows are written in the transaction that changed the events.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventPopularityWriter {
+
+    private final EventPopularityRepository eventPopularityRepository;
+
+    @EventListener
+    public void onEventsChanged(EventsChanged change) {
+        if (!change.changedEvents().isEmpty()) {
+            Set<Integer> eventIds = change.changedEvents().stream()
+                    .map(EventEntity::getEventId)
+                    .collect(Collectors.toSet());
+            eventPopularityRepository.upsertFromEvents(eventIds);
+        }
+        if (!change.removedEventIds().isEmpty()) {
+            eventPopularityRepository.deleteAllByIdInBatch(change.removedEventIds());
+        }
+    }
+}
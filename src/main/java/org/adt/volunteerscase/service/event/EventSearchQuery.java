@@ -0,0 +1,40 @@
+package org.adt.volunteerscase.service.event;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Builds {@code to_tsquery} input for the event full-text search from free user input.
+ * <p>
+ * Only letters and digits survive, so the result is always a syntactically valid tsquery
+ * regardless of what was typed into the search box.
+ */
+public final class EventSearchQuery {
+
+    private static final int MAX_TERMS = 16;
+
+    private EventSearchQuery() {
+    }
+
+    /**
+     * @param text   raw search text
+     * @param prefix whether every term should also match words starting with it
+     * @return terms joined with {@code &}, or {@code null} when the text contains no searchable terms
+     */
+    public static String toTsQuery(String text, boolean prefix) {
+        if (text == null) {
+            return null;
+        }
+
+        String suffix = prefix ? ":*" : "";
+        String tsQuery = Arrays.stream(text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .distinct()
+                .limit(MAX_TERMS)
+                .map(term -> term + suffix)
+                .collect(Collectors.joining(" & "));
+
+        return tsQuery.isEmpty() ? null : tsQuery;
+    }
+}
@@ -0,0 +1,26 @@
+package org.adt.volunteerscase.service.event;
+
+import org.adt.volunteerscase.entity.event.EventEntity;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Published by {@link EventCardWriter} in the transaction that created, changed or deleted events, once their cards
+ * are written. Every store derived from the event rows subscribes to it: {@link EventPopularityWriter} writes in the
+ * same transaction, the in-memory indexes and caches apply it after the commit.
+ *
+ * @param changedEvents   current state of the changed events, with their tags loaded
+ * @param removedEventIds ids of events that no longer exist
+ */
+public record EventsChanged(List<EventEntity> changedEvents, Set<Integer> removedEventIds) {
+
+    public EventsChanged {
+        changedEvents = List.copyOf(changedEvents);
+        removedEventIds = Set.copyOf(removedEventIds);
+    }
+
+    public static EventsChanged removed(Integer eventId) {
+        return new EventsChanged(List.of(), Set.of(eventId));
+    }
+}
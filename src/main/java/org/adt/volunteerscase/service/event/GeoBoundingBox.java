@@ -0,0 +1,32 @@
+package org.adt.volunteerscase.service.event;
+
+/**
+ * Latitude/longitude rectangle that fully contains a circle of the given radius.
+ * <p>
+ * Used as the index-friendly pre-filter; the exact distance check is done with haversine afterwards.
+ */
+public record GeoBoundingBox(double minLatitude, double maxLatitude, double minLongitude, double maxLongitude) {
+
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    private static final double KM_PER_DEGREE = Math.PI * EARTH_RADIUS_KM / 180.0;
+
+    public static GeoBoundingBox around(double latitude, double longitude, double radiusKm) {
+        double latitudeDelta = radiusKm / KM_PER_DEGREE;
+        double minLatitude = Math.max(-90.0, latitude - latitudeDelta);
+        double maxLatitude = Math.min(90.0, latitude + latitudeDelta);
+
+        // near the poles or across the antimeridian the box degenerates, fall back to the whole latitude band
+        double widestLatitude = Math.max(Math.abs(minLatitude), Math.abs(maxLatitude));
+        if (widestLatitude >= 90.0) {
+            return new GeoBoundingBox(minLatitude, maxLatitude, -180.0, 180.0);
+        }
+
+        double longitudeDelta = latitudeDelta / Math.cos(Math.toRadians(widestLatitude));
+        if (longitude - longitudeDelta < -180.0 || longitude + longitudeDelta > 180.0) {
+            return new GeoBoundingBox(minLatitude, maxLatitude, -180.0, 180.0);
+        }
+
+        return new GeoBoundingBox(minLatitude, maxLatitude, longitude - longitudeDelta, longitude + longitudeDelta);
+    }
+}
@@ -0,0 +1,152 @@
+package org.adt.volunteerscase.service.event;
+
+import org.adt.volunteerscase.entity.event.EventStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.function.Predicate;
+
+/**
+ * Short-lived per-user cache of the ranked recommendation ids, computed by {@link RecommendationIndex} when it is ready
+ * and by the database otherwise, so that pages after the first one are cut from memory instead of re-ranking.
+ * <p>
+ * Only the head of the ranking is kept; a ranking that was cut short can still serve the pages inside it.
+ * Writers evict after their transaction commits, and loads that overlap an eviction are not stored,
+ * the same way as in {@link EventDetailCache}.
+ */
+@Component
+public class RecommendationCache {
+
+    private final Map<Integer, CachedRanking> rankings;
+    private final long ttlMs;
+    private final int maxRankingSize;
+
+    private long invalidationGeneration;
+
+    public RecommendationCache(
+            @Value("${event.recommendations.cache.ttl-ms:60000}") long ttlMs,
+            @Value("${event.recommendations.cache.max-size:10000}") int maxSize,
+            @Value("${event.recommendations.cache.max-ranking-size:1000}") int maxRankingSize
+    ) {
+        this.ttlMs = ttlMs;
+        this.maxRankingSize = maxRankingSize;
+        this.rankings = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, CachedRanking> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached ranking of the user, loading it when the entry is missing or expired.
+     *
+     * @param userId user the ranking was computed for
+     * @param loader loads at most the given number of ranked ids
+     * @return cached or freshly loaded ranking
+     */
+    public Ranking get(Integer userId, IntFunction<Ranking> loader) {
+        long now = System.currentTimeMillis();
+        long generation;
+
+        synchronized (this) {
+            CachedRanking cached = rankings.get(userId);
+            if (cached != null && cached.expiresAt() > now) {
+                return cached.ranking();
+            }
+            if (cached != null) {
+                rankings.remove(userId);
+            }
+            generation = invalidationGeneration;
+        }
+
+        Ranking ranking = loader.apply(maxRankingSize);
+
+        synchronized (this) {
+            if (generation == invalidationGeneration) {
+                rankings.put(userId, new CachedRanking(ranking, now + ttlMs));
+            }
+        }
+        return ranking;
+    }
+
+    /**
+     * Drops the ranking of the user once the current transaction commits, e.g. after they applied or changed their tags.
+     */
+    public void evictUserAfterCommit(Integer userId) {
+        AfterCommit.run(() -> evictIf(userId::equals, ranking -> false));
+    }
+
+    /**
+     * Drops the rankings of the users once the current transaction commits.
+     */
+    public void evictUsersAfterCommit(Collection<Integer> userIds) {
+        Set<Integer> users = new HashSet<>(userIds);
+        AfterCommit.run(() -> evictIf(users::contains, ranking -> false));
+    }
+
+    /**
+     * Drops every ranking that lists a completed or deleted event once their transaction commits,
+     * as those events stopped being candidates.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsChanged(EventsChanged change) {
+        Set<Integer> droppedEventIds = new HashSet<>(change.removedEventIds());
+        change.changedEvents().stream()
+                .filter(event -> event.getStatus() == EventStatus.COMPLETED)
+                .forEach(event -> droppedEventIds.add(event.getEventId()));
+        if (droppedEventIds.isEmpty()) {
+            return;
+        }
+        evictIf(userId -> false, ranking -> ranking.eventIds().stream().anyMatch(droppedEventIds::contains));
+    }
+
+    private synchronized void evictIf(Predicate<Integer> user, Predicate<Ranking> ranking) {
+        invalidationGeneration++;
+        rankings.entrySet().removeIf(entry -> user.test(entry.getKey()) || ranking.test(entry.getValue().ranking()));
+    }
+
+    /**
+     * Head of a user's ranking.
+     *
+     * @param eventIds ranked event ids, best first
+     * @param total    number of recommendable events, or {@code null} when only the head was read and nobody counted the rest
+     */
+    public record Ranking(List<Integer> eventIds, Long total) {
+
+        /**
+         * Whether {@code eventIds} is the whole ranking rather than its first part.
+         */
+        public boolean complete() {
+            return total != null && eventIds.size() >= total;
+        }
+
+        /**
+         * Whether the page starting at {@code offset} can be cut from this ranking.
+         */
+        public boolean covers(long offset, int pageSize) {
+            return complete() || offset + pageSize <= eventIds.size();
+        }
+
+        public List<Integer> page(long offset, int pageSize) {
+            int from = (int) Math.min(offset, eventIds.size());
+            int to = (int) Math.min(offset + pageSize, eventIds.size());
+            return eventIds.subList(from, to);
+        }
+
+        public boolean hasNext(long offset, int pageSize) {
+            return offset + pageSize < eventIds.size() || !complete();
+        }
+    }
+
+    private record CachedRanking(Ranking ranking, long expiresAt) {
+    }
+}
@@ -0,0 +1,302 @@
+package org.adt.volunteerscase.service.event;
+
+import org.adt.volunteerscase.dto.event.EventTagRow;
+import org.adt.volunteerscase.dto.event.RecommendationEventRow;
+import org.adt.volunteerscase.entity.TagEntity;
+import org.adt.volunteerscase.entity.event.EventEntity;
+import org.adt.volunteerscase.entity.event.EventStatus;
+import org.adt.volunteerscase.repository.EventRepository;
+import org.adt.volunteerscase.repository.UserEventRepository;
+import org.adt.volunteerscase.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * In-process index behind event recommendations.
+ * <p>
+ * Holds every upcoming event with a bitset of its tag ids and a popularity counter (live, not revoked applications),
+ * plus the tag bitset and applied events of users that asked for recommendations. A recommendation is ranked by the
+ * number of shared tags (popcount of the bitset intersection), then popularity, then the latest date first,
+ * the same order as {@link EventRepository#findRecommendedEventIds}, so Postgres is only used to hydrate the page.
+ * <p>
+ * Writers update the index after their transaction commits; a periodic {@link #rebuild()} repairs whatever the
+ * incremental updates miss. Event writes that land while a rebuild reads its snapshot are logged and replayed onto
+ * the rebuilt map before it is swapped in, so the snapshot can not undo them. Until the first rebuild finishes the
+ * index reports itself as not ready and callers fall back to the SQL query.
+ */
+@Component
+public class RecommendationIndex {
+
+    private static final Comparator<ScoredEvent> RANKING = Comparator
+            .comparingInt(ScoredEvent::sharedTags).reversed()
+            .thenComparing(Comparator.comparingLong(ScoredEvent::popularity).reversed())
+            .thenComparing(Comparator.comparing(ScoredEvent::dateTimestamp).reversed())
+            .thenComparing(Comparator.comparing(ScoredEvent::eventId).reversed());
+
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final UserEventRepository userEventRepository;
+    private final boolean enabled;
+    private final Object writeLock = new Object();
+
+    // event writes seen since the running rebuild started reading, null when no rebuild runs; guarded by writeLock
+    private List<Consumer<ConcurrentMap<Integer, IndexedEvent>>> rebuildLog;
+
+    private volatile ConcurrentMap<Integer, IndexedEvent> events = new ConcurrentHashMap<>();
+    private volatile ConcurrentMap<Integer, UserProfile> users = new ConcurrentHashMap<>();
+    private volatile boolean ready;
+
+    public RecommendationIndex(
+            EventRepository eventRepository,
+            UserRepository userRepository,
+            UserEventRepository userEventRepository,
+            @Value("${event.recommendations.index.enabled:true}") boolean enabled
+    ) {
+        this.eventRepository = eventRepository;
+        this.userRepository = userRepository;
+        this.userEventRepository = userEventRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    /**
+     * Reloads every upcoming event from the database and drops the cached user profiles.
+     * A popularity change committed just before the snapshot is read may be counted twice until the next rebuild.
+     *
+     * @return number of indexed events
+     */
+    public synchronized int rebuild() {
+        if (!enabled) {
+            return 0;
+        }
+
+        synchronized (writeLock) {
+            rebuildLog = new ArrayList<>();
+        }
+        try {
+            return swapIn(loadEvents());
+        } finally {
+            synchronized (writeLock) {
+                rebuildLog = null;
+            }
+        }
+    }
+
+    private ConcurrentMap<Integer, IndexedEvent> loadEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        ConcurrentMap<Integer, BitSet> tagsByEventId = new ConcurrentHashMap<>();
+        for (EventTagRow row : eventRepository.findUpcomingEventTags(now)) {
+            tagsByEventId.computeIfAbsent(row.getEventId(), id -> new BitSet()).set(row.getTagId());
+        }
+
+        ConcurrentMap<Integer, IndexedEvent> rebuiltEvents = new ConcurrentHashMap<>();
+        for (RecommendationEventRow row : eventRepository.findUpcomingRecommendationEvents(now)) {
+            rebuiltEvents.put(row.getEventId(), new IndexedEvent(
+                    row.getEventId(),
+                    row.getDateTimestamp(),
+                    tagsByEventId.getOrDefault(row.getEventId(), new BitSet()),
+                    new AtomicLong(row.getPopularity())
+            ));
+        }
+
+        return rebuiltEvents;
+    }
+
+    private int swapIn(ConcurrentMap<Integer, IndexedEvent> rebuiltEvents) {
+        synchronized (writeLock) {
+            rebuildLog.forEach(write -> write.accept(rebuiltEvents));
+            events = rebuiltEvents;
+            users = new ConcurrentHashMap<>();
+            ready = true;
+            return rebuiltEvents.size();
+        }
+    }
+
+    /**
+     * Ranks the upcoming events the user has not applied to yet.
+     *
+     * @param userId user asking for recommendations
+     * @param offset number of best events to skip
+     * @param limit  page size
+     * @return ids of the requested page in ranking order and the number of recommendable events
+     */
+    public Recommendations recommend(Integer userId, long offset, int limit) {
+        UserProfile user = users.computeIfAbsent(userId, this::loadUser);
+        LocalDateTime now = LocalDateTime.now();
+        long wanted = offset + limit;
+
+        // the head is the worst of the best "wanted" candidates seen so far
+        PriorityQueue<ScoredEvent> best = new PriorityQueue<>(RANKING.reversed());
+        long total = 0;
+        BitSet sharedTags = new BitSet();
+
+        for (IndexedEvent event : events.values()) {
+            if (!event.dateTimestamp().isAfter(now) || user.appliedEventIds().contains(event.eventId())) {
+                continue;
+            }
+            total++;
+
+            sharedTags.clear();
+            sharedTags.or(event.tags());
+            sharedTags.and(user.tags());
+            ScoredEvent scored = new ScoredEvent(
+                    event.eventId(),
+                    sharedTags.cardinality(),
+                    event.popularity().get(),
+                    event.dateTimestamp()
+            );
+
+            if (best.size() < wanted) {
+                best.add(scored);
+            } else if (wanted > 0 && RANKING.compare(scored, best.peek()) < 0) {
+                best.poll();
+                best.add(scored);
+            }
+        }
+
+        List<ScoredEvent> ranked = new ArrayList<>(best);
+        ranked.sort(RANKING);
+        List<Integer> eventIds = ranked.stream()
+                .skip(offset)
+                .map(ScoredEvent::eventId)
+                .toList();
+
+        return new Recommendations(eventIds, total);
+    }
+
+    /**
+     * Re-indexes the changed events once their transaction commits.
+     * Completed, past and deleted events are removed from the index.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsChanged(EventsChanged change) {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<Integer> removedEventIds = new HashSet<>(change.removedEventIds());
+        List<IndexedEvent> snapshots = new ArrayList<>();
+        for (EventEntity event : change.changedEvents()) {
+            if (event.getStatus() == EventStatus.COMPLETED || !event.getDateTimestamp().isAfter(now)) {
+                removedEventIds.add(event.getEventId());
+                continue;
+            }
+
+            BitSet tags = new BitSet();
+            for (TagEntity tag : event.getTags()) {
+                tags.set(tag.getTagId());
+            }
+            snapshots.add(new IndexedEvent(
+                    event.getEventId(),
+                    event.getDateTimestamp(),
+                    tags,
+                    new AtomicLong(event.getActiveCount() + event.getRejectedCount())
+            ));
+        }
+
+        writeEvents(current -> {
+            removedEventIds.forEach(current::remove);
+            // popularity is owned by the application hooks, a re-indexed event keeps the counter it already has
+            snapshots.forEach(snapshot -> current.merge(snapshot.eventId(), snapshot, (existing, updated) ->
+                    new IndexedEvent(updated.eventId(), updated.dateTimestamp(), updated.tags(), existing.popularity())
+            ));
+        });
+    }
+
+    /**
+     * Records new live applications of users to an event once the current transaction commits.
+     *
+     * @param popularityDelta how many of the applications were not counted as popular before (new or revoked ones)
+     */
+    public void recordApplicationsAfterCommit(Integer eventId, Collection<Integer> userIds, long popularityDelta) {
+        if (!enabled) {
+            return;
+        }
+
+        List<Integer> appliedUserIds = List.copyOf(userIds);
+        AfterCommit.run(() -> {
+            if (popularityDelta != 0) {
+                writeEvents(current -> {
+                    IndexedEvent event = current.get(eventId);
+                    if (event != null) {
+                        event.popularity().addAndGet(popularityDelta);
+                    }
+                });
+            }
+
+            ConcurrentMap<Integer, UserProfile> currentUsers = users;
+            for (Integer userId : appliedUserIds) {
+                UserProfile user = currentUsers.get(userId);
+                if (user != null) {
+                    user.appliedEventIds().add(eventId);
+                }
+            }
+        });
+    }
+
+    /**
+     * Forgets a user once the current transaction commits, e.g. after the account was deleted.
+     *
+     * @param popularEventIds events whose popularity counted a live application of the user
+     */
+    public void removeUserAfterCommit(Integer userId, Collection<Integer> popularEventIds) {
+        if (!enabled) {
+            return;
+        }
+
+        List<Integer> releasedEventIds = List.copyOf(popularEventIds);
+        AfterCommit.run(() -> {
+            users.remove(userId);
+            writeEvents(current -> {
+                for (Integer eventId : releasedEventIds) {
+                    IndexedEvent event = current.get(eventId);
+                    if (event != null) {
+                        event.popularity().decrementAndGet();
+                    }
+                }
+            });
+        });
+    }
+
+    private void writeEvents(Consumer<ConcurrentMap<Integer, IndexedEvent>> write) {
+        synchronized (writeLock) {
+            write.accept(events);
+            if (rebuildLog != null) {
+                rebuildLog.add(write);
+            }
+        }
+    }
+
+    private UserProfile loadUser(Integer userId) {
+        BitSet tags = new BitSet();
+        userRepository.findTagIdsByUserId(userId).forEach(tags::set);
+
+        Set<Integer> appliedEventIds = ConcurrentHashMap.newKeySet();
+        appliedEventIds.addAll(userEventRepository.findEventIdsByUserId(userId));
+        return new UserProfile(tags, appliedEventIds);
+    }
+
+    public record Recommendations(List<Integer> eventIds, long total) {
+    }
+
+    private record IndexedEvent(Integer eventId, LocalDateTime dateTimestamp, BitSet tags, AtomicLong popularity) {
+    }
+
+    private record UserProfile(BitSet tags, Set<Integer> appliedEventIds) {
+    }
+
+    private record ScoredEvent(Integer eventId, int sharedTags, long popularity, LocalDateTime dateTimestamp) {
+    }
+}
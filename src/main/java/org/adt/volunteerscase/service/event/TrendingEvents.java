@@ -0,0 +1,241 @@
+package org.adt.volunteerscase.service.event;
+
+import org.adt.volunteerscase.entity.event.EventPopularityEntity;
+import org.adt.volunteerscase.entity.event.EventStatus;
+import org.adt.volunteerscase.entity.event.EventTrendingEntity;
+import org.adt.volunteerscase.repository.EventPopularityRepository;
+import org.adt.volunteerscase.repository.EventTrendingRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory "trending now" ranking: an exponentially decayed count of new applications per event.
+ * <p>
+ * Applications are added to a {@link LongAdder} on the request path, so concurrent applicants never contend on
+ * one counter. A scheduled {@link #decay()} folds the pending additions into the score and decays it by the
+ * elapsed time, and {@link #checkpoint()} rewrites {@code event_trending} so that a restart resumes the scores.
+ * Reads rank the scores with a bounded heap and never aggregate {@code user_events}.
+ */
+@Component
+public class TrendingEvents {
+
+    private static final Comparator<Trending> RANKING = Comparator.comparingDouble(Trending::score)
+            .thenComparing(Trending::eventId);
+
+    private final EventTrendingRepository eventTrendingRepository;
+    private final EventPopularityRepository eventPopularityRepository;
+    private final double halfLifeMs;
+    private final double minScore;
+
+    private final ConcurrentMap<Integer, Counter> counters = new ConcurrentHashMap<>();
+
+    private long lastDecayAt = System.currentTimeMillis();
+
+    public TrendingEvents(
+            EventTrendingRepository eventTrendingRepository,
+            EventPopularityRepository eventPopularityRepository,
+            @Value("${event.trending.half-life-ms:21600000}") long halfLifeMs,
+            @Value("${event.trending.min-score:0.01}") double minScore
+    ) {
+        this.eventTrendingRepository = eventTrendingRepository;
+        this.eventPopularityRepository = eventPopularityRepository;
+        this.halfLifeMs = halfLifeMs;
+        this.minScore = minScore;
+    }
+
+    /**
+     * Counts new applications to the event once the current transaction commits.
+     */
+    public void recordApplicationsAfterCommit(Integer eventId, long applications) {
+        if (applications <= 0) {
+            return;
+        }
+        AfterCommit.run(() -> {
+            Counter counter = counters.get(eventId);
+            if (counter != null) {
+                counter.pending.add(applications);
+                if (counters.get(eventId) == counter) {
+                    return;
+                }
+                // decay dropped the counter before the addition landed, so it is recorded again below
+            }
+            counters.compute(eventId, (id, current) -> {
+                Counter target = current != null ? current : new Counter();
+                target.pending.add(applications);
+                return target;
+            });
+        });
+    }
+
+    /**
+     * Takes the new dates of tracked events and forgets the completed and deleted ones once their transaction commits.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEventsChanged(EventsChanged change) {
+        change.changedEvents().forEach(event -> {
+            if (event.getStatus() == EventStatus.COMPLETED) {
+                counters.remove(event.getEventId());
+                return;
+            }
+            Counter counter = counters.get(event.getEventId());
+            if (counter != null) {
+                counter.dateTimestamp = event.getDateTimestamp();
+            }
+        });
+        change.removedEventIds().forEach(counters::remove);
+    }
+
+    /**
+     * Returns the events with the highest trending score, best first.
+     * Counters whose event date is not known yet are kept: they only exist for events that accepted applications
+     * within the last decay interval, which are upcoming by construction.
+     *
+     * @param limit maximum number of events
+     * @return ids of upcoming events ordered by descending score
+     */
+    public List<Integer> top(int limit) {
+        LocalDateTime now = LocalDateTime.now();
+        PriorityQueue<Trending> heap = new PriorityQueue<>(limit + 1, RANKING);
+
+        counters.forEach((eventId, counter) -> {
+            LocalDateTime dateTimestamp = counter.dateTimestamp;
+            if (dateTimestamp != null && !dateTimestamp.isAfter(now)) {
+                return;
+            }
+            double score = counter.score + counter.pending.sum();
+            if (score < minScore) {
+                return;
+            }
+            heap.offer(new Trending(eventId, score));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+
+        List<Integer> eventIds = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            eventIds.add(heap.poll().eventId());
+        }
+        Collections.reverse(eventIds);
+        return eventIds;
+    }
+
+    /**
+     * Folds pending applications into the scores, decays them by the time since the previous run and drops
+     * counters that faded out or whose event is over. Dates of newly tracked events are read from
+     * {@code event_popularity} in one query.
+     *
+     * @return number of tracked events after the run
+     */
+    @Transactional(readOnly = true)
+    public synchronized int decay() {
+        long now = System.currentTimeMillis();
+        double factor = decayFactor(now - lastDecayAt);
+        lastDecayAt = now;
+
+        resolveDates();
+
+        LocalDateTime currentTime = LocalDateTime.now();
+        counters.forEach((eventId, counter) -> {
+            // subtracting what was read keeps additions that land between the read and the reset
+            long added = counter.pending.sum();
+            counter.pending.add(-added);
+            counter.score = counter.score * factor + added;
+
+            if (counter.score < minScore
+                    || counter.dateTimestamp != null && !counter.dateTimestamp.isAfter(currentTime)) {
+                // re-checked under the entry lock that recording takes as well, so new applications keep the counter
+                counters.computeIfPresent(eventId, (id, current) ->
+                        current == counter && current.pending.sum() == 0 ? null : current);
+            }
+        });
+        return counters.size();
+    }
+
+    /**
+     * Replaces the stored checkpoint with the current scores.
+     *
+     * @return number of stored scores
+     */
+    @Transactional
+    public synchronized int checkpoint() {
+        LocalDateTime now = LocalDateTime.now();
+        List<EventTrendingEntity> rows = new ArrayList<>(counters.size());
+        counters.forEach((eventId, counter) -> rows.add(EventTrendingEntity.builder()
+                .eventId(eventId)
+                .score(counter.score + counter.pending.sum())
+                .checkpointedAt(now)
+                .build()));
+
+        eventTrendingRepository.deleteAllInBatch();
+        eventTrendingRepository.saveAll(rows);
+        return rows.size();
+    }
+
+    /**
+     * Loads the last checkpoint, decaying every score by the time that passed since it was written.
+     *
+     * @return number of restored scores
+     */
+    @Transactional(readOnly = true)
+    public synchronized int restore() {
+        LocalDateTime now = LocalDateTime.now();
+        for (EventTrendingEntity row : eventTrendingRepository.findAll()) {
+            double score = row.getScore() * decayFactor(Duration.between(row.getCheckpointedAt(), now).toMillis());
+            if (score >= minScore) {
+                counters.computeIfAbsent(row.getEventId(), id -> new Counter()).score += score;
+            }
+        }
+        lastDecayAt = System.currentTimeMillis();
+        resolveDates();
+        return counters.size();
+    }
+
+    private void resolveDates() {
+        List<Integer> undatedEventIds = counters.entrySet().stream()
+                .filter(entry -> entry.getValue().dateTimestamp == null)
+                .map(Map.Entry::getKey)
+                .toList();
+        if (undatedEventIds.isEmpty()) {
+            return;
+        }
+
+        Map<Integer, EventPopularityEntity> events = new HashMap<>();
+        eventPopularityRepository.findAllById(undatedEventIds).forEach(event -> events.put(event.getEventId(), event));
+
+        for (Integer eventId : undatedEventIds) {
+            EventPopularityEntity event = events.get(eventId);
+            if (event == null || event.getStatus() == EventStatus.COMPLETED) {
+                counters.remove(eventId);
+                continue;
+            }
+            Counter counter = counters.get(eventId);
+            if (counter != null) {
+                counter.dateTimestamp = event.getDateTimestamp();
+            }
+        }
+    }
+
+    private double decayFactor(long elapsedMs) {
+        return Math.pow(0.5, Math.max(elapsedMs, 0) / halfLifeMs);
+    }
+
+    // score is written only by the synchronized decay and restore runs, pending by any number of applicants
+    private static final class Counter {
+        private final LongAdder pending = new LongAdder();
+        private volatile double score;
+        private volatile LocalDateTime dateTimestamp;
+    }
+
+    private record Trending(Integer eventId, double score) {
+    }
+}
@@ -3,11 +3,11 @@ package org.adt.volunteerscase.service.impl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.adt.volunteerscase.dto.cover.CoverMapper;
-import org.adt.volunteerscase.dto.cover.CoverMetadataDTO;
 import org.adt.volunteerscase.dto.cover.request.CoverCreateRequest;
 import org.adt.volunteerscase.dto.cover.request.CoverPatchRequest;
 import org.adt.volunteerscase.dto.cover.response.CoverResponse;
 import org.adt.volunteerscase.entity.CoverEntity;
+import org.adt.volunteerscase.entity.CoverFileMetadata;
 import org.adt.volunteerscase.exception.CoverInUseException;
 import org.adt.volunteerscase.exception.CoverNotFoundException;
 import org.adt.volunteerscase.exception.CoverUploadException;
@@ -15,8 +15,11 @@ import org.adt.volunteerscase.exception.InvalidCoverFileException;
 import org.adt.volunteerscase.repository.CoverRepository;
 import org.adt.volunteerscase.repository.EventRepository;
 import org.adt.volunteerscase.service.CoverService;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.adt.volunteerscase.service.event.EventDetailCache;
 import org.adt.volunteerscase.service.storage.ObjectStorageService;
 import org.adt.volunteerscase.service.storage.StoredObjectResult;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
@@ -29,6 +32,7 @@ import java.awt.image.BufferedImage;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -39,6 +43,8 @@ public class CoverServiceImpl implements CoverService {
     private final EventRepository eventRepository;
     private final ObjectStorageService objectStorageService;
     private final CoverMapper coverMapper;
+    private final EventDetailCache eventDetailCache;
+    private final EventCardWriter eventCardWriter;
 
     @Override
     @Transactional
@@ -57,12 +63,12 @@ public class CoverServiceImpl implements CoverService {
 
         deleteNewObjectOnRollback(uploaded.getObjectKey());
 
-        CoverMetadataDTO metadata = buildMetadata(file, image, uploaded);
+        CoverFileMetadata metadata = buildMetadata(file, image, uploaded);
 
         CoverEntity saved = coverRepository.save(
                 CoverEntity.builder()
                         .link(uploaded.getLink())
-                        .metadata(coverMapper.encodeMetadata(metadata))
+                        .metadata(metadata)
                         .createdAt(Instant.now().toEpochMilli())
                         .deletedAt(null)
                         .build()
@@ -81,8 +87,7 @@ public class CoverServiceImpl implements CoverService {
 
         byte[] content = readBytes(file);
         BufferedImage image = readImage(content);
-        CoverMetadataDTO previousMetadata =
-                coverMapper.decodeMetadata(coverEntity.getMetadata());
+        CoverFileMetadata previousMetadata = coverEntity.getMetadata();
 
         StoredObjectResult uploaded = objectStorageService.uploadCover(
                 file.getOriginalFilename(),
@@ -92,16 +97,20 @@ public class CoverServiceImpl implements CoverService {
 
         deleteNewObjectOnRollback(uploaded.getObjectKey());
 
-        CoverMetadataDTO newMetadata = buildMetadata(file, image, uploaded);
+        CoverFileMetadata newMetadata = buildMetadata(file, image, uploaded);
         String previousObjectKey = previousMetadata != null ?
                 previousMetadata.getObjectKey() : null;
 
         coverEntity.setLink(uploaded.getLink());
-        coverEntity.setMetadata(coverMapper.encodeMetadata(newMetadata));
+        coverEntity.setMetadata(newMetadata);
+        coverEntity.setLegacyMetadata(null);
 
         CoverEntity updated = coverRepository.saveAndFlush(coverEntity);
 
         deleteObjectAfterCommit(previousObjectKey);
+        coverRepository.bumpEventVersionsByCoverId(coverId);
+        eventCardWriter.refreshByCoverId(coverId);
+        eventDetailCache.evictByCoverAfterCommit(coverId);
 
         return coverMapper.toResponse(updated);
     }
@@ -115,8 +124,7 @@ public class CoverServiceImpl implements CoverService {
             throw new CoverInUseException("cover with id - " + coverId + " is used by event");
         }
 
-        CoverMetadataDTO metadata =
-                coverMapper.decodeMetadata(coverEntity.getMetadata());
+        CoverFileMetadata metadata = coverEntity.getMetadata();
         String objectKey = metadata != null ? metadata.getObjectKey() :
                 null;
 
@@ -133,6 +141,33 @@ public class CoverServiceImpl implements CoverService {
         return coverMapper.toResponse(getActiveCover(coverId));
     }
 
+    @Override
+    @Transactional
+    public Integer migrateLegacyMetadata(Integer afterCoverId, int batchSize) {
+        List<CoverEntity> covers = coverRepository.findByLegacyMetadataIsNotNullAndCoverIdGreaterThanOrderByCoverIdAsc(
+                afterCoverId,
+                PageRequest.of(0, batchSize)
+        );
+        if (covers.isEmpty()) {
+            return null;
+        }
+
+        for (CoverEntity cover : covers) {
+            try {
+                CoverFileMetadata legacyMetadata = coverMapper.decodeLegacyMetadata(cover.getLegacyMetadata());
+                if (cover.getMetadata() == null) {
+                    cover.setMetadata(legacyMetadata);
+                }
+                cover.setLegacyMetadata(null);
+            } catch (IllegalStateException ex) {
+                log.warn("cannot migrate metadata of cover with id - {}, leaving it as is", cover.getCoverId(), ex);
+            }
+        }
+        coverRepository.saveAll(covers);
+
+        return covers.get(covers.size() - 1).getCoverId();
+    }
+
     private CoverEntity getActiveCover(Integer coverId) {
         return coverRepository.findByCoverIdAndDeletedAtIsNull(coverId)
                 .orElseThrow(() -> new CoverNotFoundException("cover with id - " + coverId + " not found"));
@@ -169,9 +204,9 @@ public class CoverServiceImpl implements CoverService {
         }
     }
 
-    private CoverMetadataDTO buildMetadata(MultipartFile file, BufferedImage image,
-                                           StoredObjectResult uploaded) {
-        return CoverMetadataDTO.builder()
+    private CoverFileMetadata buildMetadata(MultipartFile file, BufferedImage image,
+                                            StoredObjectResult uploaded) {
+        return CoverFileMetadata.builder()
                 .originalFileName(file.getOriginalFilename())
                 .contentType(file.getContentType())
                 .size(file.getSize())
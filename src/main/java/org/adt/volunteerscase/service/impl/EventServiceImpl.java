@@ -3,35 +3,67 @@ package org.adt.volunteerscase.service.impl;
 import lombok.RequiredArgsConstructor;
 import org.adt.volunteerscase.dto.coordinator.CoordinatorEntityDTO;
 import org.adt.volunteerscase.dto.cover.CoverMapper;
+import org.adt.volunteerscase.dto.event.EventCardMapper;
+import org.adt.volunteerscase.dto.event.EventDistanceHit;
+import org.adt.volunteerscase.dto.event.EventIdRow;
+import org.adt.volunteerscase.dto.event.EventMapClusterRow;
+import org.adt.volunteerscase.dto.event.EventSearchHit;
 import org.adt.volunteerscase.dto.event.request.*;
+import org.adt.volunteerscase.dto.event.response.EventBulkCreateResponse;
+import org.adt.volunteerscase.dto.event.response.EventBulkItemResult;
+import org.adt.volunteerscase.dto.event.response.EventBulkItemStatus;
+import org.adt.volunteerscase.dto.event.response.EventDetailCacheStatsResponse;
+import org.adt.volunteerscase.dto.event.response.EventMapClusterResponse;
 import org.adt.volunteerscase.dto.event.response.EventV2Response;
 import org.adt.volunteerscase.dto.event.response.GetAllResponse;
 import org.adt.volunteerscase.dto.event.response.PatchResponse;
 import org.adt.volunteerscase.dto.location.LocationEntityDTO;
+import org.adt.volunteerscase.dto.page.response.CursorPageResponse;
 import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.dto.tag.TagEntityDTO;
 import org.adt.volunteerscase.entity.CoordinatorEntity;
 import org.adt.volunteerscase.entity.CoverEntity;
 import org.adt.volunteerscase.entity.LocationEntity;
 import org.adt.volunteerscase.entity.TagEntity;
+import org.adt.volunteerscase.entity.event.EventCardEntity;
 import org.adt.volunteerscase.entity.event.EventEntity;
 import org.adt.volunteerscase.entity.event.EventStatus;
 import org.adt.volunteerscase.exception.*;
 import org.adt.volunteerscase.repository.CoordinatorRepository;
 import org.adt.volunteerscase.repository.CoverRepository;
+import org.adt.volunteerscase.repository.EventPopularityRepository;
 import org.adt.volunteerscase.repository.EventRepository;
 import org.adt.volunteerscase.repository.LocationRepository;
 import org.adt.volunteerscase.service.EventService;
 import org.adt.volunteerscase.service.TagService;
+import org.adt.volunteerscase.service.event.EventBitmapIndex;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.adt.volunteerscase.service.event.EventCursor;
+import org.adt.volunteerscase.service.event.EventDetailCache;
+import org.adt.volunteerscase.service.event.EventFilterPlan;
+import org.adt.volunteerscase.service.event.EventPageHydrator;
+import org.adt.volunteerscase.service.event.EventSearchQuery;
+import org.adt.volunteerscase.service.event.GeoBoundingBox;
+import org.adt.volunteerscase.service.event.RecommendationCache;
+import org.adt.volunteerscase.service.event.RecommendationIndex;
+import org.adt.volunteerscase.service.event.TrendingEvents;
+import org.adt.volunteerscase.service.page.TotalCountCache;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -39,12 +71,26 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class EventServiceImpl implements EventService {
 
+    private static final int MAP_CELLS_PER_TILE = 4;
+    private static final int MAP_CLUSTER_SAMPLE_SIZE = 5;
+    private static final int MAP_MAX_CLUSTERS = 500;
+
     private final EventRepository eventRepository;
+    private final EventPopularityRepository eventPopularityRepository;
     private final CoverRepository coverRepository;
     private final LocationRepository locationRepository;
     private final CoordinatorRepository coordinatorRepository;
     private final TagService tagService;
     private final CoverMapper coverMapper;
+    private final EventPageHydrator eventPageHydrator;
+    private final TotalCountCache totalCountCache;
+    private final EventDetailCache eventDetailCache;
+    private final EventCardMapper eventCardMapper;
+    private final EventCardWriter eventCardWriter;
+    private final RecommendationIndex recommendationIndex;
+    private final RecommendationCache recommendationCache;
+    private final TrendingEvents trendingEvents;
+    private final EventBitmapIndex eventBitmapIndex;
 
 
     @Override
@@ -95,6 +141,7 @@ public class EventServiceImpl implements EventService {
         } catch (DataIntegrityViolationException ex) {
             throw mapEventConstraintException(ex, eventEntity);
         }
+        eventCardWriter.refresh(eventEntity.getEventId());
 
     }
 
@@ -151,15 +198,176 @@ public class EventServiceImpl implements EventService {
         } catch (DataIntegrityViolationException ex) {
             throw mapEventConstraintException(ex, eventEntity);
         }
+        eventCardWriter.refresh(eventEntity.getEventId());
+    }
+
+    @Override
+    @Transactional
+    public EventBulkCreateResponse createEventsV2Bulk(EventBulkCreateRequest request) {
+        List<EventCreateV2Request> items = request.getEvents();
+
+        Set<Integer> locationIds = collectIds(items, EventCreateV2Request::getLocationId);
+        Set<Integer> coverIds = collectIds(items, EventCreateV2Request::getCoverId);
+        Set<Integer> coordinatorIds = collectIds(items, EventCreateV2Request::getCoordinatorId);
+        Set<Integer> tagIds = items.stream()
+                .map(EventCreateV2Request::getTagIds)
+                .filter(Objects::nonNull)
+                .flatMap(Set::stream)
+                .collect(Collectors.toSet());
+        Set<LocalDateTime> dateTimestamps = items.stream()
+                .map(EventCreateV2Request::getDateTimestamp)
+                .collect(Collectors.toSet());
+
+        Map<Integer, LocationEntity> locations = locationRepository.findAllById(locationIds).stream()
+                .collect(Collectors.toMap(LocationEntity::getLocationId, Function.identity()));
+        Map<Integer, CoordinatorEntity> coordinators = coordinatorRepository.findAllById(coordinatorIds).stream()
+                .collect(Collectors.toMap(CoordinatorEntity::getUserId, Function.identity()));
+        Map<Integer, TagEntity> tags = tagService.findTagEntities(tagIds).stream()
+                .collect(Collectors.toMap(TagEntity::getTagId, Function.identity()));
+
+        Map<Integer, CoverEntity> covers = new HashMap<>();
+        Set<Integer> usedCoverIds = new HashSet<>();
+        if (!coverIds.isEmpty()) {
+            coverRepository.findAllByCoverIdInAndDeletedAtIsNull(coverIds)
+                    .forEach(cover -> covers.put(cover.getCoverId(), cover));
+            usedCoverIds.addAll(eventRepository.findUsedCoverIds(coverIds));
+        }
+
+        Set<EventSlot> occupiedSlots = eventRepository.findOccupiedSlots(locationIds, dateTimestamps).stream()
+                .map(row -> new EventSlot(row.getLocationId(), row.getDateTimestamp()))
+                .collect(Collectors.toSet());
+
+        // one pass resolves conflicts against the database and against earlier items of the batch
+        Map<EventSlot, Integer> batchSlots = new HashMap<>();
+        Map<Integer, Integer> batchCovers = new HashMap<>();
+        List<EventBulkItemResult> results = new ArrayList<>(items.size());
+        Map<Integer, EventEntity> eventsByIndex = new LinkedHashMap<>();
+
+        for (int index = 0; index < items.size(); index++) {
+            EventCreateV2Request item = items.get(index);
+            EventSlot slot = new EventSlot(item.getLocationId(), item.getDateTimestamp());
+
+            LocationEntity location = locations.get(item.getLocationId());
+            if (location == null) {
+                results.add(failedBulkItem(index, "LOCATION_NOT_FOUND",
+                        "location with id - " + item.getLocationId() + " not found"));
+                continue;
+            }
+
+            if (occupiedSlots.contains(slot)) {
+                results.add(failedBulkItem(index, "LOCATION_ALREADY_EXISTS",
+                        "location with id - " + item.getLocationId()
+                                + " is occupied in date - " + item.getDateTimestamp()));
+                continue;
+            }
+
+            if (batchSlots.containsKey(slot)) {
+                results.add(failedBulkItem(index, "LOCATION_ALREADY_EXISTS",
+                        "location with id - " + item.getLocationId() + " is occupied in date - "
+                                + item.getDateTimestamp() + " by item " + batchSlots.get(slot)));
+                continue;
+            }
+
+            CoverEntity cover = null;
+            if (item.getCoverId() != null) {
+                cover = covers.get(item.getCoverId());
+                if (cover == null) {
+                    results.add(failedBulkItem(index, "COVER_NOT_FOUND",
+                            "cover with id - " + item.getCoverId() + " not found"));
+                    continue;
+                }
+
+                if (usedCoverIds.contains(item.getCoverId())) {
+                    results.add(failedBulkItem(index, "COVER_ALREADY_EXISTS",
+                            "cover with id - " + item.getCoverId() + " already exists"));
+                    continue;
+                }
+
+                if (batchCovers.containsKey(item.getCoverId())) {
+                    results.add(failedBulkItem(index, "COVER_ALREADY_EXISTS",
+                            "cover with id - " + item.getCoverId() + " is already used by item "
+                                    + batchCovers.get(item.getCoverId())));
+                    continue;
+                }
+            }
+
+            CoordinatorEntity coordinator = coordinators.get(item.getCoordinatorId());
+            if (coordinator == null) {
+                results.add(failedBulkItem(index, "COORDINATOR_NOT_FOUND",
+                        "coordinator with id - " + item.getCoordinatorId() + " not found"));
+                continue;
+            }
+
+            Set<Integer> itemTagIds = item.getTagIds() != null ? item.getTagIds() : Set.of();
+            Set<Integer> missingTagIds = itemTagIds.stream()
+                    .filter(tagId -> !tags.containsKey(tagId))
+                    .collect(Collectors.toSet());
+            if (!missingTagIds.isEmpty()) {
+                results.add(failedBulkItem(index, "TAG_NOT_FOUND",
+                        "Tags not found with IDs: " + missingTagIds));
+                continue;
+            }
+
+            batchSlots.put(slot, index);
+            if (cover != null) {
+                batchCovers.put(cover.getCoverId(), index);
+            }
+
+            eventsByIndex.put(index, EventEntity.builder()
+                    .name(item.getName())
+                    .status(EventStatus.valueOf(item.getStatus()))
+                    .description(item.getDescription())
+                    .cover(cover)
+                    .coordinator(coordinator)
+                    .maxCapacity(item.getMaxCapacity())
+                    .weightMinutes(item.getWeightMinutes())
+                    .dateTimestamp(item.getDateTimestamp())
+                    .location(location)
+                    .tags(itemTagIds.stream().map(tags::get).collect(Collectors.toSet()))
+                    .build());
+            results.add(null);
+        }
+
+        if (!eventsByIndex.isEmpty()) {
+            try {
+                eventRepository.saveAll(eventsByIndex.values());
+                eventRepository.flush();
+            } catch (DataIntegrityViolationException ex) {
+                // only a concurrent writer can get here after validation, so the whole batch is rolled back
+                throw mapEventConstraintException(ex, null, " - an item of the batch lost it to a concurrent write, retry the batch");
+            }
+
+            eventsByIndex.forEach((index, event) -> results.set(index, EventBulkItemResult.builder()
+                    .index(index)
+                    .status(EventBulkItemStatus.CREATED)
+                    .eventId(event.getEventId())
+                    .build()));
+
+            eventCardWriter.refreshAll(eventsByIndex.values().stream()
+                    .map(EventEntity::getEventId)
+                    .toList());
+        }
+
+        return EventBulkCreateResponse.builder()
+                .created(eventsByIndex.size())
+                .failed(items.size() - eventsByIndex.size())
+                .items(results)
+                .build();
     }
 
     @Override
     @Transactional
-    public PatchResponse patchEvent(Integer eventId, EventPatchRequest request) {
+    public PatchResponse patchEvent(Integer eventId, EventPatchRequest request, Long expectedVersion) {
 
         EventEntity event = eventRepository.findByEventId(eventId)
                 .orElseThrow(() -> new EventNotFoundException("event with id - " + eventId + " not found"));
 
+        if (expectedVersion != null && !expectedVersion.equals(event.getVersion())) {
+            throw new EventVersionMismatchException(
+                    "event with id - " + eventId + " has version " + event.getVersion() + ", expected " + expectedVersion
+            );
+        }
+
         if (request.getName() != null) {
             event.setName(request.getName());
         }
@@ -243,8 +451,11 @@ public class EventServiceImpl implements EventService {
             updateEvent = eventRepository.saveAndFlush(event);
         } catch (DataIntegrityViolationException ex) {
             throw mapEventConstraintException(ex, event);
+        } catch (OptimisticLockingFailureException ex) {
+            throw new EventVersionMismatchException("event with id - " + eventId + " was modified concurrently");
         }
-
+        eventCardWriter.refresh(eventId);
+        eventDetailCache.evictAfterCommit(eventId);
 
         return PatchResponse.builder()
                 .eventId(eventId)
@@ -261,6 +472,7 @@ public class EventServiceImpl implements EventService {
                         updateEvent.getTags().stream()
                         .map(TagEntity::getTagId)
                         .collect(Collectors.toSet()) : null)
+                .version(updateEvent.getVersion())
                 .build();
     }
 
@@ -271,6 +483,8 @@ public class EventServiceImpl implements EventService {
                 .orElseThrow(() -> new EventNotFoundException("event with id - " + eventId + " not found"));
         event.setStatus(EventStatus.valueOf(request.getEventStatus()));
         eventRepository.save(event);
+        eventCardWriter.refresh(eventId);
+        eventDetailCache.evictAfterCommit(eventId);
     }
 
 
@@ -281,63 +495,321 @@ public class EventServiceImpl implements EventService {
             throw new EventNotFoundException("event with id - " + eventId + " not found");
         }
         eventRepository.deleteById(eventId);
+        eventCardWriter.delete(eventId);
+        eventDetailCache.evictAfterCommit(eventId);
     }
 
     @Override
-    @Transactional(readOnly = true)
     public GetAllResponse getEventById(Integer eventId) {
-        EventEntity event = eventRepository.findByEventId(eventId)
-                .orElseThrow(() -> new EventNotFoundException("event with id - " + eventId + " not found"));
+        return eventDetailCache.getResponse(eventId, () -> convertToResponse(getDetailedEvent(eventId)));
+    }
 
-        return convertToResponse(event);
+    @Override
+    public EventV2Response getEventV2ById(Integer eventId) {
+        return eventDetailCache.getV2Response(eventId, () -> convertToV2Response(getDetailedEvent(eventId)));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public EventV2Response getEventV2ById(Integer eventId) {
-        EventEntity event = eventRepository.findByEventId(eventId)
+    public Long getEventVersion(Integer eventId) {
+        return eventRepository.findVersionByEventId(eventId)
                 .orElseThrow(() -> new EventNotFoundException("event with id - " + eventId + " not found"));
+    }
+
+    @Override
+    public EventDetailCacheStatsResponse getEventDetailCacheStats() {
+        return eventDetailCache.getStats();
+    }
+
+    private EventEntity getDetailedEvent(Integer eventId) {
+        return eventRepository.findDetailedByEventIdIn(List.of(eventId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new EventNotFoundException("event with id - " + eventId + " not found"));
+    }
+
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<GetAllResponse> getAllEvents(Pageable pageable, TotalMode totalMode) {
+        return findAllEvents(pageable, totalMode, eventCardMapper::toResponse);
+    }
 
-        return convertToV2Response(event);
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<EventV2Response> getAllEventsV2(Pageable pageable, TotalMode totalMode) {
+        return findAllEvents(pageable, totalMode, eventCardMapper::toV2Response);
     }
 
+    private <T> PageResponse<T> findAllEvents(Pageable pageable, TotalMode totalMode, Function<EventCardEntity, T> mapper) {
+        if (totalMode == TotalMode.EXACT) {
+            Page<Integer> eventIdPage = eventRepository.findEventIdsOrderByDateTimestampDesc(pageable);
+            return eventPageHydrator.hydrate(eventIdPage, mapper);
+        }
+
+        Slice<Integer> eventIdSlice = eventRepository.findEventIdSliceOrderByDateTimestampDesc(pageable);
+        Long approximateTotal = totalMode == TotalMode.APPROXIMATE
+                ? totalCountCache.get("event:all", eventRepository::count)
+                : null;
+
+        return eventPageHydrator.hydrate(eventIdSlice, approximateTotal, mapper);
+    }
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponse<GetAllResponse> getAllEvents(Pageable pageable) {
-        Page<EventEntity> eventPage = eventRepository.findAllByOrderByDateTimestampDesc(pageable);
+    public CursorPageResponse<GetAllResponse> getAllEventsByCursor(String cursor, int size) {
+        EventCursor eventCursor = EventCursor.decode(cursor);
+        List<Integer> eventIds = findKeysetEventIds(eventCursor, size);
+
+        List<GetAllResponse> content = hydrateWindow(eventIds, eventCursor, size, eventCardMapper::toResponse);
+
+        return EventCursor.toResponse(
+                content,
+                eventCursor,
+                size,
+                eventIds.size() > size,
+                GetAllResponse::getDateTimestamp,
+                GetAllResponse::getEventId
+        );
+    }
 
-        List<GetAllResponse> content = eventPage.getContent().stream()
-                .map(this::convertToResponse)
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<EventV2Response> getAllEventsV2ByCursor(String cursor, int size) {
+        EventCursor eventCursor = EventCursor.decode(cursor);
+        List<Integer> eventIds = findKeysetEventIds(eventCursor, size);
+
+        List<EventV2Response> content = hydrateWindow(eventIds, eventCursor, size, eventCardMapper::toV2Response);
+
+        return EventCursor.toResponse(
+                content,
+                eventCursor,
+                size,
+                eventIds.size() > size,
+                EventV2Response::getDateTimestamp,
+                EventV2Response::getEventId
+        );
+    }
+
+    private List<Integer> findKeysetEventIds(EventCursor eventCursor, int size) {
+        Pageable lookAhead = PageRequest.of(0, size + 1);
+
+        if (eventCursor == null) {
+            return eventRepository.findFirstKeysetEventIds(lookAhead);
+        }
+
+        if (eventCursor.isPrev()) {
+            return eventRepository.findKeysetEventIdsBefore(
+                    eventCursor.getDateTimestamp(),
+                    eventCursor.getEventId(),
+                    lookAhead
+            );
+        }
+
+        return eventRepository.findKeysetEventIdsAfter(
+                eventCursor.getDateTimestamp(),
+                eventCursor.getEventId(),
+                lookAhead
+        );
+    }
+
+    private <T> List<T> hydrateWindow(
+            List<Integer> eventIds,
+            EventCursor eventCursor,
+            int size,
+            Function<EventCardEntity, T> mapper
+    ) {
+        return eventPageHydrator.hydrate(EventCursor.window(eventIds, eventCursor, size)).stream()
+                .map(mapper)
                 .collect(Collectors.toList());
-        return PageResponse.of(new PageImpl<>(content, pageable, eventPage.getTotalElements()));
     }
 
+
     @Override
     @Transactional(readOnly = true)
-    public PageResponse<EventV2Response> getAllEventsV2(Pageable pageable) {
-        Page<EventEntity> eventPage = eventRepository.findAllByOrderByDateTimestampDesc(pageable);
+    public PageResponse<GetAllResponse> searchEvents(EventSearchRequest request, Pageable pageable, TotalMode totalMode) {
+        String tsQuery = request.getMode() == EventSearchMode.SUBSTRING
+                ? null
+                : EventSearchQuery.toTsQuery(request.getName(), request.isPrefix());
 
-        List<EventV2Response> content = eventPage.getContent().stream()
-                .map(this::convertToV2Response)
+        if (tsQuery == null) {
+            return searchEventsByName(request.getName(), pageable, totalMode);
+        }
+
+        // results are ordered by ts_rank, so the caller's sort does not apply
+        Pageable rankedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+        if (totalMode == TotalMode.EXACT) {
+            Page<EventSearchHit> hitPage = eventRepository.fullTextSearchEvents(tsQuery, request.isHighlight(), rankedPageable);
+            return PageResponse.of(
+                    new PageImpl<>(convertSearchHits(hitPage.getContent()), hitPage.getPageable(), hitPage.getTotalElements())
+            );
+        }
+
+        Slice<EventSearchHit> hitSlice = eventRepository.fullTextSearchEventSlice(tsQuery, request.isHighlight(), rankedPageable);
+        Long approximateTotal = totalMode == TotalMode.APPROXIMATE
+                ? totalCountCache.get("event:full-text:" + tsQuery, () -> eventRepository.countFullTextSearch(tsQuery))
+                : null;
+
+        return PageResponse.of(
+                new SliceImpl<>(convertSearchHits(hitSlice.getContent()), hitSlice.getPageable(), hitSlice.hasNext()),
+                approximateTotal
+        );
+    }
+
+    private PageResponse<GetAllResponse> searchEventsByName(String name, Pageable pageable, TotalMode totalMode) {
+        String escapedName = escapeLikePattern(name);
+
+        if (totalMode == TotalMode.EXACT) {
+            Page<Integer> eventIdPage = eventRepository.searchEventIdsByName(escapedName, pageable);
+            return eventPageHydrator.hydrate(eventIdPage, eventCardMapper::toResponse);
+        }
+
+        Slice<Integer> eventIdSlice = eventRepository.searchEventIdSliceByName(escapedName, pageable);
+        Long approximateTotal = totalMode == TotalMode.APPROXIMATE
+                ? totalCountCache.get("event:search:" + escapedName.toLowerCase(Locale.ROOT),
+                        () -> eventRepository.countByNameSearch(escapedName))
+                : null;
+
+        return eventPageHydrator.hydrate(eventIdSlice, approximateTotal, eventCardMapper::toResponse);
+    }
+
+    private List<GetAllResponse> convertSearchHits(List<EventSearchHit> hits) {
+        return eventPageHydrator.hydrate(hits, EventSearchHit::getEventId, (card, hit) -> {
+            GetAllResponse response = eventCardMapper.toResponse(card);
+            response.setSearchRank(hit.getRank());
+            response.setSearchHeadline(hit.getHeadline());
+            return response;
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<EventV2Response> getPopularUpcomingEventsV2(Pageable pageable) {
+        Slice<Integer> eventIdSlice = eventPopularityRepository.findPopularUpcomingEventIds(LocalDateTime.now(), pageable);
+        return eventPageHydrator.hydrate(eventIdSlice, null, eventCardMapper::toV2Response);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventV2Response> getTrendingEventsV2(int limit) {
+        // ranked in memory by decayed application velocity, the database only hydrates the chosen cards
+        return eventPageHydrator.hydrate(trendingEvents.top(limit)).stream()
+                .map(eventCardMapper::toV2Response)
                 .collect(Collectors.toList());
+    }
 
-        return PageResponse.of(new PageImpl<>(content, pageable, eventPage.getTotalElements()));
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<EventV2Response> filterEventsV2(EventFilterRequest filter, Pageable pageable) {
+        // only whitelisted combinations reach the database, each one served by its own composite index
+        EventFilterPlan plan = EventFilterPlan.of(filter);
+        // selecting the id alone lets the plan's index answer the page without touching the table rows
+        Page<Integer> eventIdPage = eventRepository.findBy(
+                plan.toSpecification(filter),
+                query -> query.as(EventIdRow.class)
+                        .sortBy(plan.sort(filter.getSort()))
+                        .page(PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()))
+        ).map(EventIdRow::getEventId);
+
+        return eventPageHydrator.hydrate(eventIdPage, eventCardMapper::toV2Response);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public PageResponse<EventV2Response> browseEventsV2(
+            Set<Integer> tagIds,
+            EventTagMatch tagMatch,
+            Set<EventStatus> statuses,
+            LocalDate from,
+            LocalDate to,
+            Pageable pageable
+    ) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new IllegalArgumentException("invalid date window - from must not be after to");
+        }
+
+        // filtered by bitmap operations in memory, the database only hydrates the page
+        Page<Integer> eventIdPage = eventBitmapIndex.browse(
+                new EventBitmapIndex.Filter(tagIds, tagMatch, statuses, from, to),
+                pageable
+        );
+        return eventPageHydrator.hydrate(eventIdPage, eventCardMapper::toV2Response);
+    }
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponse<GetAllResponse> searchEvents(EventSearchRequest request, Pageable pageable) {
-        String escapedName = escapeLikePattern(request.getName());
+    public PageResponse<EventV2Response> getUpcomingEventsNearby(
+            double latitude,
+            double longitude,
+            double radiusKm,
+            Pageable pageable
+    ) {
+        GeoBoundingBox boundingBox = GeoBoundingBox.around(latitude, longitude, radiusKm);
+
+        Page<EventDistanceHit> hitPage = eventRepository.findNearbyUpcomingEvents(
+                latitude,
+                longitude,
+                radiusKm,
+                boundingBox.minLatitude(),
+                boundingBox.maxLatitude(),
+                boundingBox.minLongitude(),
+                boundingBox.maxLongitude(),
+                LocalDateTime.now(),
+                pageable
+        );
+
+        List<EventV2Response> content = eventPageHydrator.hydrate(hitPage.getContent(), EventDistanceHit::getEventId, (card, hit) -> {
+            EventV2Response response = eventCardMapper.toV2Response(card);
+            response.setDistanceKm(hit.getDistanceKm());
+            return response;
+        });
+
+        return PageResponse.of(new PageImpl<>(content, hitPage.getPageable(), hitPage.getTotalElements()));
+    }
 
-        Page<EventEntity> eventPage = eventRepository.searchByName(escapedName, pageable);
+    @Override
+    @Transactional(readOnly = true)
+    public List<EventMapClusterResponse> getUpcomingEventMapClusters(
+            double minLatitude,
+            double maxLatitude,
+            double minLongitude,
+            double maxLongitude,
+            int zoom
+    ) {
+        if (minLatitude > maxLatitude || minLongitude > maxLongitude) {
+            throw new IllegalArgumentException("invalid viewport - min coordinates must not exceed max coordinates");
+        }
 
-        List<GetAllResponse> content = eventPage.getContent().stream()
-                .map(this::convertToResponse)
+        // one web map tile spans 360 / 2^zoom degrees of longitude, split it into a few cells per side
+        double cellSize = 360.0 / (1L << zoom) / MAP_CELLS_PER_TILE;
+
+        return eventRepository.findUpcomingEventMapClusters(
+                        minLatitude,
+                        maxLatitude,
+                        minLongitude,
+                        maxLongitude,
+                        cellSize,
+                        MAP_CLUSTER_SAMPLE_SIZE,
+                        MAP_MAX_CLUSTERS,
+                        LocalDateTime.now()
+                ).stream()
+                .map(this::convertToMapClusterResponse)
                 .collect(Collectors.toList());
+    }
 
-        return PageResponse.of(new PageImpl<>(content, pageable, eventPage.getTotalElements()));
+    private EventMapClusterResponse convertToMapClusterResponse(EventMapClusterRow row) {
+        List<Integer> sampleEventIds = row.getSampleEventIds() == null
+                ? Collections.emptyList()
+                : Arrays.stream(row.getSampleEventIds().split(","))
+                        .map(Integer::valueOf)
+                        .collect(Collectors.toList());
+
+        return EventMapClusterResponse.builder()
+                .count(row.getEventCount())
+                .latitude(row.getLatitude())
+                .longitude(row.getLongitude())
+                .sampleEventIds(sampleEventIds)
+                .build();
     }
 
     private String escapeLikePattern(String value) {
@@ -348,45 +820,94 @@ public class EventServiceImpl implements EventService {
     }
 
     @Override
-    public PageResponse<GetAllResponse> getRecommendations(Integer currentUserId, Pageable pageable) {
+    @Transactional(readOnly = true)
+    public PageResponse<GetAllResponse> getRecommendations(Integer currentUserId, Pageable pageable, TotalMode totalMode) {
+        LocalDateTime now = LocalDateTime.now();
+        boolean rankedInMemory = recommendationIndex.isReady();
+
+        // the ranking runs once per user and TTL, in memory when the index is ready and in the database otherwise;
+        // later pages are cut from the cached head of the ranking
+        RecommendationCache.Ranking ranking = recommendationCache.get(currentUserId, limit -> {
+            if (rankedInMemory) {
+                RecommendationIndex.Recommendations head = recommendationIndex.recommend(currentUserId, 0, limit);
+                return new RecommendationCache.Ranking(head.eventIds(), head.total());
+            }
+            Slice<Integer> head = eventRepository.findRecommendedEventIdSlice(currentUserId, now, PageRequest.of(0, limit));
+            return new RecommendationCache.Ranking(
+                    head.getContent(),
+                    head.hasNext() ? null : (long) head.getNumberOfElements()
+            );
+        });
 
-        Page<Integer> recommendedEventIdPage = eventRepository.findRecommendedEventIds(
-                currentUserId,
-                LocalDateTime.now(),
-                pageable
-        );
+        if (ranking.covers(pageable.getOffset(), pageable.getPageSize())) {
+            List<Integer> eventIds = ranking.page(pageable.getOffset(), pageable.getPageSize());
 
-        if (recommendedEventIdPage.isEmpty()) {
-            return PageResponse.of(
-                    new PageImpl<>(
-                            Collections.emptyList(),
-                            recommendedEventIdPage.getPageable(),
-                            recommendedEventIdPage.getTotalElements()
-                    )
+            if (totalMode == TotalMode.EXACT) {
+                long total = ranking.total() != null
+                        ? ranking.total()
+                        : eventRepository.countRecommendedEventIds(currentUserId, now);
+                return eventPageHydrator.hydrate(new PageImpl<>(eventIds, pageable, total), eventCardMapper::toResponse);
+            }
+
+            Long approximateTotal = null;
+            if (totalMode == TotalMode.APPROXIMATE) {
+                approximateTotal = ranking.total() != null
+                        ? ranking.total()
+                        : totalCountCache.get("event:recommended:" + currentUserId,
+                                () -> eventRepository.countRecommendedEventIds(currentUserId, now));
+            }
+            return eventPageHydrator.hydrate(
+                    new SliceImpl<>(eventIds, pageable, ranking.hasNext(pageable.getOffset(), pageable.getPageSize())),
+                    approximateTotal,
+                    eventCardMapper::toResponse
             );
         }
 
-        List<Integer> rankedEventIds = recommendedEventIdPage.getContent();
-        Map<Integer, Integer> eventOrder = new LinkedHashMap<>();
+        if (rankedInMemory) {
+            // past the cached head: ranked in memory, the database only hydrates the chosen page
+            RecommendationIndex.Recommendations recommendations = recommendationIndex.recommend(
+                    currentUserId,
+                    pageable.getOffset(),
+                    pageable.getPageSize()
+            );
 
-        for (int index = 0; index < rankedEventIds.size(); index++) {
-            eventOrder.put(rankedEventIds.get(index), index);
+            if (totalMode == TotalMode.EXACT) {
+                return eventPageHydrator.hydrate(
+                        new PageImpl<>(recommendations.eventIds(), pageable, recommendations.total()),
+                        eventCardMapper::toResponse
+                );
+            }
+            return eventPageHydrator.hydrate(
+                    new SliceImpl<>(
+                            recommendations.eventIds(),
+                            pageable,
+                            pageable.getOffset() + pageable.getPageSize() < recommendations.total()
+                    ),
+                    totalMode == TotalMode.APPROXIMATE ? recommendations.total() : null,
+                    eventCardMapper::toResponse
+            );
         }
 
-        List<GetAllResponse> content = eventRepository.findDetailedByEventIdIn(rankedEventIds).stream()
-                .sorted(Comparator.comparingInt(
-                        event -> eventOrder.getOrDefault(event.getEventId(), Integer.MAX_VALUE)
-                ))
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        if (totalMode == TotalMode.EXACT) {
+            Page<Integer> recommendedEventIdPage = eventRepository.findRecommendedEventIds(
+                    currentUserId,
+                    now,
+                    pageable
+            );
+            return eventPageHydrator.hydrate(recommendedEventIdPage, eventCardMapper::toResponse);
+        }
 
-        return PageResponse.of(
-                new PageImpl<>(
-                        content,
-                        recommendedEventIdPage.getPageable(),
-                        recommendedEventIdPage.getTotalElements()
-                )
+        Slice<Integer> recommendedEventIdSlice = eventRepository.findRecommendedEventIdSlice(
+                currentUserId,
+                now,
+                pageable
         );
+        Long approximateTotal = totalMode == TotalMode.APPROXIMATE
+                ? totalCountCache.get("event:recommended:" + currentUserId,
+                        () -> eventRepository.countRecommendedEventIds(currentUserId, now))
+                : null;
+
+        return eventPageHydrator.hydrate(recommendedEventIdSlice, approximateTotal, eventCardMapper::toResponse);
     }
 
     @Transactional(readOnly = true)
@@ -402,6 +923,7 @@ public class EventServiceImpl implements EventService {
                 .dateTimestamp(event.getDateTimestamp())
                 .location(convertLocationToLocationDTO(event.getLocation()))
                 .tags(convertTagsToTagsDTO(event.getTags()))
+                .version(event.getVersion())
                 .build();
     }
 
@@ -418,6 +940,7 @@ public class EventServiceImpl implements EventService {
                 .dateTimestamp(event.getDateTimestamp())
                 .location(convertLocationToLocationDTO(event.getLocation()))
                 .tags(convertTagsToTagsDTO(event.getTags()))
+                .version(event.getVersion())
                 .build();
     }
 
@@ -464,39 +987,69 @@ public class EventServiceImpl implements EventService {
     }
 
 
+    private static Set<Integer> collectIds(
+            List<EventCreateV2Request> items,
+            Function<EventCreateV2Request, Integer> id
+    ) {
+        return items.stream()
+                .map(id)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private static EventBulkItemResult failedBulkItem(int index, String errorCode, String message) {
+        return EventBulkItemResult.builder()
+                .index(index)
+                .status(EventBulkItemStatus.FAILED)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+
+    private record EventSlot(Integer locationId, LocalDateTime dateTimestamp) {
+    }
+
     private RuntimeException mapEventConstraintException(
             DataIntegrityViolationException ex,
             EventEntity event
+    ) {
+        return mapEventConstraintException(ex, event, "");
+    }
+
+    // the only mapping of event constraints to domain exceptions; a bulk insert does not know which item hit
+    // the constraint, so it passes no event and only adds the batch context to the message
+    private RuntimeException mapEventConstraintException(
+            DataIntegrityViolationException ex,
+            EventEntity event,
+            String context
     ) {
         String message = ex.getMostSpecificCause() != null
                 ? ex.getMostSpecificCause().getMessage()
                 : ex.getMessage();
 
         if (message != null && message.contains("uk_event_cover")) {
-            String coverIdMessage = event.getCover() != null
+            String coverIdMessage = event != null && event.getCover() != null
                     ? " with id - " + event.getCover().getCoverId()
                     : "";
 
             return new CoverAlreadyExistsException(
-                    "cover" + coverIdMessage + " is already used by another event"
+                    "cover" + coverIdMessage + " is already used by another event" + context
             );
         }
 
-
         if (message != null && message.contains("uk_event_location_datetime")) {
-            String locationIdMessage = event.getLocation() != null
+            String locationIdMessage = event != null && event.getLocation() != null
                     ? " with id - " + event.getLocation().getLocationId()
                     : "";
+            String dateMessage = event != null
+                    ? " in date - " + event.getDateTimestamp()
+                    : "";
 
             return new LocationAlreadyExistsException(
-                    "location" + locationIdMessage + " is occupied in date - "
-                            + event.getDateTimestamp()
+                    "location" + locationIdMessage + " is occupied" + dateMessage + context
             );
         }
 
-
         return ex;
     }
-
-
 }
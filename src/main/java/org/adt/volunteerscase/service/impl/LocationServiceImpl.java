@@ -12,27 +12,52 @@ import org.adt.volunteerscase.exception.LocationAlreadyExistsException;
 import org.adt.volunteerscase.exception.LocationNotFoundException;
 import org.adt.volunteerscase.repository.LocationRepository;
 import org.adt.volunteerscase.service.LocationService;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.adt.volunteerscase.service.event.EventDetailCache;
+import org.adt.volunteerscase.service.page.TotalCountCache;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class LocationServiceImpl implements LocationService {
 
+    private static final double SIMILAR_ADDRESS_THRESHOLD = 0.6;
+    private static final int SIMILAR_ADDRESS_LIMIT = 5;
+
     private final LocationRepository locationRepository;
+    private final TotalCountCache totalCountCache;
+    private final EventDetailCache eventDetailCache;
+    private final EventCardWriter eventCardWriter;
 
     @Override
     public void createLocation(LocationCreateRequest request) {
         if (locationRepository.existsByAddress(request.getAddress())) {
             throw new LocationAlreadyExistsException("location with address " + request.getAddress() + " already exists");
         }
+        if (!request.isAllowSimilar()) {
+            List<String> similarAddresses = locationRepository.findSimilarAddresses(
+                    request.getAddress(),
+                    SIMILAR_ADDRESS_THRESHOLD,
+                    SIMILAR_ADDRESS_LIMIT
+            );
+            if (!similarAddresses.isEmpty()) {
+                throw new LocationAlreadyExistsException(
+                        "location with similar address already exists - " + String.join("; ", similarAddresses)
+                );
+            }
+        }
         LocationEntity locationEntity = LocationEntity.builder()
                 .address(request.getAddress())
                 .additionalNotes(request.getAdditionalNotes())
@@ -48,14 +73,31 @@ public class LocationServiceImpl implements LocationService {
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponse<LocationResponse> searchLocations(LocationSearchRequest request, Pageable pageable) {
-        Page<LocationEntity> locationPage = locationRepository.searchByAddress(request.getAddress(), pageable);
+    public PageResponse<LocationResponse> searchLocations(
+            LocationSearchRequest request,
+            Pageable pageable,
+            TotalMode totalMode
+    ) {
+        // results are ordered by trigram similarity, so the caller's sort does not apply
+        Pageable rankedPageable = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+
+        if (totalMode != TotalMode.EXACT) {
+            Slice<LocationEntity> locationSlice = locationRepository.searchSliceByAddress(request.getAddress(), rankedPageable);
+            Long approximateTotal = totalMode == TotalMode.APPROXIMATE
+                    ? totalCountCache.get("location:search:" + request.getAddress().toLowerCase(Locale.ROOT),
+                            () -> locationRepository.countByAddressSearch(request.getAddress()))
+                    : null;
+
+            return PageResponse.of(locationSlice.map(this::convertToResponse), approximateTotal);
+        }
+
+        Page<LocationEntity> locationPage = locationRepository.searchByAddress(request.getAddress(), rankedPageable);
 
         List<LocationResponse> content = locationPage.getContent().stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
 
-        return PageResponse.of(new PageImpl<>(content, pageable, locationPage.getTotalElements()));
+        return PageResponse.of(new PageImpl<>(content, rankedPageable, locationPage.getTotalElements()));
     }
 
     @Override
@@ -89,6 +131,10 @@ public class LocationServiceImpl implements LocationService {
         } catch (DataIntegrityViolationException ex) {
             throw new LocationAlreadyExistsException("location with address " + locationEntity.getAddress() + " already exists");
         }
+        locationRepository.bumpEventVersionsByLocationId(locationId);
+        eventCardWriter.refreshByLocationId(locationId);
+        eventDetailCache.evictByLocationAfterCommit(locationId);
+
         return LocationPatchResponse.builder()
                 .locationId(locationEntity.getLocationId())
                 .address(locationEntity.getAddress())
@@ -17,9 +17,12 @@ import org.adt.volunteerscase.repository.UserEventRepository;
 import org.adt.volunteerscase.repository.UserRatingRepository;
 import org.adt.volunteerscase.repository.UserRepository;
 import org.adt.volunteerscase.service.RatingService;
+import org.adt.volunteerscase.service.page.TotalCountCache;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -41,6 +44,7 @@ public class RatingServiceImpl implements RatingService {
     private final CoordinatorRepository coordinatorRepository;
     private final UserRatingRepository userRatingRepository;
     private final CoordinatorRatingRepository coordinatorRatingRepository;
+    private final TotalCountCache totalCountCache;
 
     @Override
     @Transactional
@@ -119,7 +123,17 @@ public class RatingServiceImpl implements RatingService {
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponse<UserRatingResponse> getUserRating(RatingPeriod period, Pageable pageable) {
+    public PageResponse<UserRatingResponse> getUserRating(RatingPeriod period, Pageable pageable, TotalMode totalMode) {
+        if (totalMode != TotalMode.EXACT) {
+            Slice<UserRatingEntity> ratingSlice =
+                    userRatingRepository.findSliceByPeriodOrderByRatingPositionAscUserUserIdAsc(period, pageable);
+            Long approximateTotal = totalMode == TotalMode.APPROXIMATE
+                    ? totalCountCache.get("rating:user:" + period, () -> userRatingRepository.countByPeriod(period))
+                    : null;
+
+            return PageResponse.of(ratingSlice.map(this::convertToUserRatingResponse), approximateTotal);
+        }
+
         Page<UserRatingEntity> ratingPage =
                 userRatingRepository.findByPeriodOrderByRatingPositionAscUserUserIdAsc(period, pageable);
 
@@ -132,7 +146,21 @@ public class RatingServiceImpl implements RatingService {
 
     @Override
     @Transactional(readOnly = true)
-    public PageResponse<CoordinatorRatingResponse> getCoordinatorRating(RatingPeriod period, Pageable pageable) {
+    public PageResponse<CoordinatorRatingResponse> getCoordinatorRating(
+            RatingPeriod period,
+            Pageable pageable,
+            TotalMode totalMode
+    ) {
+        if (totalMode != TotalMode.EXACT) {
+            Slice<CoordinatorRatingEntity> ratingSlice =
+                    coordinatorRatingRepository.findSliceByPeriodOrderByRatingPositionAscCoordinatorUserIdAsc(period, pageable);
+            Long approximateTotal = totalMode == TotalMode.APPROXIMATE
+                    ? totalCountCache.get("rating:coordinator:" + period, () -> coordinatorRatingRepository.countByPeriod(period))
+                    : null;
+
+            return PageResponse.of(ratingSlice.map(this::convertToCoordinatorRatingResponse), approximateTotal);
+        }
+
         Page<CoordinatorRatingEntity> ratingPage =
                 coordinatorRatingRepository.findByPeriodOrderByRatingPositionAscCoordinatorUserIdAsc(period, pageable);
 
@@ -11,6 +11,9 @@ import org.adt.volunteerscase.repository.EventRepository;
 import org.adt.volunteerscase.repository.TagRepository;
 import org.adt.volunteerscase.repository.UserRepository;
 import org.adt.volunteerscase.service.TagService;
+import org.adt.volunteerscase.service.event.EventBitmapIndex;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.adt.volunteerscase.service.event.EventDetailCache;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,6 +28,9 @@ import java.util.stream.Collectors;
 public class TagServiceImpl implements TagService {
 
     private final TagRepository tagRepository;
+    private final EventDetailCache eventDetailCache;
+    private final EventCardWriter eventCardWriter;
+    private final EventBitmapIndex eventBitmapIndex;
 
 
     @Override
@@ -50,6 +56,15 @@ public class TagServiceImpl implements TagService {
         return new HashSet<>(foundTags);
     }
 
+    @Override
+    public List<TagEntity> findTagEntities(Set<Integer> tagIds) {
+        if (tagIds == null || tagIds.isEmpty()) {
+            return List.of();
+        }
+
+        return tagRepository.findAllByTagIdIn(tagIds);
+    }
+
     @Override
     @Transactional
     public void createTag(TagCreateRequest request) {
@@ -80,6 +95,9 @@ public class TagServiceImpl implements TagService {
 
         tagEntity.setTagName(request.getTagName());
         tagRepository.save(tagEntity);
+        tagRepository.bumpEventVersionsByTagId(tagId);
+        eventCardWriter.refreshAll(tagRepository.findEventIdsByTagId(tagId));
+        eventDetailCache.evictByTagAfterCommit(tagId);
     }
 
     @Override
@@ -126,7 +144,13 @@ public class TagServiceImpl implements TagService {
     }
 
     private void detachTagFromRelations(Integer tagId) {
+        List<Integer> taggedEventIds = tagRepository.findEventIdsByTagId(tagId);
+
         tagRepository.deleteUserTagLinksByTagId(tagId);
+        tagRepository.bumpEventVersionsByTagId(tagId);
         tagRepository.deleteEventTagLinksByTagId(tagId);
+        eventCardWriter.refreshAll(taggedEventIds);
+        eventDetailCache.evictByTagAfterCommit(tagId);
+        eventBitmapIndex.removeTagAfterCommit(tagId);
     }
 }
@@ -1,10 +1,15 @@
 package org.adt.volunteerscase.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.adt.volunteerscase.dto.userEvent.request.UserEventBulkStatusPatchRequest;
 import org.adt.volunteerscase.dto.userEvent.request.UserEventStatusPatchRequest;
+import org.adt.volunteerscase.dto.userEvent.response.UserEventBulkItemResult;
+import org.adt.volunteerscase.dto.userEvent.response.UserEventBulkItemStatus;
+import org.adt.volunteerscase.dto.userEvent.response.UserEventBulkStatusResponse;
 import org.adt.volunteerscase.dto.userEvent.response.UserEventResponse;
 import org.adt.volunteerscase.entity.UserEventEntity;
 import org.adt.volunteerscase.entity.UserEventId;
+import org.adt.volunteerscase.entity.UserEventStatus;
 import org.adt.volunteerscase.entity.event.EventEntity;
 import org.adt.volunteerscase.entity.event.EventStatus;
 import org.adt.volunteerscase.entity.user.UserEntity;
@@ -15,23 +20,43 @@ import org.adt.volunteerscase.exception.UserEventAlreadyExistsException;
 import org.adt.volunteerscase.exception.UserEventNotFoundException;
 import org.adt.volunteerscase.exception.UserEventStateConflictException;
 import org.adt.volunteerscase.exception.UserNotFoundException;
+import org.adt.volunteerscase.repository.EventPopularityRepository;
 import org.adt.volunteerscase.repository.EventRepository;
 import org.adt.volunteerscase.repository.UserEventRepository;
 import org.adt.volunteerscase.repository.UserRepository;
 import org.adt.volunteerscase.service.UserEventService;
+import org.adt.volunteerscase.service.event.ApplicationAdmission;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.adt.volunteerscase.service.event.RecommendationCache;
+import org.adt.volunteerscase.service.event.RecommendationIndex;
+import org.adt.volunteerscase.service.event.TrendingEvents;
+import org.adt.volunteerscase.service.page.TotalCountCache;
+import org.adt.volunteerscase.service.page.TotalMode;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.dto.userEvent.request.CoordinatorApplicationFilterRequest;
 import org.adt.volunteerscase.dto.userEvent.response.CoordinatorApplicationResponse;
 import org.adt.volunteerscase.dto.userEvent.response.CoordinatorEventApplicationsSummaryResponse;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-
+import org.springframework.data.domain.Slice;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Set;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -40,6 +65,12 @@ public class UserEventServiceImpl implements UserEventService {
     private final UserEventRepository userEventRepository;
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
+    private final EventPopularityRepository eventPopularityRepository;
+    private final TotalCountCache totalCountCache;
+    private final EventCardWriter eventCardWriter;
+    private final RecommendationIndex recommendationIndex;
+    private final RecommendationCache recommendationCache;
+    private final TrendingEvents trendingEvents;
 
     private static final Set<String> APPLICATION_STATUSES =
             Set.of("PENDING", "ACCEPTED", "REJECTED", "REVOKED");
@@ -48,11 +79,13 @@ public class UserEventServiceImpl implements UserEventService {
     @Transactional
     public UserEventResponse createApplication(Integer eventId, Integer currentUserId) {
         UserEntity user = getActiveUser(currentUserId);
-        EventEntity event = getEventForUpdate(eventId);
-
-        validateEventAcceptsApplications(event);
+        UserEventId userEventId = UserEventId.builder()
+                .userId(user.getUserId())
+                .eventId(eventId)
+                .build();
 
-        Optional<UserEventEntity> existingOptional = userEventRepository.findByUserAndEvent(user, event);
+        Optional<UserEventEntity> existingOptional = userEventRepository.findByIdForUpdate(userEventId);
+        UserEventStatus previousStatus = null;
         if (existingOptional.isPresent()) {
             UserEventEntity existing = existingOptional.get();
             if (isActiveApplication(existing)) {
@@ -60,28 +93,212 @@ public class UserEventServiceImpl implements UserEventService {
                         "active application for user id - " + currentUserId + " and event id - " + eventId + " already exists"
                 );
             }
+            if (existing.getDeletedAt() == null) {
+                previousStatus = UserEventStatus.of(existing);
+            }
         }
 
-        ensureActiveCapacityNotReached(event);
+        // the seat is claimed by a single conditional update instead of locking the event and counting;
+        // if anything below fails the transaction rolls back and the seat is released with it
+        reserveSeats(eventId, 1);
+        updateApplicationCounters(eventId, previousStatus, null);
 
         LocalDateTime now = LocalDateTime.now();
 
         boolean isNew = existingOptional.isEmpty();
         UserEventEntity userEvent = existingOptional.orElseGet(() -> UserEventEntity.builder()
-                .id(UserEventId.builder()
-                        .userId(user.getUserId())
-                        .eventId(event.getEventId())
-                        .build())
+                .id(userEventId)
                 .user(user)
-                .event(event)
+                .event(eventRepository.getReferenceById(eventId))
                 .build());
 
         moveToPending(userEvent, isNew ? now : userEvent.getCreatedAt());
 
-        UserEventEntity savedUserEvent = userEventRepository.save(userEvent);
+        UserEventEntity savedUserEvent;
+        try {
+            savedUserEvent = userEventRepository.saveAndFlush(userEvent);
+        } catch (DataIntegrityViolationException ex) {
+            throw new UserEventAlreadyExistsException(
+                    "active application for user id - " + currentUserId + " and event id - " + eventId + " already exists"
+            );
+        }
+        eventCardWriter.refreshApplicationCounts(eventId);
+        recordApplications(eventId, List.of(currentUserId), isPopular(previousStatus) ? 0 : 1);
         return convertToResponse(savedUserEvent);
     }
 
+    @Override
+    @Transactional
+    public List<UserEventResponse> createGroupApplication(Integer eventId, List<Integer> userIds, Integer currentUserId) {
+        // enrolling other users takes seats on their behalf, so only an organizer may do it
+        UserEntity organizer = userRepository.findByUserIdAndDeletedAtIsNull(currentUserId)
+                .orElseThrow(() -> new UserNotFoundException("user with id - " + currentUserId + " not found"));
+        if (!organizer.isCoordinator()) {
+            throw new UserEventAccessDeniedException(
+                    "user with id - " + currentUserId + " is not a coordinator and can not apply for a group"
+            );
+        }
+        Set<Integer> groupUserIds = new HashSet<>();
+        for (Integer userId : userIds) {
+            if (!groupUserIds.add(userId)) {
+                throw new UserEventStateConflictException("user with id - " + userId + " appears in the group more than once");
+            }
+        }
+
+        Map<Integer, UserEntity> usersById = userRepository.findAllByUserIdInAndDeletedAtIsNull(userIds).stream()
+                .collect(Collectors.toMap(UserEntity::getUserId, Function.identity()));
+        for (Integer userId : userIds) {
+            if (!usersById.containsKey(userId)) {
+                throw new UserNotFoundException("user with id - " + userId + " not found");
+            }
+        }
+
+        Map<Integer, UserEventEntity> existingByUserId = userEventRepository.findAllByEventIdAndUserIdInForUpdate(eventId, userIds)
+                .stream()
+                .collect(Collectors.toMap(userEvent -> userEvent.getId().getUserId(), Function.identity()));
+        long releasedRejected = 0;
+        long releasedRevoked = 0;
+        for (UserEventEntity existing : existingByUserId.values()) {
+            if (isActiveApplication(existing)) {
+                throw new UserEventAlreadyExistsException(
+                        "active application for user id - " + existing.getId().getUserId() + " and event id - " + eventId + " already exists"
+                );
+            }
+            if (existing.getDeletedAt() == null) {
+                UserEventStatus previousStatus = UserEventStatus.of(existing);
+                releasedRejected += previousStatus == UserEventStatus.REJECTED ? 1 : 0;
+                releasedRevoked += previousStatus == UserEventStatus.REVOKED ? 1 : 0;
+            }
+        }
+
+        // the whole group is seated by one conditional update, so it either fits completely or not at all
+        reserveSeats(eventId, userIds.size());
+        if (releasedRejected > 0 || releasedRevoked > 0) {
+            eventRepository.adjustApplicationCounters(eventId, 0, 0, -releasedRejected, -releasedRevoked);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        EventEntity event = eventRepository.getReferenceById(eventId);
+        List<UserEventEntity> applications = new ArrayList<>();
+        for (Integer userId : userIds) {
+            UserEventEntity existing = existingByUserId.get(userId);
+            UserEventEntity userEvent = existing != null ? existing : UserEventEntity.builder()
+                    .id(UserEventId.builder().userId(userId).eventId(eventId).build())
+                    .user(usersById.get(userId))
+                    .event(event)
+                    .build();
+
+            moveToPending(userEvent, existing == null ? now : userEvent.getCreatedAt());
+            applications.add(userEvent);
+        }
+
+        List<UserEventEntity> savedApplications;
+        try {
+            savedApplications = userEventRepository.saveAllAndFlush(applications);
+        } catch (DataIntegrityViolationException ex) {
+            throw new UserEventAlreadyExistsException(
+                    "active application for one of the group users and event id - " + eventId + " already exists"
+            );
+        }
+        eventCardWriter.refreshApplicationCounts(eventId);
+        recordApplications(eventId, userIds, userIds.size() - releasedRejected);
+        return savedApplications.stream()
+                .map(this::convertToResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public List<ApplicationAdmission> admitApplications(Integer eventId, List<Integer> userIds) {
+        // one event lock and one capacity check for the whole batch; applications that do not fit
+        // are refused individually while the rest of the batch is still committed
+        EventEntity event = getEventForUpdate(eventId);
+        validateEventAcceptsApplications(event);
+
+        Map<Integer, UserEntity> usersById = userRepository.findAllByUserIdInAndDeletedAtIsNull(userIds).stream()
+                .collect(Collectors.toMap(UserEntity::getUserId, Function.identity()));
+        Map<Integer, UserEventEntity> existingByUserId = userEventRepository.findAllById(
+                        userIds.stream()
+                                .distinct()
+                                .map(userId -> UserEventId.builder().userId(userId).eventId(eventId).build())
+                                .toList()
+                ).stream()
+                .collect(Collectors.toMap(userEvent -> userEvent.getId().getUserId(), Function.identity()));
+
+        long freeSeats = event.getMaxCapacity() - event.getActiveCount();
+        long releasedRejected = 0;
+        long releasedRevoked = 0;
+        LocalDateTime now = LocalDateTime.now();
+
+        Set<Integer> seenUserIds = new HashSet<>();
+        List<UserEventEntity> admitted = new ArrayList<>();
+        List<ApplicationAdmission> admissions = new ArrayList<>(Collections.nCopies(userIds.size(), null));
+        Map<Integer, Integer> positionByUserId = new HashMap<>();
+
+        for (int index = 0; index < userIds.size(); index++) {
+            Integer userId = userIds.get(index);
+            UserEntity user = usersById.get(userId);
+            if (user == null) {
+                admissions.set(index, ApplicationAdmission.refused(
+                        new UserNotFoundException("user with id - " + userId + " not found")
+                ));
+                continue;
+            }
+
+            UserEventEntity existing = existingByUserId.get(userId);
+            if (!seenUserIds.add(userId) || (existing != null && isActiveApplication(existing))) {
+                admissions.set(index, ApplicationAdmission.refused(new UserEventAlreadyExistsException(
+                        "active application for user id - " + userId + " and event id - " + eventId + " already exists"
+                )));
+                continue;
+            }
+
+            if (freeSeats <= 0) {
+                admissions.set(index, ApplicationAdmission.refused(new EventCapacityExceededException(
+                        "event with id - " + eventId + " has reached max capacity - " + event.getMaxCapacity()
+                )));
+                continue;
+            }
+            freeSeats--;
+
+            UserEventEntity userEvent = existing;
+            if (userEvent == null) {
+                userEvent = UserEventEntity.builder()
+                        .id(UserEventId.builder().userId(userId).eventId(eventId).build())
+                        .user(user)
+                        .event(event)
+                        .build();
+            } else if (userEvent.getDeletedAt() == null) {
+                UserEventStatus previousStatus = UserEventStatus.of(userEvent);
+                releasedRejected += previousStatus == UserEventStatus.REJECTED ? 1 : 0;
+                releasedRevoked += previousStatus == UserEventStatus.REVOKED ? 1 : 0;
+            }
+
+            moveToPending(userEvent, existing == null ? now : userEvent.getCreatedAt());
+            admitted.add(userEvent);
+            positionByUserId.put(userId, index);
+        }
+
+        if (admitted.isEmpty()) {
+            return admissions;
+        }
+
+        for (UserEventEntity savedUserEvent : userEventRepository.saveAll(admitted)) {
+            admissions.set(
+                    positionByUserId.get(savedUserEvent.getId().getUserId()),
+                    ApplicationAdmission.admitted(convertToResponse(savedUserEvent))
+            );
+        }
+        eventRepository.adjustApplicationCounters(eventId, admitted.size(), 0, -releasedRejected, -releasedRevoked);
+        eventCardWriter.refreshApplicationCounts(eventId);
+        recordApplications(
+                eventId,
+                admitted.stream().map(userEvent -> userEvent.getId().getUserId()).toList(),
+                admitted.size() - releasedRejected
+        );
+        return admissions;
+    }
+
     @Override
     @Transactional
     public UserEventResponse updateApplicationStatus(
@@ -105,6 +322,8 @@ public class UserEventServiceImpl implements UserEventService {
             );
         }
 
+        UserEventStatus previousStatus = UserEventStatus.of(userEvent);
+
         if ("ACCEPTED".equals(request.getStatus())) {
             validateEventAcceptsApplications(event);
 
@@ -126,9 +345,124 @@ public class UserEventServiceImpl implements UserEventService {
         }
 
         UserEventEntity savedUserEvent = userEventRepository.save(userEvent);
+        updateApplicationCounters(eventId, previousStatus, UserEventStatus.of(savedUserEvent));
+        eventCardWriter.refreshApplicationCounts(eventId);
         return convertToResponse(savedUserEvent);
     }
 
+    @Override
+    @Transactional
+    public UserEventBulkStatusResponse updateApplicationStatuses(
+            Integer eventId,
+            UserEventBulkStatusPatchRequest request,
+            Integer currentCoordinatorId
+    ) {
+        EventEntity event = getEventForUpdate(eventId);
+        ensureCoordinatorOwnsEvent(event, currentCoordinatorId);
+
+        boolean accept = "ACCEPTED".equals(request.getStatus());
+        if (!accept && !"REJECTED".equals(request.getStatus())) {
+            throw new UserEventStateConflictException(
+                    "unsupported application status - " + request.getStatus()
+            );
+        }
+        if (accept) {
+            validateEventAcceptsApplications(event);
+        }
+
+        List<Integer> userIds = new ArrayList<>(new LinkedHashSet<>(request.getUserIds()));
+        Map<Integer, UserEventEntity> applicationsByUserId = userEventRepository.findAllByEventIdAndUserIdIn(eventId, userIds)
+                .stream()
+                .collect(Collectors.toMap(userEvent -> userEvent.getId().getUserId(), Function.identity()));
+
+        UserEventStatus target = accept ? UserEventStatus.ACCEPTED : UserEventStatus.REJECTED;
+        Map<Integer, UserEventBulkItemResult> outcomes = new HashMap<>();
+        List<UserEventEntity> changed = new ArrayList<>();
+        long activeDelta = 0;
+        long acceptedDelta = 0;
+        long rejectedDelta = 0;
+
+        for (Integer userId : userIds) {
+            UserEventEntity userEvent = applicationsByUserId.get(userId);
+            if (userEvent == null) {
+                outcomes.put(userId, failedBulkItem(userId, "USER_EVENT_NOT_FOUND",
+                        "application for user id - " + userId + " and event id - " + eventId + " not found"));
+                continue;
+            }
+
+            UserEventStatus previousStatus = UserEventStatus.of(userEvent);
+            if (previousStatus == UserEventStatus.REVOKED) {
+                outcomes.put(userId, failedBulkItem(userId, "USER_EVENT_STATE_CONFLICT",
+                        "application for user id - " + userId + " and event id - " + eventId + " is revoked and cannot be updated"));
+                continue;
+            }
+
+            if (previousStatus == target && (accept || Objects.equals(userEvent.getRejectReason(), request.getRejectReason()))) {
+                outcomes.put(userId, UserEventBulkItemResult.builder()
+                        .userId(userId)
+                        .result(UserEventBulkItemStatus.UNCHANGED)
+                        .application(convertToResponse(userEvent))
+                        .build());
+                continue;
+            }
+
+            activeDelta += counterDelta(previousStatus.isActive(), target.isActive());
+            acceptedDelta += counterDelta(previousStatus == UserEventStatus.ACCEPTED, accept);
+            rejectedDelta += counterDelta(previousStatus == UserEventStatus.REJECTED, !accept);
+            changed.add(userEvent);
+        }
+
+        // one capacity check for the whole set: either every accepted application fits or none is accepted
+        if (accept && (event.getActiveCount() + activeDelta > event.getMaxCapacity()
+                || event.getAcceptedCount() + acceptedDelta > event.getMaxCapacity())) {
+            throw new EventCapacityExceededException(
+                    "accepting " + changed.size() + " applications exceeds max capacity - " + event.getMaxCapacity()
+                            + " of event with id - " + eventId
+            );
+        }
+
+        if (!changed.isEmpty()) {
+            List<Integer> changedUserIds = changed.stream()
+                    .map(userEvent -> userEvent.getId().getUserId())
+                    .toList();
+            LocalDateTime now = LocalDateTime.now();
+
+            if (accept) {
+                userEventRepository.acceptApplications(eventId, changedUserIds);
+            } else {
+                userEventRepository.rejectApplications(eventId, changedUserIds, request.getRejectReason(), now);
+            }
+            eventRepository.adjustApplicationCounters(eventId, activeDelta, acceptedDelta, rejectedDelta, 0);
+            eventCardWriter.refreshApplicationCounts(eventId);
+
+            // the applications are detached by the bulk update, they are only brought in line for the response
+            for (UserEventEntity userEvent : changed) {
+                if (accept) {
+                    moveToAccepted(userEvent);
+                } else {
+                    moveToRejected(userEvent, request.getRejectReason(), now);
+                }
+            }
+        }
+
+        List<UserEventBulkItemResult> items = userIds.stream()
+                .map(userId -> outcomes.containsKey(userId)
+                        ? outcomes.get(userId)
+                        : UserEventBulkItemResult.builder()
+                                .userId(userId)
+                                .result(UserEventBulkItemStatus.UPDATED)
+                                .application(convertToResponse(applicationsByUserId.get(userId)))
+                                .build())
+                .toList();
+
+        return UserEventBulkStatusResponse.builder()
+                .updated(changed.size())
+                .unchanged(countItems(items, UserEventBulkItemStatus.UNCHANGED))
+                .failed(countItems(items, UserEventBulkItemStatus.FAILED))
+                .items(items)
+                .build();
+    }
+
     @Override
     @Transactional(readOnly = true)
     public UserEventResponse getMyApplicationStatus(Integer eventId, Integer currentUserId) {
@@ -147,8 +481,20 @@ public class UserEventServiceImpl implements UserEventService {
     @Transactional(readOnly = true)
     public PageResponse<CoordinatorEventApplicationsSummaryResponse> getMyEventApplicationSummaries(
             Integer currentCoordinatorId,
-            Pageable pageable
+            Pageable pageable,
+            TotalMode totalMode
     ) {
+        if (totalMode != TotalMode.EXACT) {
+            Slice<CoordinatorEventApplicationsSummaryResponse> summarySlice =
+                    userEventRepository.findCoordinatorEventApplicationSummarySlice(currentCoordinatorId, pageable);
+            Long approximateTotal = totalMode == TotalMode.APPROXIMATE
+                    ? totalCountCache.get("user-event:summaries:" + currentCoordinatorId,
+                            () -> eventRepository.countByCoordinatorUserId(currentCoordinatorId))
+                    : null;
+
+            return PageResponse.of(summarySlice, approximateTotal);
+        }
+
         return PageResponse.of(
                 userEventRepository.findCoordinatorEventApplicationSummaries(currentCoordinatorId,
                         pageable)
@@ -161,24 +507,46 @@ public class UserEventServiceImpl implements UserEventService {
             Integer eventId,
             CoordinatorApplicationFilterRequest filter,
             Integer currentCoordinatorId,
-            Pageable pageable
+            Pageable pageable,
+            TotalMode totalMode
     ) {
         EventEntity event = getEvent(eventId);
         ensureCoordinatorOwnsEvent(event, currentCoordinatorId);
 
-        String status = normalizeApplicationStatus(filter == null ? null : filter.getStatus());
+        UserEventStatus status = normalizeApplicationStatus(filter == null ? null : filter.getStatus());
+
+        if (totalMode != TotalMode.EXACT) {
+            Slice<UserEventEntity> applicationSlice = status == null
+                    ? userEventRepository.findApplicationSliceByCoordinatorAndEvent(eventId, currentCoordinatorId, pageable)
+                    : userEventRepository.findApplicationSliceByCoordinatorAndEventAndStatus(
+                            eventId,
+                            currentCoordinatorId,
+                            status,
+                            pageable
+                    );
+            Long approximateTotal = totalMode == TotalMode.APPROXIMATE
+                    ? totalCountCache.get("user-event:applications:" + eventId + ":" + status,
+                            () -> status == null
+                                    ? userEventRepository.countApplicationsByCoordinatorAndEvent(eventId, currentCoordinatorId)
+                                    : userEventRepository.countApplicationsByCoordinatorAndEventAndStatus(eventId, currentCoordinatorId, status))
+                    : null;
+
+            return PageResponse.of(applicationSlice.map(this::convertToCoordinatorApplicationResponse), approximateTotal);
+        }
 
-        return PageResponse.of(
-                userEventRepository.findApplicationsByCoordinatorAndEvent(
+        Page<UserEventEntity> applicationPage = status == null
+                ? userEventRepository.findApplicationsByCoordinatorAndEvent(eventId, currentCoordinatorId, pageable)
+                : userEventRepository.findApplicationsByCoordinatorAndEventAndStatus(
                         eventId,
                         currentCoordinatorId,
                         status,
                         pageable
-                ).map(this::convertToCoordinatorApplicationResponse)
-        );
+                );
+
+        return PageResponse.of(applicationPage.map(this::convertToCoordinatorApplicationResponse));
     }
 
-    private String normalizeApplicationStatus(String status) {
+    private UserEventStatus normalizeApplicationStatus(String status) {
         if (status == null || status.isBlank()) {
             return null;
         }
@@ -188,7 +556,7 @@ public class UserEventServiceImpl implements UserEventService {
             throw new UserEventStateConflictException("unsupported application status - " + status);
         }
 
-        return normalized;
+        return UserEventStatus.valueOf(normalized);
     }
 
     private CoordinatorApplicationResponse convertToCoordinatorApplicationResponse(UserEventEntity
@@ -236,6 +604,18 @@ public class UserEventServiceImpl implements UserEventService {
         }
     }
 
+    private void reserveSeats(Integer eventId, int seats) {
+        if (eventRepository.reserveApplicationSeats(eventId, seats, LocalDateTime.now()) == 1) {
+            return;
+        }
+
+        EventEntity event = getEvent(eventId);
+        validateEventAcceptsApplications(event);
+        throw new EventCapacityExceededException(
+                "event with id - " + eventId + " has reached max capacity - " + event.getMaxCapacity()
+        );
+    }
+
     private void ensureCoordinatorOwnsEvent(EventEntity event, Integer currentCoordinatorId) {
         Integer eventCoordinatorId = event.getCoordinator() != null ?
                 event.getCoordinator().getUserId() : null;
@@ -253,10 +633,7 @@ public class UserEventServiceImpl implements UserEventService {
     }
 
     private void ensureActiveCapacityNotReached(EventEntity event) {
-        long activeApplications = userEventRepository
-                .countByEventAndDeletedAtIsNullAndRejectedFalseAndRevokedFalse(event);
-
-        if (activeApplications >= event.getMaxCapacity()) {
+        if (event.getActiveCount() >= event.getMaxCapacity()) {
             throw new EventCapacityExceededException(
                     "event with id - " + event.getEventId() + " has reached max capacity - " + event.getMaxCapacity()
             );
@@ -264,16 +641,47 @@ public class UserEventServiceImpl implements UserEventService {
     }
 
     private void ensureAcceptedCapacityNotReached(EventEntity event) {
-        long acceptedApplications = userEventRepository
-                .countByEventAndDeletedAtIsNullAndAcceptedTrueAndRevokedFalse(event);
-
-        if (acceptedApplications >= event.getMaxCapacity()) {
+        if (event.getAcceptedCount() >= event.getMaxCapacity()) {
             throw new EventCapacityExceededException(
                     "event with id - " + event.getEventId() + " has reached max capacity - " + event.getMaxCapacity()
             );
         }
     }
 
+    // moves one application between the counters of its event, null stands for no live application;
+    // callers hold the event row lock, so the counters read by the capacity checks stay exact
+    private void updateApplicationCounters(Integer eventId, UserEventStatus from, UserEventStatus to) {
+        if (from == to) {
+            return;
+        }
+
+        eventRepository.adjustApplicationCounters(
+                eventId,
+                counterDelta(from != null && from.isActive(), to != null && to.isActive()),
+                counterDelta(from == UserEventStatus.ACCEPTED, to == UserEventStatus.ACCEPTED),
+                counterDelta(from == UserEventStatus.REJECTED, to == UserEventStatus.REJECTED),
+                counterDelta(from == UserEventStatus.REVOKED, to == UserEventStatus.REVOKED)
+        );
+    }
+
+    // popularity counts every live application that is not revoked, so only new, deleted or revoked ones move it
+    private void recordApplications(Integer eventId, List<Integer> userIds, long popularityDelta) {
+        if (popularityDelta != 0) {
+            eventPopularityRepository.adjustPopularity(eventId, popularityDelta);
+        }
+        recommendationIndex.recordApplicationsAfterCommit(eventId, userIds, popularityDelta);
+        recommendationCache.evictUsersAfterCommit(userIds);
+        trendingEvents.recordApplicationsAfterCommit(eventId, popularityDelta);
+    }
+
+    private static boolean isPopular(UserEventStatus status) {
+        return status != null && status != UserEventStatus.REVOKED;
+    }
+
+    private static long counterDelta(boolean countedBefore, boolean countedAfter) {
+        return (countedAfter ? 1 : 0) - (countedBefore ? 1 : 0);
+    }
+
     private void moveToPending(UserEventEntity userEvent, LocalDateTime now) {
         userEvent.setAccepted(false);
         userEvent.setRejected(false);
@@ -305,6 +713,21 @@ public class UserEventServiceImpl implements UserEventService {
         userEvent.setDeletedAt(null);
     }
 
+    private static UserEventBulkItemResult failedBulkItem(Integer userId, String errorCode, String message) {
+        return UserEventBulkItemResult.builder()
+                .userId(userId)
+                .result(UserEventBulkItemStatus.FAILED)
+                .errorCode(errorCode)
+                .message(message)
+                .build();
+    }
+
+    private static int countItems(List<UserEventBulkItemResult> items, UserEventBulkItemStatus result) {
+        return (int) items.stream()
+                .filter(item -> item.getResult() == result)
+                .count();
+    }
+
     private UserEventResponse convertToResponse(UserEventEntity userEvent) {
         return UserEventResponse.builder()
                 .userId(userEvent.getUser().getUserId())
@@ -318,15 +741,6 @@ public class UserEventServiceImpl implements UserEventService {
     }
 
     private String resolveStatus(UserEventEntity userEvent) {
-        if (userEvent.isRevoked()) {
-            return "REVOKED";
-        }
-        if (userEvent.isRejected()) {
-            return "REJECTED";
-        }
-        if (userEvent.isAccepted()) {
-            return "ACCEPTED";
-        }
-        return "PENDING";
+        return UserEventStatus.of(userEvent).name();
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package org.adt.volunteerscase.service.impl;
 
 import lombok.RequiredArgsConstructor;
+import org.adt.volunteerscase.dto.page.response.CursorPageResponse;
 import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.dto.tag.TagEntityDTO;
 import org.adt.volunteerscase.dto.user.request.UpdateCoordinatorRequest;
@@ -15,16 +16,23 @@ import org.adt.volunteerscase.entity.event.EventEntity;
 import org.adt.volunteerscase.entity.user.UserEntity;
 import org.adt.volunteerscase.exception.*;
 import org.adt.volunteerscase.repository.CoordinatorRepository;
+import org.adt.volunteerscase.repository.EventPopularityRepository;
 import org.adt.volunteerscase.repository.EventRepository;
 import org.adt.volunteerscase.repository.UserEventRepository;
 import org.adt.volunteerscase.repository.UserRepository;
 import org.adt.volunteerscase.service.UserService;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.adt.volunteerscase.service.event.EventDetailCache;
+import org.adt.volunteerscase.service.event.RecommendationCache;
+import org.adt.volunteerscase.service.event.RecommendationIndex;
+import org.adt.volunteerscase.service.event.EventCursor;
 import org.adt.volunteerscase.service.security.RefreshTokenService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.adt.volunteerscase.entity.rating.RatingPeriod;
 import org.adt.volunteerscase.service.RatingService;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
@@ -41,8 +49,13 @@ public class UserServiceImpl implements UserService {
     private final RefreshTokenService refreshTokenService;
     private final CoordinatorRepository coordinatorRepository;
     private final EventRepository eventRepository;
+    private final EventPopularityRepository eventPopularityRepository;
     private final UserEventRepository userEventRepository;
     private final RatingService ratingService;
+    private final EventCardWriter eventCardWriter;
+    private final RecommendationIndex recommendationIndex;
+    private final RecommendationCache recommendationCache;
+    private final EventDetailCache eventDetailCache;
 
     @Override
     @Transactional
@@ -110,6 +123,10 @@ public class UserServiceImpl implements UserService {
         userEntity.setUpdatedAt(LocalDateTime.now());
         userRepository.save(userEntity);
         coordinatorRepository.save(coordinatorEntity);
+        // events and their cards embed the coordinator, so their versions and cards change with it
+        coordinatorRepository.bumpEventVersionsByCoordinatorId(coordinatorEntity.getUserId());
+        eventCardWriter.refreshAll(eventRepository.findEventIdsByCoordinatorId(coordinatorEntity.getUserId()));
+        eventDetailCache.evictByCoordinatorAfterCommit(coordinatorEntity.getUserId());
 
         return convertToResponse(userEntity, coordinatorEntity);
     }
@@ -198,6 +215,50 @@ public class UserServiceImpl implements UserService {
         return PageResponse.of(registeredEventsPage.map(this::convertToRegisteredEventResponse));
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageResponse<RegisteredEventResponse> getRegisteredEventsByCursor(
+            UserEntity currentUser,
+            String cursor,
+            int size
+    ) {
+        EventCursor eventCursor = EventCursor.decode(cursor);
+        UserEntity freshUser = getFreshUser(currentUser);
+        Pageable lookAhead = PageRequest.of(0, size + 1);
+
+        List<UserEventEntity> registeredEvents;
+        if (eventCursor == null) {
+            registeredEvents = userEventRepository.findFirstKeysetRegisteredEvents(freshUser.getUserId(), lookAhead);
+        } else if (eventCursor.isPrev()) {
+            registeredEvents = userEventRepository.findKeysetRegisteredEventsBefore(
+                    freshUser.getUserId(),
+                    eventCursor.getDateTimestamp(),
+                    eventCursor.getEventId(),
+                    lookAhead
+            );
+        } else {
+            registeredEvents = userEventRepository.findKeysetRegisteredEventsAfter(
+                    freshUser.getUserId(),
+                    eventCursor.getDateTimestamp(),
+                    eventCursor.getEventId(),
+                    lookAhead
+            );
+        }
+
+        List<RegisteredEventResponse> content = EventCursor.window(registeredEvents, eventCursor, size).stream()
+                .map(this::convertToRegisteredEventResponse)
+                .collect(Collectors.toList());
+
+        return EventCursor.toResponse(
+                content,
+                eventCursor,
+                size,
+                registeredEvents.size() > size,
+                RegisteredEventResponse::getDateTimestamp,
+                RegisteredEventResponse::getEventId
+        );
+    }
+
     private UserEntity getFreshUser(UserEntity currentUser) {
         return userRepository.findByUserIdAndDeletedAtIsNull(currentUser.getUserId())
                 .orElseThrow(() -> new UserNotFoundException("user with id - " + currentUser.getUserId() + " not found"));
@@ -343,11 +404,24 @@ public class UserServiceImpl implements UserService {
 
         userEntity.setDeletedAt(now);
 
+        eventRepository.releaseApplicationCountersOfUser(userEntity.getUserId());
         List<UserEventEntity> activeUserEvents = userEventRepository.findAllByUserAndDeletedAtIsNull(userEntity);
         activeUserEvents.forEach(userEvent -> userEvent.setDeletedAt(now));
 
         userEventRepository.saveAll(activeUserEvents);
         userRepository.save(userEntity);
+
+        activeUserEvents.stream()
+                .map(userEvent -> userEvent.getId().getEventId())
+                .distinct()
+                .forEach(eventCardWriter::refreshApplicationCounts);
+        List<Integer> popularEventIds = activeUserEvents.stream()
+                .filter(userEvent -> !userEvent.isRevoked())
+                .map(userEvent -> userEvent.getId().getEventId())
+                .toList();
+        popularEventIds.forEach(eventId -> eventPopularityRepository.adjustPopularity(eventId, -1));
+        recommendationIndex.removeUserAfterCommit(userEntity.getUserId(), popularEventIds);
+        recommendationCache.evictUserAfterCommit(userEntity.getUserId());
     }
 
 
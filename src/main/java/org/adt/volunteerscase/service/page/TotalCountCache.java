@@ -0,0 +1,64 @@
+package org.adt.volunteerscase.service.page;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * Short-lived cache of count query results used for approximate totals in slice mode.
+ * <p>
+ * Values may lag behind the database by up to the configured TTL. Expired entries are dropped when they are read,
+ * and a full cache evicts the least recently used entry, so hitting the size cap never empties it.
+ */
+@Component
+public class TotalCountCache {
+
+    private final Map<String, CachedCount> counts;
+    private final long ttlMs;
+
+    public TotalCountCache(
+            @Value("${pagination.total-count-cache.ttl-ms:30000}") long ttlMs,
+            @Value("${pagination.total-count-cache.max-size:10000}") int maxSize
+    ) {
+        this.ttlMs = ttlMs;
+        this.counts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedCount> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached count for the key, running the counter when the entry is missing or expired.
+     *
+     * @param key     identifies the query and its arguments
+     * @param counter count query to run on a miss
+     * @return cached or freshly computed count
+     */
+    public long get(String key, LongSupplier counter) {
+        long now = System.currentTimeMillis();
+
+        synchronized (this) {
+            CachedCount cached = counts.get(key);
+            if (cached != null && cached.expiresAt() > now) {
+                return cached.count();
+            }
+            if (cached != null) {
+                counts.remove(key);
+            }
+        }
+
+        long count = counter.getAsLong();
+        synchronized (this) {
+            counts.put(key, new CachedCount(count, now + ttlMs));
+        }
+        return count;
+    }
+
+    private record CachedCount(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,29 @@
+package org.adt.volunteerscase.service.page;
+
+/**
+ * How a paginated endpoint reports the number of matching rows.
+ */
+public enum TotalMode {
+
+    /**
+     * Runs the count query and returns totalElements/totalPages.
+     */
+    EXACT,
+
+    /**
+     * Fetches a slice only and returns hasNext.
+     */
+    NONE,
+
+    /**
+     * Fetches a slice and attaches a total taken from the short-TTL count cache.
+     */
+    APPROXIMATE;
+
+    public static TotalMode of(boolean withTotal, boolean approximateTotal) {
+        if (withTotal) {
+            return EXACT;
+        }
+        return approximateTotal ? APPROXIMATE : NONE;
+    }
+}
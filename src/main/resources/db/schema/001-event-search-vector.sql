@@ -0,0 +1,12 @@
+-- Full-text search over event name and description.
+-- Name lexemes get weight A, description lexemes weight B; both russian (stemmed) and simple (exact word) dictionaries are indexed.
+ALTER TABLE event
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (
+            setweight(to_tsvector('russian', coalesce(name, '')), 'A') ||
+            setweight(to_tsvector('simple', coalesce(name, '')), 'A') ||
+            setweight(to_tsvector('russian', coalesce(description, '')), 'B') ||
+            setweight(to_tsvector('simple', coalesce(description, '')), 'B')
+        ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_event_search_vector ON event USING GIN (search_vector);
@@ -0,0 +1,4 @@
+-- Trigram index for substring and fuzzy lookups by location address.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_locations_address_trgm ON locations USING GIN (lower(address) gin_trgm_ops);
@@ -0,0 +1,3 @@
+-- Spatial index for "events near me": bounding-box lookups over point(longitude, latitude).
+CREATE INDEX IF NOT EXISTS idx_locations_point ON locations USING GIST (point(longitude, latitude))
+    WHERE latitude IS NOT NULL AND longitude IS NOT NULL;
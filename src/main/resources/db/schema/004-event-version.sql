@@ -0,0 +1,7 @@
+-- Optimistic-lock version and last modification time of an event, the source of event ETags.
+-- create-only does not alter existing tables, so the columns are added here for databases created before them.
+ALTER TABLE event
+    ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
+
+ALTER TABLE event
+    ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP(6);
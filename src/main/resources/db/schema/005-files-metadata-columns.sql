@@ -0,0 +1,12 @@
+-- Cover metadata moved from the Base64 JSON column "metadata" into its own columns.
+-- Old rows keep the encoded value until CoverMetadataMigration copies it over and clears it.
+ALTER TABLE files ADD COLUMN IF NOT EXISTS original_file_name VARCHAR(255);
+ALTER TABLE files ADD COLUMN IF NOT EXISTS content_type VARCHAR(255);
+ALTER TABLE files ADD COLUMN IF NOT EXISTS file_size BIGINT;
+ALTER TABLE files ADD COLUMN IF NOT EXISTS width INTEGER;
+ALTER TABLE files ADD COLUMN IF NOT EXISTS height INTEGER;
+ALTER TABLE files ADD COLUMN IF NOT EXISTS bucket VARCHAR(255);
+ALTER TABLE files ADD COLUMN IF NOT EXISTS object_key VARCHAR(1024);
+ALTER TABLE files ADD COLUMN IF NOT EXISTS e_tag VARCHAR(255);
+
+ALTER TABLE files ALTER COLUMN metadata DROP NOT NULL;
@@ -0,0 +1,30 @@
+-- Ids come from pooled sequences (allocationSize = 50) instead of IDENTITY columns, so Hibernate can batch inserts.
+-- Existing identity columns are GENERATED BY DEFAULT and accept the ids Hibernate assigns.
+-- Each sequence is moved past the highest existing id; GREATEST keeps it from going back on later startups.
+
+CREATE SEQUENCE IF NOT EXISTS event_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('event_seq', GREATEST((SELECT COALESCE(MAX(event_id), 0) FROM event), (SELECT last_value FROM event_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS files_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('files_seq', GREATEST((SELECT COALESCE(MAX(file_id), 0) FROM files), (SELECT last_value FROM files_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS locations_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('locations_seq', GREATEST((SELECT COALESCE(MAX(location_id), 0) FROM locations), (SELECT last_value FROM locations_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS tag_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('tag_seq', GREATEST((SELECT COALESCE(MAX(tag_id), 0) FROM tag), (SELECT last_value FROM tag_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS users_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('users_seq', GREATEST((SELECT COALESCE(MAX(user_id), 0) FROM users), (SELECT last_value FROM users_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS user_auth_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('user_auth_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM user_auth), (SELECT last_value FROM user_auth_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS refresh_tokens_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('refresh_tokens_seq', GREATEST((SELECT COALESCE(MAX(id), 0) FROM refresh_tokens), (SELECT last_value FROM refresh_tokens_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS user_ratings_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('user_ratings_seq', GREATEST((SELECT COALESCE(MAX(user_rating_id), 0) FROM user_ratings), (SELECT last_value FROM user_ratings_seq)));
+
+CREATE SEQUENCE IF NOT EXISTS coordinator_ratings_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('coordinator_ratings_seq', GREATEST((SELECT COALESCE(MAX(coordinator_rating_id), 0) FROM coordinator_ratings), (SELECT last_value FROM coordinator_ratings_seq)));
@@ -0,0 +1,6 @@
+-- Per-event application counters, kept up to date by every application state change.
+-- Rows created before the columns start at zero and are recounted by ApplicationCounterReconciliation on startup.
+ALTER TABLE event ADD COLUMN IF NOT EXISTS active_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE event ADD COLUMN IF NOT EXISTS accepted_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE event ADD COLUMN IF NOT EXISTS rejected_count BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE event ADD COLUMN IF NOT EXISTS revoked_count BIGINT NOT NULL DEFAULT 0;
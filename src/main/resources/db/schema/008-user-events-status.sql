@@ -0,0 +1,23 @@
+-- Application status as a single column derived from the accepted/rejected/revoked flags.
+-- Values are the ordinals of UserEventStatus: 0 pending, 1 accepted, 2 rejected, 3 revoked.
+ALTER TABLE user_events
+    ADD COLUMN IF NOT EXISTS status SMALLINT
+        GENERATED ALWAYS AS (
+            CASE WHEN revoked THEN 3 WHEN rejected THEN 2 WHEN accepted THEN 1 ELSE 0 END
+        ) STORED;
+
+-- Coordinator application lists: unfiltered and filtered by status, both ordered by creation time.
+CREATE INDEX IF NOT EXISTS idx_user_events_event_created ON user_events (event_id, created_at DESC, user_id)
+    WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_user_events_event_status_created ON user_events (event_id, status, created_at DESC, user_id)
+    WHERE deleted_at IS NULL;
+
+-- Active applications of a user (pending or accepted).
+CREATE INDEX IF NOT EXISTS idx_user_events_user_active ON user_events (user_id, event_id)
+    WHERE deleted_at IS NULL AND status IN (0, 1);
+
+-- Participation aggregates for statistics and ratings: accepted applications by user and by event.
+CREATE INDEX IF NOT EXISTS idx_user_events_user_accepted ON user_events (user_id, event_id)
+    WHERE deleted_at IS NULL AND status = 1;
+CREATE INDEX IF NOT EXISTS idx_user_events_event_accepted ON user_events (event_id, user_id)
+    WHERE deleted_at IS NULL AND status = 1;
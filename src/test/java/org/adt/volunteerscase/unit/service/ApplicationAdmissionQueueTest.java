@@ -0,0 +1,187 @@
+package org.adt.volunteerscase.unit.service;
+
+import org.adt.volunteerscase.dto.userEvent.response.UserEventResponse;
+import org.adt.volunteerscase.exception.ApplicationAdmissionUnavailableException;
+import org.adt.volunteerscase.service.UserEventService;
+import org.adt.volunteerscase.service.event.ApplicationAdmission;
+import org.adt.volunteerscase.service.event.ApplicationAdmissionQueue;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ApplicationAdmissionQueueTest {
+
+    private static final Integer EVENT_ID = 7;
+
+    @Mock
+    private UserEventService userEventService;
+
+    private ExecutorService callers;
+    private ApplicationAdmissionQueue admissionQueue;
+
+    @BeforeEach
+    void setUp() {
+        callers = Executors.newFixedThreadPool(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (admissionQueue != null) {
+            admissionQueue.shutdown();
+        }
+        callers.shutdownNow();
+    }
+
+    @Test
+    void createApplication_shouldGoStraightToServiceWhenBatchingIsDisabled() {
+        admissionQueue = new ApplicationAdmissionQueue(userEventService, false, 20, 200, 5_000, 4);
+        UserEventResponse created = response(1);
+        when(userEventService.createApplication(EVENT_ID, 1)).thenReturn(created);
+
+        assertThat(admissionQueue.createApplication(EVENT_ID, 1)).isSameAs(created);
+
+        verify(userEventService, never()).admitApplications(anyInt(), anyList());
+    }
+
+    @Test
+    void createApplication_shouldAdmitApplicationsOfOneWindowInOneBatch() {
+        admissionQueue = queue(300, 200, 5_000);
+        admitEveryone();
+
+        List<CompletableFuture<UserEventResponse>> results = List.of(apply(1), apply(2), apply(3));
+
+        assertThat(results).extracting(result -> result.join().getUserId()).containsExactly(1, 2, 3);
+        ArgumentCaptor<List<Integer>> batches = batchCaptor();
+        verify(userEventService, times(1)).admitApplications(eq(EVENT_ID), batches.capture());
+        assertThat(batches.getValue()).containsExactlyInAnyOrder(1, 2, 3);
+    }
+
+    @Test
+    void createApplication_shouldSplitWindowIntoBatchesOfMaxBatchSize() {
+        admissionQueue = queue(300, 2, 5_000);
+        admitEveryone();
+
+        List<CompletableFuture<UserEventResponse>> results = List.of(apply(1), apply(2), apply(3));
+
+        assertThat(results).extracting(result -> result.join().getUserId()).containsExactly(1, 2, 3);
+        ArgumentCaptor<List<Integer>> batches = batchCaptor();
+        verify(userEventService, times(2)).admitApplications(eq(EVENT_ID), batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 1);
+    }
+
+    @Test
+    void createApplication_shouldLeaveTimedOutCallerOutOfTheBatch() throws InterruptedException {
+        admissionQueue = queue(300, 200, 50);
+
+        assertThatThrownBy(() -> admissionQueue.createApplication(EVENT_ID, 1))
+                .isInstanceOf(ApplicationAdmissionUnavailableException.class)
+                .hasMessage("application of user with id - 1 to event with id - 7 was not admitted within 50 ms");
+
+        // let the window that still holds the timed out application drain
+        Thread.sleep(500);
+        verify(userEventService, never()).admitApplications(anyInt(), anyList());
+    }
+
+    @Test
+    void createApplication_shouldFailEveryCallerOfFailingBatch() {
+        admissionQueue = queue(300, 200, 5_000);
+        when(userEventService.admitApplications(eq(EVENT_ID), anyList()))
+                .thenThrow(new IllegalStateException("database is unavailable"));
+
+        List<CompletableFuture<UserEventResponse>> results = List.of(apply(1), apply(2));
+
+        results.forEach(result -> assertThatThrownBy(result::join)
+                .hasCauseInstanceOf(IllegalStateException.class)
+                .hasRootCauseMessage("database is unavailable"));
+        verify(userEventService, times(1)).admitApplications(eq(EVENT_ID), anyList());
+    }
+
+    @Test
+    void createApplication_shouldFailEveryCallerWhenBatchThrowsError() {
+        admissionQueue = queue(300, 200, 5_000);
+        when(userEventService.admitApplications(eq(EVENT_ID), anyList()))
+                .thenThrow(new AssertionError("broken batch"));
+
+        List<CompletableFuture<UserEventResponse>> results = List.of(apply(1), apply(2));
+
+        results.forEach(result -> assertThatThrownBy(result::join)
+                .hasCauseInstanceOf(AssertionError.class)
+                .hasRootCauseMessage("broken batch"));
+    }
+
+    @Test
+    void shutdown_shouldRejectApplicationsStillWaitingForTheirWindow() throws InterruptedException {
+        admissionQueue = queue(10_000, 200, 10_000);
+
+        CompletableFuture<UserEventResponse> result = apply(1);
+        // the caller is queued well inside its ten second window
+        Thread.sleep(200);
+        admissionQueue.shutdown();
+
+        assertThatThrownBy(result::join)
+                .hasCauseInstanceOf(ApplicationAdmissionUnavailableException.class)
+                .hasRootCauseMessage("application admission is shut down");
+        verify(userEventService, never()).admitApplications(anyInt(), anyList());
+    }
+
+    @Test
+    void createApplication_shouldFailCallerWhenStripeRejectsItsWindow() {
+        admissionQueue = queue(20, 200, 5_000);
+        admissionQueue.shutdown();
+
+        assertThatThrownBy(() -> admissionQueue.createApplication(EVENT_ID, 1))
+                .isInstanceOf(ApplicationAdmissionUnavailableException.class)
+                .hasMessage("application admission is shut down");
+
+        // the refused application must not stay queued for a later window
+        assertThatThrownBy(() -> admissionQueue.createApplication(EVENT_ID, 2))
+                .isInstanceOf(ApplicationAdmissionUnavailableException.class);
+        verifyNoInteractions(userEventService);
+    }
+
+    private ApplicationAdmissionQueue queue(long windowMs, int maxBatchSize, long timeoutMs) {
+        return new ApplicationAdmissionQueue(userEventService, true, windowMs, maxBatchSize, timeoutMs, 1);
+    }
+
+    private CompletableFuture<UserEventResponse> apply(Integer userId) {
+        return CompletableFuture.supplyAsync(() -> admissionQueue.createApplication(EVENT_ID, userId), callers);
+    }
+
+    private void admitEveryone() {
+        when(userEventService.admitApplications(eq(EVENT_ID), anyList())).thenAnswer(invocation -> {
+            List<Integer> userIds = invocation.getArgument(1);
+            return userIds.stream()
+                    .map(userId -> ApplicationAdmission.admitted(response(userId)))
+                    .toList();
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<Integer>> batchCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
+    private static UserEventResponse response(Integer userId) {
+        return UserEventResponse.builder()
+                .userId(userId)
+                .eventId(EVENT_ID)
+                .status("ACTIVE")
+                .build();
+    }
+}
@@ -7,11 +7,14 @@ import org.adt.volunteerscase.dto.cover.request.CoverCreateRequest;
 import org.adt.volunteerscase.dto.cover.request.CoverPatchRequest;
 import org.adt.volunteerscase.dto.cover.response.CoverResponse;
 import org.adt.volunteerscase.entity.CoverEntity;
+import org.adt.volunteerscase.entity.CoverFileMetadata;
 import org.adt.volunteerscase.exception.CoverInUseException;
 import org.adt.volunteerscase.exception.CoverNotFoundException;
 import org.adt.volunteerscase.exception.InvalidCoverFileException;
 import org.adt.volunteerscase.repository.CoverRepository;
 import org.adt.volunteerscase.repository.EventRepository;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.adt.volunteerscase.service.event.EventDetailCache;
 import org.adt.volunteerscase.service.impl.CoverServiceImpl;
 import org.adt.volunteerscase.service.storage.ObjectStorageService;
 import org.adt.volunteerscase.service.storage.StoredObjectResult;
@@ -21,6 +24,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.mock.web.MockMultipartFile;
 
 import javax.imageio.ImageIO;
@@ -28,6 +32,8 @@ import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,6 +57,9 @@ class CoverServiceTest {
     @Mock
     private ObjectStorageService objectStorageService;
 
+    @Mock
+    private EventCardWriter eventCardWriter;
+
     private CoverServiceImpl coverService;
     private CoverMapper coverMapper;
     private CoverEntity existingCover;
@@ -62,14 +71,16 @@ class CoverServiceTest {
                 coverRepository,
                 eventRepository,
                 objectStorageService,
-                coverMapper
+                coverMapper,
+                new EventDetailCache(60_000, 100),
+                eventCardWriter
         );
 
         existingCover = CoverEntity.builder()
                 .coverId(1)
                 .link("https://cdn.example.com/covers/old-cover.png")
-                .metadata(coverMapper.encodeMetadata(
-                        CoverMetadataDTO.builder()
+                .metadata(
+                        CoverFileMetadata.builder()
                                 .originalFileName("old-cover.png")
                                 .contentType("image/png")
                                 .size(128L)
@@ -79,7 +90,7 @@ class CoverServiceTest {
                                 .objectKey("covers/2026/04/old-cover.png")
                                 .eTag("etag-old")
                                 .build()
-                ))
+                )
                 .createdAt(Instant.now().toEpochMilli())
                 .deletedAt(null)
                 .build();
@@ -113,7 +124,7 @@ class CoverServiceTest {
         ArgumentCaptor<CoverEntity> captor = ArgumentCaptor.forClass(CoverEntity.class);
         verify(coverRepository).save(captor.capture());
         CoverEntity saved = captor.getValue();
-        CoverMetadataDTO metadata = coverMapper.decodeMetadata(saved.getMetadata());
+        CoverFileMetadata metadata = saved.getMetadata();
 
         assertThat(saved.getCoverId()).isEqualTo(10);
         assertThat(saved.getLink()).isEqualTo(uploadResult.getLink());
@@ -182,7 +193,7 @@ class CoverServiceTest {
 
         CoverResponse response = coverService.updateCover(request, 1);
 
-        CoverMetadataDTO metadata = coverMapper.decodeMetadata(existingCover.getMetadata());
+        CoverFileMetadata metadata = existingCover.getMetadata();
 
         assertThat(existingCover.getLink()).isEqualTo(uploadResult.getLink());
         assertThat(metadata.getOriginalFileName()).isEqualTo("updated-cover.png");
@@ -296,6 +307,69 @@ class CoverServiceTest {
         verifyNoInteractions(eventRepository, objectStorageService);
     }
 
+    @Test
+    void migrateLegacyMetadata_shouldMoveEncodedMetadataIntoColumns() throws IOException {
+        CoverMetadataDTO legacyMetadata = CoverMetadataDTO.builder()
+                .originalFileName("legacy-cover.png")
+                .contentType("image/png")
+                .size(256L)
+                .width(640)
+                .height(480)
+                .bucket("covers")
+                .objectKey("covers/2025/01/legacy-cover.png")
+                .eTag("etag-legacy")
+                .build();
+        CoverEntity legacyCover = CoverEntity.builder()
+                .coverId(5)
+                .link("https://cdn.example.com/covers/2025/01/legacy-cover.png")
+                .legacyMetadata(Base64.getEncoder().encodeToString(new ObjectMapper().writeValueAsBytes(legacyMetadata)))
+                .createdAt(Instant.now().toEpochMilli())
+                .build();
+
+        when(coverRepository.findByLegacyMetadataIsNotNullAndCoverIdGreaterThanOrderByCoverIdAsc(0, PageRequest.of(0, 100)))
+                .thenReturn(List.of(legacyCover));
+
+        Integer lastCoverId = coverService.migrateLegacyMetadata(0, 100);
+
+        assertThat(lastCoverId).isEqualTo(5);
+        assertThat(legacyCover.getLegacyMetadata()).isNull();
+        assertThat(legacyCover.getMetadata().getObjectKey()).isEqualTo("covers/2025/01/legacy-cover.png");
+        assertThat(legacyCover.getMetadata().getETag()).isEqualTo("etag-legacy");
+        assertThat(coverMapper.toResponse(legacyCover).getFileMetadata()).isEqualTo(legacyMetadata);
+
+        verify(coverRepository).saveAll(List.of(legacyCover));
+        verifyNoInteractions(eventRepository, objectStorageService);
+    }
+
+    @Test
+    void migrateLegacyMetadata_shouldKeepLegacyValue_whenItCannotBeDecoded() {
+        CoverEntity brokenCover = CoverEntity.builder()
+                .coverId(6)
+                .link("https://cdn.example.com/covers/broken.png")
+                .legacyMetadata("not base64 json")
+                .createdAt(Instant.now().toEpochMilli())
+                .build();
+
+        when(coverRepository.findByLegacyMetadataIsNotNullAndCoverIdGreaterThanOrderByCoverIdAsc(5, PageRequest.of(0, 100)))
+                .thenReturn(List.of(brokenCover));
+
+        Integer lastCoverId = coverService.migrateLegacyMetadata(5, 100);
+
+        assertThat(lastCoverId).isEqualTo(6);
+        assertThat(brokenCover.getLegacyMetadata()).isEqualTo("not base64 json");
+        assertThat(brokenCover.getMetadata()).isNull();
+    }
+
+    @Test
+    void migrateLegacyMetadata_shouldReturnNull_whenNothingIsLeft() {
+        when(coverRepository.findByLegacyMetadataIsNotNullAndCoverIdGreaterThanOrderByCoverIdAsc(6, PageRequest.of(0, 100)))
+                .thenReturn(List.of());
+
+        assertThat(coverService.migrateLegacyMetadata(6, 100)).isNull();
+
+        verify(coverRepository, never()).saveAll(any());
+    }
+
     private MockMultipartFile imageFile(String fileName, int width, int height) throws IOException {
         return new MockMultipartFile(
                 "file",
@@ -0,0 +1,189 @@
+package org.adt.volunteerscase.unit.service;
+
+import org.adt.volunteerscase.dto.event.EventIndexRow;
+import org.adt.volunteerscase.dto.event.EventTagRow;
+import org.adt.volunteerscase.dto.event.request.EventTagMatch;
+import org.adt.volunteerscase.entity.TagEntity;
+import org.adt.volunteerscase.entity.event.EventEntity;
+import org.adt.volunteerscase.entity.event.EventStatus;
+import org.adt.volunteerscase.repository.EventRepository;
+import org.adt.volunteerscase.service.event.EventBitmapIndex;
+import org.adt.volunteerscase.service.event.EventsChanged;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventBitmapIndexTest {
+
+    private static final LocalDateTime APRIL_FIRST = LocalDateTime.of(2026, 4, 1, 10, 0);
+
+    @Mock
+    private EventRepository eventRepository;
+
+    private EventBitmapIndex eventBitmapIndex;
+    private List<EventIndexRow> eventRows;
+    private List<EventTagRow> tagRows;
+
+    @BeforeEach
+    void setUp() {
+        eventBitmapIndex = new EventBitmapIndex(eventRepository);
+        eventRows = new ArrayList<>();
+        tagRows = new ArrayList<>();
+    }
+
+    @Test
+    void browse_shouldPageNewestFirstAcrossDays() {
+        indexed(1, EventStatus.ONGOING, APRIL_FIRST, 10);
+        indexed(2, EventStatus.ONGOING, APRIL_FIRST.plusHours(2), 10);
+        indexed(3, EventStatus.ONGOING, APRIL_FIRST.plusDays(1), 10);
+        indexed(4, EventStatus.ONGOING, APRIL_FIRST.plusDays(3), 10);
+        indexed(5, EventStatus.ONGOING, APRIL_FIRST.plusDays(3), 10);
+        rebuild();
+
+        Page<Integer> first = eventBitmapIndex.browse(filter(Set.of()), PageRequest.of(0, 2));
+        Page<Integer> second = eventBitmapIndex.browse(filter(Set.of()), PageRequest.of(1, 2));
+        Page<Integer> third = eventBitmapIndex.browse(filter(Set.of()), PageRequest.of(2, 2));
+
+        assertThat(first.getContent()).containsExactly(5, 4);
+        assertThat(second.getContent()).containsExactly(3, 2);
+        assertThat(third.getContent()).containsExactly(1);
+        assertThat(third.getTotalElements()).isEqualTo(5);
+    }
+
+    @Test
+    void browse_shouldMatchTagsStatusesAndDateWindow() {
+        indexed(1, EventStatus.ONGOING, APRIL_FIRST, 10, 20);
+        indexed(2, EventStatus.COMPLETED, APRIL_FIRST.plusDays(1), 10, 20);
+        indexed(3, EventStatus.ONGOING, APRIL_FIRST.plusDays(2), 10);
+        indexed(4, EventStatus.ONGOING, APRIL_FIRST.plusDays(3), 20);
+        indexed(5, EventStatus.IN_PROGRESS, APRIL_FIRST.plusDays(9), 10, 20);
+        rebuild();
+
+        assertThat(browse(new EventBitmapIndex.Filter(Set.of(10, 20), EventTagMatch.ANY, null, null, null)))
+                .containsExactly(5, 4, 3, 2, 1);
+        assertThat(browse(new EventBitmapIndex.Filter(Set.of(10, 20), EventTagMatch.ALL, null, null, null)))
+                .containsExactly(5, 2, 1);
+        assertThat(browse(new EventBitmapIndex.Filter(
+                Set.of(10, 20), EventTagMatch.ALL, Set.of(EventStatus.ONGOING, EventStatus.IN_PROGRESS), null, null
+        ))).containsExactly(5, 1);
+        assertThat(browse(new EventBitmapIndex.Filter(
+                null, null, Set.of(EventStatus.ONGOING), LocalDate.of(2026, 4, 2), LocalDate.of(2026, 4, 4)
+        ))).containsExactly(4, 3);
+        assertThat(browse(new EventBitmapIndex.Filter(Set.of(99), EventTagMatch.ANY, null, null, null))).isEmpty();
+    }
+
+    @Test
+    void browse_shouldBuildIndexOnceForConcurrentFirstQueries() {
+        indexed(1, EventStatus.ONGOING, APRIL_FIRST, 10);
+        when(eventRepository.findAllEventTags()).thenReturn(tagRows);
+        when(eventRepository.findAllEventIndexRows()).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return eventRows;
+        });
+
+        CompletableFuture<Page<Integer>> first = CompletableFuture.supplyAsync(
+                () -> eventBitmapIndex.browse(filter(Set.of()), PageRequest.of(0, 10))
+        );
+        CompletableFuture<Page<Integer>> second = CompletableFuture.supplyAsync(
+                () -> eventBitmapIndex.browse(filter(Set.of()), PageRequest.of(0, 10))
+        );
+
+        assertThat(first.join().getContent()).containsExactly(1);
+        assertThat(second.join().getContent()).containsExactly(1);
+        verify(eventRepository, times(1)).findAllEventIndexRows();
+    }
+
+    @Test
+    void rebuild_shouldReplayWritesThatLandWhileSnapshotIsRead() {
+        indexed(1, EventStatus.ONGOING, APRIL_FIRST, 10);
+        indexed(2, EventStatus.ONGOING, APRIL_FIRST.plusDays(1), 10);
+        when(eventRepository.findAllEventTags()).thenReturn(tagRows);
+        // the snapshot was read before event 1 was deleted and event 3 was created
+        when(eventRepository.findAllEventIndexRows()).thenAnswer(invocation -> {
+            eventBitmapIndex.onEventsChanged(EventsChanged.removed(1));
+            eventBitmapIndex.onEventsChanged(new EventsChanged(
+                    List.of(event(3, EventStatus.ONGOING, APRIL_FIRST.plusDays(2), 10)),
+                    Set.of()
+            ));
+            return eventRows;
+        });
+
+        assertThat(eventBitmapIndex.rebuild()).isEqualTo(2);
+
+        assertThat(eventBitmapIndex.browse(filter(Set.of(10)), PageRequest.of(0, 10)).getContent())
+                .containsExactly(3, 2);
+    }
+
+    private void rebuild() {
+        when(eventRepository.findAllEventTags()).thenReturn(tagRows);
+        when(eventRepository.findAllEventIndexRows()).thenReturn(eventRows);
+        eventBitmapIndex.rebuild();
+    }
+
+    private List<Integer> browse(EventBitmapIndex.Filter filter) {
+        return eventBitmapIndex.browse(filter, PageRequest.of(0, 10)).getContent();
+    }
+
+    private void indexed(Integer eventId, EventStatus status, LocalDateTime dateTimestamp, Integer... tagIds) {
+        eventRows.add(new EventIndexRow() {
+            @Override
+            public Integer getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public EventStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getDateTimestamp() {
+                return dateTimestamp;
+            }
+        });
+        for (Integer tagId : tagIds) {
+            tagRows.add(new EventTagRow() {
+                @Override
+                public Integer getEventId() {
+                    return eventId;
+                }
+
+                @Override
+                public Integer getTagId() {
+                    return tagId;
+                }
+            });
+        }
+    }
+
+    private static EventBitmapIndex.Filter filter(Set<Integer> tagIds) {
+        return new EventBitmapIndex.Filter(tagIds, null, null, null, null);
+    }
+
+    private static EventEntity event(Integer eventId, EventStatus status, LocalDateTime dateTimestamp, Integer... tagIds) {
+        return EventEntity.builder()
+                .eventId(eventId)
+                .status(status)
+                .dateTimestamp(dateTimestamp)
+                .tags(Set.of(tagIds).stream()
+                        .map(tagId -> TagEntity.builder().tagId(tagId).tagName("tag-" + tagId).build())
+                        .collect(Collectors.toSet()))
+                .build();
+    }
+}
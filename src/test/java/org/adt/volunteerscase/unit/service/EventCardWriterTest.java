@@ -0,0 +1,163 @@
+package org.adt.volunteerscase.unit.service;
+
+import org.adt.volunteerscase.dto.event.EventCardMapper;
+import org.adt.volunteerscase.entity.event.EventEntity;
+import org.adt.volunteerscase.repository.EventCardRepository;
+import org.adt.volunteerscase.repository.EventRepository;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.adt.volunteerscase.service.event.EventsChanged;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventCardWriterTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EventCardRepository eventCardRepository;
+
+    @Mock
+    private EventCardMapper eventCardMapper;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private RecordingTransactionManager transactionManager;
+    private EventCardWriter eventCardWriter;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new RecordingTransactionManager();
+        eventCardWriter = new EventCardWriter(
+                eventRepository,
+                eventCardRepository,
+                eventCardMapper,
+                eventPublisher,
+                new TransactionTemplate(transactionManager)
+        );
+    }
+
+    @Test
+    void rebuildAll_shouldRefreshEveryBatchInsideItsOwnTransaction() {
+        when(eventRepository.findEventIdSliceOrderByEventId(PageRequest.of(0, 500)))
+                .thenReturn(new SliceImpl<>(List.of(1, 2), PageRequest.of(0, 500), true));
+        when(eventRepository.findEventIdSliceOrderByEventId(PageRequest.of(1, 500)))
+                .thenReturn(new SliceImpl<>(List.of(3), PageRequest.of(1, 500), false));
+        when(eventRepository.findDetailedByEventIdIn(Set.of(1, 2))).thenReturn(List.of(event(1), event(2)));
+        when(eventRepository.findDetailedByEventIdIn(Set.of(3))).thenReturn(List.of(event(3)));
+
+        List<Boolean> activeOnPublish = new ArrayList<>();
+        doAnswer(invocation -> {
+            activeOnPublish.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return null;
+        }).when(eventPublisher).publishEvent(any(Object.class));
+
+        int rebuilt = eventCardWriter.rebuildAll();
+
+        assertThat(rebuilt).isEqualTo(3);
+        assertThat(activeOnPublish).containsExactly(true, true);
+        assertThat(transactionManager.begun).isEqualTo(2);
+        assertThat(transactionManager.committed).isEqualTo(2);
+        assertThat(publishedChanges()).extracting(EventsChanged::changedEvents)
+                .extracting(events -> events.stream().map(EventEntity::getEventId).toList())
+                .containsExactly(List.of(1, 2), List.of(3));
+    }
+
+    @Test
+    void refreshAll_shouldWriteCardsAndPublishChangedAndRemovedEvents() {
+        EventEntity kept = event(1);
+        when(eventRepository.findDetailedByEventIdIn(Set.of(1, 2))).thenReturn(List.of(kept));
+
+        eventCardWriter.refreshAll(List.of(1, 2, 1));
+
+        verify(eventCardRepository).saveAll(any());
+        verify(eventCardRepository).deleteAllByIdInBatch(Set.of(2));
+        EventsChanged change = publishedChanges().get(0);
+        assertThat(change.changedEvents()).containsExactly(kept);
+        assertThat(change.removedEventIds()).containsExactly(2);
+    }
+
+    @Test
+    void delete_shouldDropCardAndPublishRemovedEvent() {
+        eventCardWriter.delete(5);
+
+        verify(eventCardRepository).deleteById(5);
+        assertThat(publishedChanges()).containsExactly(EventsChanged.removed(5));
+    }
+
+    @Test
+    void rebuildAll_shouldRollBackTheFailingBatchOnly() {
+        when(eventRepository.findEventIdSliceOrderByEventId(PageRequest.of(0, 500)))
+                .thenReturn(new SliceImpl<>(List.of(1), PageRequest.of(0, 500), false));
+        when(eventRepository.findDetailedByEventIdIn(any())).thenThrow(new IllegalStateException("boom"));
+
+        assertThatThrownBy(() -> eventCardWriter.rebuildAll())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+
+        assertThat(transactionManager.rolledBack).isEqualTo(1);
+        assertThat(transactionManager.committed).isZero();
+        verifyNoInteractions(eventPublisher, eventCardRepository);
+    }
+
+    private List<EventsChanged> publishedChanges() {
+        ArgumentCaptor<EventsChanged> changes = ArgumentCaptor.forClass(EventsChanged.class);
+        verify(eventPublisher, atLeastOnce()).publishEvent(changes.capture());
+        return changes.getAllValues();
+    }
+
+    private static EventEntity event(Integer eventId) {
+        return EventEntity.builder().eventId(eventId).build();
+    }
+
+    // drives the real begin/commit/rollback and synchronization lifecycle without a database behind it
+    private static final class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        private int begun;
+        private int committed;
+        private int rolledBack;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            begun++;
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            committed++;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rolledBack++;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.adt.volunteerscase.unit.service;
+
+import org.adt.volunteerscase.entity.event.EventEntity;
+import org.adt.volunteerscase.repository.EventPopularityRepository;
+import org.adt.volunteerscase.service.event.EventPopularityWriter;
+import org.adt.volunteerscase.service.event.EventsChanged;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class EventPopularityWriterTest {
+
+    @Mock
+    private EventPopularityRepository eventPopularityRepository;
+
+    private EventPopularityWriter eventPopularityWriter;
+
+    @BeforeEach
+    void setUp() {
+        eventPopularityWriter = new EventPopularityWriter(eventPopularityRepository);
+    }
+
+    @Test
+    void onEventsChanged_shouldUpsertChangedAndDeleteRemovedRows() {
+        eventPopularityWriter.onEventsChanged(new EventsChanged(
+                List.of(EventEntity.builder().eventId(1).build(), EventEntity.builder().eventId(2).build()),
+                Set.of(3)
+        ));
+
+        verify(eventPopularityRepository).upsertFromEvents(Set.of(1, 2));
+        verify(eventPopularityRepository).deleteAllByIdInBatch(Set.of(3));
+    }
+
+    @Test
+    void onEventsChanged_shouldOnlyDeleteWhenEventWasRemoved() {
+        eventPopularityWriter.onEventsChanged(EventsChanged.removed(3));
+
+        verify(eventPopularityRepository).deleteAllByIdInBatch(Set.of(3));
+        verifyNoMoreInteractions(eventPopularityRepository);
+    }
+}
@@ -2,33 +2,67 @@ package org.adt.volunteerscase.unit.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.adt.volunteerscase.dto.cover.CoverMapper;
-import org.adt.volunteerscase.dto.cover.CoverMetadataDTO;
+import org.adt.volunteerscase.dto.event.EventCardMapper;
+import org.adt.volunteerscase.dto.event.EventDistanceHit;
+import org.adt.volunteerscase.dto.event.EventIdRow;
+import org.adt.volunteerscase.dto.event.EventIndexRow;
+import org.adt.volunteerscase.dto.event.EventMapClusterRow;
+import org.adt.volunteerscase.dto.event.EventSearchHit;
+import org.adt.volunteerscase.dto.event.EventSlotRow;
+import org.adt.volunteerscase.dto.event.EventTagRow;
+import org.adt.volunteerscase.dto.event.request.EventBulkCreateRequest;
 import org.adt.volunteerscase.dto.event.request.EventCreateRequest;
 import org.adt.volunteerscase.dto.event.request.EventCreateV2Request;
+import org.adt.volunteerscase.dto.event.request.EventFilterRequest;
+import org.adt.volunteerscase.dto.event.request.EventFilterSort;
 import org.adt.volunteerscase.dto.event.request.EventPatchRequest;
+import org.adt.volunteerscase.dto.event.request.EventSearchMode;
 import org.adt.volunteerscase.dto.event.request.EventSearchRequest;
 import org.adt.volunteerscase.dto.event.request.EventStatusPatchRequest;
+import org.adt.volunteerscase.dto.event.request.EventTagMatch;
+import org.adt.volunteerscase.dto.event.response.EventBulkCreateResponse;
+import org.adt.volunteerscase.dto.event.response.EventBulkItemResult;
+import org.adt.volunteerscase.dto.event.response.EventBulkItemStatus;
+import org.adt.volunteerscase.dto.event.response.EventMapClusterResponse;
 import org.adt.volunteerscase.dto.event.response.EventV2Response;
 import org.adt.volunteerscase.dto.event.response.GetAllResponse;
 import org.adt.volunteerscase.dto.event.response.PatchResponse;
+import org.adt.volunteerscase.dto.page.response.CursorPageResponse;
 import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.entity.CoordinatorEntity;
 import org.adt.volunteerscase.entity.CoverEntity;
+import org.adt.volunteerscase.entity.CoverFileMetadata;
 import org.adt.volunteerscase.entity.LocationEntity;
 import org.adt.volunteerscase.entity.TagEntity;
+import org.adt.volunteerscase.entity.event.EventCardEntity;
 import org.adt.volunteerscase.entity.event.EventEntity;
 import org.adt.volunteerscase.entity.event.EventStatus;
 import org.adt.volunteerscase.exception.CoverAlreadyExistsException;
 import org.adt.volunteerscase.exception.EventNotFoundException;
+import org.adt.volunteerscase.exception.EventVersionMismatchException;
 import org.adt.volunteerscase.exception.LocationAlreadyExistsException;
 import org.adt.volunteerscase.exception.SimultaneouslyCleaningAndWritingCoverException;
 import org.adt.volunteerscase.exception.SimultaneouslyCleaningAndWritingTagsException;
 import org.adt.volunteerscase.repository.CoordinatorRepository;
 import org.adt.volunteerscase.repository.CoverRepository;
+import org.adt.volunteerscase.repository.EventCardRepository;
+import org.adt.volunteerscase.repository.EventPopularityRepository;
 import org.adt.volunteerscase.repository.EventRepository;
+import org.adt.volunteerscase.repository.EventTrendingRepository;
 import org.adt.volunteerscase.repository.LocationRepository;
 import org.adt.volunteerscase.service.TagService;
+import org.adt.volunteerscase.service.event.EventBitmapIndex;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.adt.volunteerscase.service.event.RecommendationCache;
+import org.adt.volunteerscase.service.event.RecommendationIndex;
+import org.adt.volunteerscase.service.event.TrendingEvents;
+import org.adt.volunteerscase.service.event.EventCursor;
+import org.adt.volunteerscase.service.event.EventDetailCache;
+import org.adt.volunteerscase.service.event.EventFilterPlan;
+import org.adt.volunteerscase.service.event.EventPageHydrator;
 import org.adt.volunteerscase.service.impl.EventServiceImpl;
+import org.adt.volunteerscase.service.page.TotalCountCache;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,12 +74,20 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor.SpecificationFluentQuery;
 
 import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -60,6 +102,9 @@ class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EventPopularityRepository eventPopularityRepository;
+
     @Mock
     private CoverRepository coverRepository;
 
@@ -72,8 +117,24 @@ class EventServiceTest {
     @Mock
     private TagService tagService;
 
+    @Mock
+    private EventCardRepository eventCardRepository;
+
+    @Mock
+    private EventCardWriter eventCardWriter;
+
+    @Mock
+    private RecommendationIndex recommendationIndex;
+
+    @Mock
+    private EventTrendingRepository eventTrendingRepository;
+
     private EventServiceImpl eventService;
+    private EventDetailCache eventDetailCache;
+    private RecommendationCache recommendationCache;
+    private TrendingEvents trendingEvents;
     private CoverMapper coverMapper;
+    private EventCardMapper eventCardMapper;
     private LocalDateTime eventDate;
     private LocalDateTime updatedEventDate;
     private LocationEntity location;
@@ -86,13 +147,27 @@ class EventServiceTest {
     @BeforeEach
     void setUp() {
         coverMapper = new CoverMapper(new ObjectMapper());
+        eventDetailCache = new EventDetailCache(60_000, 100);
+        recommendationCache = new RecommendationCache(60_000, 100, 3);
+        trendingEvents = new TrendingEvents(eventTrendingRepository, eventPopularityRepository, 21_600_000, 0.01);
+        eventCardMapper = new EventCardMapper(coverMapper);
         eventService = new EventServiceImpl(
                 eventRepository,
+                eventPopularityRepository,
                 coverRepository,
                 locationRepository,
                 coordinatorRepository,
                 tagService,
-                coverMapper
+                coverMapper,
+                new EventPageHydrator(eventCardRepository),
+                new TotalCountCache(30_000, 100),
+                eventDetailCache,
+                eventCardMapper,
+                eventCardWriter,
+                recommendationIndex,
+                recommendationCache,
+                trendingEvents,
+                new EventBitmapIndex(eventRepository)
         );
 
         eventDate = LocalDateTime.of(2026, 4, 20, 12, 0);
@@ -148,6 +223,7 @@ class EventServiceTest {
                 .dateTimestamp(eventDate)
                 .location(location)
                 .tags(Set.of(firstTag))
+                .version(3L)
                 .build();
     }
 
@@ -259,6 +335,76 @@ class EventServiceTest {
         verify(tagService).getTagEntities(Set.of(1));
     }
 
+    @Test
+    void createEventsV2Bulk_shouldValidateBatchOnceAndReportEveryItem() {
+        EventBulkCreateRequest request = EventBulkCreateRequest.builder()
+                .events(List.of(
+                        bulkItem(10, eventDate, 5),
+                        bulkItem(10, eventDate, null),
+                        bulkItem(99, eventDate, null),
+                        bulkItem(10, updatedEventDate, null)
+                ))
+                .build();
+
+        when(locationRepository.findAllById(Set.of(10, 99))).thenReturn(List.of(location));
+        when(coordinatorRepository.findAllById(Set.of(1))).thenReturn(List.of(coordinator));
+        when(tagService.findTagEntities(Set.of(1))).thenReturn(List.of(firstTag));
+        when(coverRepository.findAllByCoverIdInAndDeletedAtIsNull(Set.of(5))).thenReturn(List.of(cover));
+        when(eventRepository.findUsedCoverIds(Set.of(5))).thenReturn(List.of());
+        when(eventRepository.findOccupiedSlots(Set.of(10, 99), Set.of(eventDate, updatedEventDate)))
+                .thenReturn(List.of(slotRow(10, updatedEventDate)));
+        when(eventRepository.saveAll(any())).thenAnswer(invocation -> {
+            Collection<EventEntity> events = invocation.getArgument(0);
+            events.forEach(event -> event.setEventId(500));
+            return List.copyOf(events);
+        });
+
+        EventBulkCreateResponse response = eventService.createEventsV2Bulk(request);
+
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.getItems())
+                .extracting(
+                        EventBulkItemResult::getIndex,
+                        EventBulkItemResult::getStatus,
+                        EventBulkItemResult::getEventId,
+                        EventBulkItemResult::getErrorCode
+                )
+                .containsExactly(
+                        tuple(0, EventBulkItemStatus.CREATED, 500, null),
+                        tuple(1, EventBulkItemStatus.FAILED, null, "LOCATION_ALREADY_EXISTS"),
+                        tuple(2, EventBulkItemStatus.FAILED, null, "LOCATION_NOT_FOUND"),
+                        tuple(3, EventBulkItemStatus.FAILED, null, "LOCATION_ALREADY_EXISTS")
+                );
+        assertThat(response.getItems().get(1).getMessage()).endsWith("by item 0");
+
+        verify(eventRepository).flush();
+        verify(eventRepository, never()).saveAndFlush(any());
+        verify(eventCardWriter).refreshAll(List.of(500));
+    }
+
+    @Test
+    void createEventsV2Bulk_shouldMapConcurrentSlotConflictWithBatchContext() {
+        EventBulkCreateRequest request = EventBulkCreateRequest.builder()
+                .events(List.of(bulkItem(10, eventDate, null)))
+                .build();
+
+        when(locationRepository.findAllById(Set.of(10))).thenReturn(List.of(location));
+        when(coordinatorRepository.findAllById(Set.of(1))).thenReturn(List.of(coordinator));
+        when(tagService.findTagEntities(Set.of(1))).thenReturn(List.of(firstTag));
+        when(eventRepository.findOccupiedSlots(Set.of(10), Set.of(eventDate))).thenReturn(List.of());
+        when(eventRepository.saveAll(any())).thenThrow(new DataIntegrityViolationException(
+                "constraint violation",
+                new RuntimeException("uk_event_location_datetime")
+        ));
+
+        assertThatThrownBy(() -> eventService.createEventsV2Bulk(request))
+                .isInstanceOf(LocationAlreadyExistsException.class)
+                .hasMessage("location is occupied - an item of the batch lost it to a concurrent write, retry the batch");
+
+        verify(eventCardWriter, never()).refreshAll(any());
+    }
+
     @Test
     void patchEvent_shouldUpdateFieldsAndReturnResponse() {
         CoordinatorEntity newCoordinator = CoordinatorEntity.builder()
@@ -372,6 +518,41 @@ class EventServiceTest {
         verify(eventRepository, never()).saveAndFlush(any(EventEntity.class));
     }
 
+    @Test
+    void patchEvent_shouldThrowException_whenExpectedVersionDoesNotMatch() {
+        when(eventRepository.findByEventId(1)).thenReturn(Optional.of(existingEvent));
+
+        EventPatchRequest request = EventPatchRequest.builder()
+                .name("Updated Event")
+                .build();
+
+        assertThatThrownBy(() -> eventService.patchEvent(1, request, 2L))
+                .isInstanceOf(EventVersionMismatchException.class)
+                .hasMessage("event with id - 1 has version 3, expected 2");
+
+        assertThat(existingEvent.getName()).isEqualTo("Old Event");
+        verify(eventRepository, never()).saveAndFlush(any(EventEntity.class));
+    }
+
+    @Test
+    void getEventVersion_shouldReturnVersionWithoutLoadingEvent() {
+        when(eventRepository.findVersionByEventId(1)).thenReturn(Optional.of(3L));
+
+        assertThat(eventService.getEventVersion(1)).isEqualTo(3L);
+
+        verify(eventRepository, never()).findDetailedByEventIdIn(anyList());
+        verify(eventRepository, never()).findByEventId(anyInt());
+    }
+
+    @Test
+    void getEventVersion_shouldThrowException_whenEventNotFound() {
+        when(eventRepository.findVersionByEventId(77)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> eventService.getEventVersion(77))
+                .isInstanceOf(EventNotFoundException.class)
+                .hasMessage("event with id - 77 not found");
+    }
+
     @Test
     void patchEvent_shouldThrowException_whenClearTagsAndTagIdsAreUsedTogether() {
         EventPatchRequest request = EventPatchRequest.builder()
@@ -466,6 +647,7 @@ class EventServiceTest {
 
         verify(eventRepository).existsById(1);
         verify(eventRepository).deleteById(1);
+        verify(eventCardWriter).delete(1);
     }
 
     @Test
@@ -483,9 +665,10 @@ class EventServiceTest {
     @Test
     void getAllEvents_shouldReturnMappedPageResponse() {
         Pageable pageable = PageRequest.of(0, 1);
-        Page<EventEntity> eventPage = new PageImpl<>(List.of(existingEvent), pageable, 2);
+        Page<Integer> eventIdPage = new PageImpl<>(List.of(1), pageable, 2);
 
-        when(eventRepository.findAllByOrderByDateTimestampDesc(pageable)).thenReturn(eventPage);
+        when(eventRepository.findEventIdsOrderByDateTimestampDesc(pageable)).thenReturn(eventIdPage);
+        when(eventCardRepository.findAllByEventIdIn(List.of(1))).thenReturn(cards(List.of(existingEvent)));
 
         PageResponse<GetAllResponse> response = eventService.getAllEvents(pageable);
 
@@ -515,15 +698,165 @@ class EventServiceTest {
                 .extracting("tagId", "tagName")
                 .containsExactly(tuple(1, "animals"));
 
-        verify(eventRepository).findAllByOrderByDateTimestampDesc(pageable);
+        verify(eventRepository).findEventIdsOrderByDateTimestampDesc(pageable);
+        verify(eventCardRepository).findAllByEventIdIn(List.of(1));
+    }
+
+    @Test
+    void getRecommendations_shouldRankInMemoryAndOnlyHydrate_whenIndexIsReady() {
+        when(recommendationIndex.isReady()).thenReturn(true);
+        // the cache asks the index for the head of the ranking, three ids in this test
+        when(recommendationIndex.recommend(7, 0, 3))
+                .thenReturn(new RecommendationIndex.Recommendations(List.of(1, 2, 3), 5));
+        when(recommendationIndex.recommend(7, 3, 1))
+                .thenReturn(new RecommendationIndex.Recommendations(List.of(4), 5));
+        when(eventCardRepository.findAllByEventIdIn(List.of(1))).thenReturn(cards(List.of(existingEvent)));
+        when(eventCardRepository.findAllByEventIdIn(List.of(2))).thenReturn(cards(List.of(event(2, "Second"))));
+        when(eventCardRepository.findAllByEventIdIn(List.of(4))).thenReturn(cards(List.of(event(4, "Fourth"))));
+
+        PageResponse<GetAllResponse> first = eventService.getRecommendations(7, PageRequest.of(0, 1), TotalMode.EXACT);
+        PageResponse<GetAllResponse> second = eventService.getRecommendations(7, PageRequest.of(1, 1), TotalMode.EXACT);
+        PageResponse<GetAllResponse> beyondHead = eventService.getRecommendations(7, PageRequest.of(3, 1), TotalMode.EXACT);
+
+        assertThat(first.getContent()).extracting(GetAllResponse::getEventId).containsExactly(1);
+        assertThat(first.getTotalElements()).isEqualTo(5);
+        assertThat(second.getContent()).extracting(GetAllResponse::getEventId).containsExactly(2);
+        assertThat(second.getTotalElements()).isEqualTo(5);
+        assertThat(beyondHead.getContent()).extracting(GetAllResponse::getEventId).containsExactly(4);
+
+        verify(recommendationIndex, times(1)).recommend(7, 0, 3);
+        verify(eventRepository, never()).findRecommendedEventIds(anyInt(), any(), any());
+        verify(eventRepository, never()).findRecommendedEventIdSlice(anyInt(), any(), any());
+        verify(eventRepository, never()).countRecommendedEventIds(anyInt(), any());
+    }
+
+    @Test
+    void getPopularUpcomingEventsV2_shouldReadPopularityTableAndHydrateCards() {
+        Pageable pageable = PageRequest.of(0, 1);
+
+        when(eventPopularityRepository.findPopularUpcomingEventIds(any(LocalDateTime.class), eq(pageable)))
+                .thenReturn(new SliceImpl<>(List.of(1), pageable, true));
+        when(eventCardRepository.findAllByEventIdIn(List.of(1))).thenReturn(cards(List.of(existingEvent)));
+
+        PageResponse<EventV2Response> response = eventService.getPopularUpcomingEventsV2(pageable);
+
+        assertThat(response.getContent()).extracting(EventV2Response::getEventId).containsExactly(1);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getTotalElements()).isNull();
+    }
+
+    @Test
+    void getTrendingEventsV2_shouldRankRecordedApplicationsInMemoryAndHydrateCards() {
+        trendingEvents.recordApplicationsAfterCommit(7, 1);
+        trendingEvents.recordApplicationsAfterCommit(9, 3);
+        trendingEvents.recordApplicationsAfterCommit(4, 2);
+        when(eventCardRepository.findAllByEventIdIn(List.of(9, 4)))
+                .thenReturn(cards(List.of(event(4, "Fourth"), event(9, "Ninth"))));
+
+        List<EventV2Response> response = eventService.getTrendingEventsV2(2);
+
+        assertThat(response).extracting(EventV2Response::getEventId).containsExactly(9, 4);
+        verifyNoInteractions(eventRepository, eventTrendingRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void filterEventsV2_shouldQueryInIndexOrderOfStatusPlanAndHydrateCards() {
+        EventFilterRequest filter = EventFilterRequest.builder()
+                .from(LocalDateTime.of(2026, 4, 1, 0, 0))
+                .to(LocalDateTime.of(2026, 4, 30, 23, 59))
+                .status(EventStatus.ONGOING)
+                .sort(EventFilterSort.DATE_ASC)
+                .build();
+        Sort indexOrder = Sort.by(Sort.Direction.ASC, "dateTimestamp", "eventId");
+        EventIdRow row = () -> 1;
+        SpecificationFluentQuery<Object> query = mock(SpecificationFluentQuery.class, RETURNS_SELF);
+
+        when(eventRepository.findBy(any(Specification.class), any(Function.class)))
+                .thenAnswer(invocation -> invocation.<Function<Object, Object>>getArgument(1).apply(query));
+        when(query.page(PageRequest.of(0, 10))).thenReturn(new PageImpl<Object>(List.of(row), PageRequest.of(0, 10), 1));
+        when(eventCardRepository.findAllByEventIdIn(List.of(1))).thenReturn(cards(List.of(existingEvent)));
+
+        PageResponse<EventV2Response> response = eventService.filterEventsV2(filter, PageRequest.of(0, 10));
+
+        assertThat(response.getContent()).extracting(EventV2Response::getEventId).containsExactly(1);
+        assertThat(response.getTotalElements()).isEqualTo(1);
+        verify(query).as(EventIdRow.class);
+        verify(query).sortBy(indexOrder);
+        verify(eventRepository, never()).findAll(any(Specification.class), any(Pageable.class));
+    }
+
+    @Test
+    void filterEventsV2_shouldRejectCombinationOutsideWhitelist() {
+        EventFilterRequest filter = EventFilterRequest.builder()
+                .status(EventStatus.ONGOING)
+                .coordinatorId(3)
+                .build();
+
+        assertThatThrownBy(() -> eventService.filterEventsV2(filter, PageRequest.of(0, 10)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("unsupported filter combination - status, coordinatorId, " +
+                        "combine the date window with at most one of status, coordinatorId, locationId, tagId");
+
+        verifyNoInteractions(eventRepository, eventCardRepository);
+    }
+
+    @Test
+    void browseEventsV2_shouldCombineTagStatusAndDayBitmapsAndHydrateOnlyThePage() {
+        LocalDateTime day = LocalDateTime.of(2026, 5, 10, 10, 0);
+        when(eventRepository.findAllEventTags()).thenReturn(List.of(
+                tagRow(1, 10), tagRow(1, 11),
+                tagRow(2, 10), tagRow(2, 11),
+                tagRow(3, 10),
+                tagRow(4, 10), tagRow(4, 11),
+                tagRow(5, 10), tagRow(5, 11)
+        ));
+        when(eventRepository.findAllEventIndexRows()).thenReturn(List.of(
+                indexRow(1, EventStatus.ONGOING, day),
+                indexRow(2, EventStatus.ONGOING, day.plusHours(2)),
+                indexRow(3, EventStatus.ONGOING, day.plusDays(1)),
+                indexRow(4, EventStatus.COMPLETED, day.plusDays(1)),
+                indexRow(5, EventStatus.ONGOING, day.plusDays(30))
+        ));
+        when(eventCardRepository.findAllByEventIdIn(List.of(2))).thenReturn(cards(List.of(event(2, "Second"))));
+
+        PageResponse<EventV2Response> response = eventService.browseEventsV2(
+                Set.of(10, 11),
+                EventTagMatch.ALL,
+                Set.of(EventStatus.ONGOING),
+                LocalDate.of(2026, 5, 1),
+                LocalDate.of(2026, 5, 31),
+                PageRequest.of(0, 1)
+        );
+
+        assertThat(response.getContent()).extracting(EventV2Response::getEventId).containsExactly(2);
+        assertThat(response.getTotalElements()).isEqualTo(2);
+        verify(eventCardRepository).findAllByEventIdIn(List.of(2));
+    }
+
+    @Test
+    void browseEventsV2_shouldRejectInvertedDateWindow() {
+        assertThatThrownBy(() -> eventService.browseEventsV2(
+                null,
+                EventTagMatch.ANY,
+                null,
+                LocalDate.of(2026, 5, 31),
+                LocalDate.of(2026, 5, 1),
+                PageRequest.of(0, 10)
+        ))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("invalid date window - from must not be after to");
+
+        verifyNoInteractions(eventRepository, eventCardRepository);
     }
 
     @Test
     void getAllEventsV2_shouldReturnMappedPageResponseWithWeightMinutes() {
         Pageable pageable = PageRequest.of(0, 1);
-        Page<EventEntity> eventPage = new PageImpl<>(List.of(existingEvent), pageable, 2);
+        Page<Integer> eventIdPage = new PageImpl<>(List.of(1), pageable, 2);
 
-        when(eventRepository.findAllByOrderByDateTimestampDesc(pageable)).thenReturn(eventPage);
+        when(eventRepository.findEventIdsOrderByDateTimestampDesc(pageable)).thenReturn(eventIdPage);
+        when(eventCardRepository.findAllByEventIdIn(List.of(1))).thenReturn(cards(List.of(existingEvent)));
 
         PageResponse<EventV2Response> response = eventService.getAllEventsV2(pageable);
 
@@ -554,12 +887,13 @@ class EventServiceTest {
                 .extracting("tagId", "tagName")
                 .containsExactly(tuple(1, "animals"));
 
-        verify(eventRepository).findAllByOrderByDateTimestampDesc(pageable);
+        verify(eventRepository).findEventIdsOrderByDateTimestampDesc(pageable);
+        verify(eventCardRepository).findAllByEventIdIn(List.of(1));
     }
 
     @Test
     void getEventById_shouldReturnMappedEventResponse() {
-        when(eventRepository.findByEventId(1)).thenReturn(Optional.of(existingEvent));
+        when(eventRepository.findDetailedByEventIdIn(List.of(1))).thenReturn(List.of(existingEvent));
 
         GetAllResponse response = eventService.getEventById(1);
 
@@ -580,12 +914,12 @@ class EventServiceTest {
                 .extracting("tagId", "tagName")
                 .containsExactly(tuple(1, "animals"));
 
-        verify(eventRepository).findByEventId(1);
+        verify(eventRepository).findDetailedByEventIdIn(List.of(1));
     }
 
     @Test
     void getEventV2ById_shouldReturnMappedEventResponseWithWeightMinutes() {
-        when(eventRepository.findByEventId(1)).thenReturn(Optional.of(existingEvent));
+        when(eventRepository.findDetailedByEventIdIn(List.of(1))).thenReturn(List.of(existingEvent));
 
         EventV2Response response = eventService.getEventV2ById(1);
 
@@ -607,29 +941,100 @@ class EventServiceTest {
                 .extracting("tagId", "tagName")
                 .containsExactly(tuple(1, "animals"));
 
-        verify(eventRepository).findByEventId(1);
+        verify(eventRepository).findDetailedByEventIdIn(List.of(1));
     }
 
     @Test
     void getEventV2ById_shouldThrowException_whenEventNotFound() {
-        when(eventRepository.findByEventId(77)).thenReturn(Optional.empty());
+        when(eventRepository.findDetailedByEventIdIn(List.of(77))).thenReturn(List.of());
 
         assertThatThrownBy(() -> eventService.getEventV2ById(77))
                 .isInstanceOf(EventNotFoundException.class)
                 .hasMessage("event with id - 77 not found");
 
-        verify(eventRepository).findByEventId(77);
+        verify(eventRepository).findDetailedByEventIdIn(List.of(77));
     }
 
     @Test
     void getEventById_shouldThrowException_whenEventNotFound() {
-        when(eventRepository.findByEventId(77)).thenReturn(Optional.empty());
+        when(eventRepository.findDetailedByEventIdIn(List.of(77))).thenReturn(List.of());
 
         assertThatThrownBy(() -> eventService.getEventById(77))
                 .isInstanceOf(EventNotFoundException.class)
                 .hasMessage("event with id - 77 not found");
 
-        verify(eventRepository).findByEventId(77);
+        verify(eventRepository).findDetailedByEventIdIn(List.of(77));
+    }
+
+    @Test
+    void getEventById_shouldServeRepeatedReadsFromCache() {
+        when(eventRepository.findDetailedByEventIdIn(List.of(1))).thenReturn(List.of(existingEvent));
+
+        GetAllResponse first = eventService.getEventById(1);
+        GetAllResponse second = eventService.getEventById(1);
+
+        assertThat(second).isEqualTo(first);
+        assertThat(eventDetailCache.getStats().getHits()).isEqualTo(1L);
+        assertThat(eventDetailCache.getStats().getMisses()).isEqualTo(1L);
+
+        verify(eventRepository, times(1)).findDetailedByEventIdIn(List.of(1));
+    }
+
+    @Test
+    void getEventById_shouldNotShareCachedResponseBetweenCallers() {
+        when(eventRepository.findDetailedByEventIdIn(List.of(1))).thenReturn(List.of(existingEvent));
+
+        GetAllResponse first = eventService.getEventById(1);
+        first.setName("changed by the first caller");
+        first.getLocation().setAddress("changed by the first caller");
+        first.getTags().clear();
+        GetAllResponse second = eventService.getEventById(1);
+        second.setDescription("changed by the second caller");
+        GetAllResponse third = eventService.getEventById(1);
+
+        assertThat(second).isNotSameAs(third);
+        assertThat(third.getName()).isEqualTo(existingEvent.getName());
+        assertThat(third.getDescription()).isEqualTo(existingEvent.getDescription());
+        assertThat(third.getLocation().getAddress()).isEqualTo(existingEvent.getLocation().getAddress());
+        assertThat(third.getTags()).hasSize(existingEvent.getTags().size());
+    }
+
+    @Test
+    void updateStatus_shouldEvictCachedEventDetail() {
+        EventStatusPatchRequest request = EventStatusPatchRequest.builder()
+                .eventStatus("COMPLETED")
+                .build();
+
+        when(eventRepository.findDetailedByEventIdIn(List.of(1))).thenReturn(List.of(existingEvent));
+        when(eventRepository.findByEventId(1)).thenReturn(Optional.of(existingEvent));
+
+        assertThat(eventService.getEventV2ById(1).getStatus()).isEqualTo(EventStatus.ONGOING);
+
+        eventService.updateStatus(1, request);
+
+        assertThat(eventService.getEventV2ById(1).getStatus()).isEqualTo(EventStatus.COMPLETED);
+        assertThat(eventDetailCache.getStats().getInvalidations()).isEqualTo(1L);
+
+        verify(eventRepository, times(2)).findDetailedByEventIdIn(List.of(1));
+        verify(eventCardWriter).refresh(1);
+    }
+
+    @Test
+    void getAllEventsV2_shouldReadApplicationCountsFromEventCard() {
+        Pageable pageable = PageRequest.of(0, 1);
+        EventCardEntity card = eventCardMapper.toCard(existingEvent, 7, 3);
+
+        when(eventRepository.findEventIdsOrderByDateTimestampDesc(pageable))
+                .thenReturn(new PageImpl<>(List.of(1), pageable, 1));
+        when(eventCardRepository.findAllByEventIdIn(List.of(1))).thenReturn(List.of(card));
+
+        EventV2Response eventResponse = eventService.getAllEventsV2(pageable).getContent().get(0);
+
+        assertThat(eventResponse.getAcceptedCount()).isEqualTo(7L);
+        assertThat(eventResponse.getPendingCount()).isEqualTo(3L);
+        assertThat(eventResponse.getVersion()).isEqualTo(3L);
+
+        verify(eventRepository, never()).findDetailedByEventIdIn(anyList());
     }
 
     private CoverEntity coverEntity(
@@ -643,8 +1048,8 @@ class EventServiceTest {
         return CoverEntity.builder()
                 .coverId(coverId)
                 .link(link)
-                .metadata(coverMapper.encodeMetadata(
-                        CoverMetadataDTO.builder()
+                .metadata(
+                        CoverFileMetadata.builder()
                                 .originalFileName(originalFileName)
                                 .contentType("image/jpeg")
                                 .size(1024L)
@@ -654,7 +1059,7 @@ class EventServiceTest {
                                 .objectKey(objectKey)
                                 .eTag("etag-" + coverId)
                                 .build()
-                ))
+                )
                 .createdAt(Instant.now().toEpochMilli())
                 .deletedAt(null)
                 .build();
@@ -664,12 +1069,14 @@ class EventServiceTest {
     void searchEvents_shouldReturnMappedPageResponse() {
         EventSearchRequest request = EventSearchRequest.builder()
                 .name("Old")
+                .mode(EventSearchMode.SUBSTRING)
                 .build();
 
         Pageable pageable = PageRequest.of(0, 1);
-        Page<EventEntity> eventPage = new PageImpl<>(List.of(existingEvent), pageable, 2);
+        Page<Integer> eventIdPage = new PageImpl<>(List.of(1), pageable, 2);
 
-        when(eventRepository.searchByName("Old", pageable)).thenReturn(eventPage);
+        when(eventRepository.searchEventIdsByName("Old", pageable)).thenReturn(eventIdPage);
+        when(eventCardRepository.findAllByEventIdIn(List.of(1))).thenReturn(cards(List.of(existingEvent)));
 
         PageResponse<GetAllResponse> response = eventService.searchEvents(request, pageable);
 
@@ -699,19 +1106,21 @@ class EventServiceTest {
                 .extracting("tagId", "tagName")
                 .containsExactly(tuple(1, "animals"));
 
-        verify(eventRepository).searchByName("Old", pageable);
+        verify(eventRepository).searchEventIdsByName("Old", pageable);
+        verify(eventCardRepository).findAllByEventIdIn(List.of(1));
     }
 
     @Test
     void searchEvents_shouldReturnEmptyPage_whenNothingFound() {
         EventSearchRequest request = EventSearchRequest.builder()
                 .name("Missing")
+                .mode(EventSearchMode.SUBSTRING)
                 .build();
 
         Pageable pageable = PageRequest.of(0, 10);
-        Page<EventEntity> eventPage = Page.empty(pageable);
+        Page<Integer> eventIdPage = Page.empty(pageable);
 
-        when(eventRepository.searchByName("Missing", pageable)).thenReturn(eventPage);
+        when(eventRepository.searchEventIdsByName("Missing", pageable)).thenReturn(eventIdPage);
 
         PageResponse<GetAllResponse> response = eventService.searchEvents(request, pageable);
 
@@ -723,6 +1132,516 @@ class EventServiceTest {
         assertThat(response.isFirst()).isTrue();
         assertThat(response.isLast()).isTrue();
 
-        verify(eventRepository).searchByName("Missing", pageable);
+        verify(eventRepository).searchEventIdsByName("Missing", pageable);
+        verify(eventCardRepository, never()).findAllByEventIdIn(any());
+    }
+
+    // these tests pin the repository calls per page; the SQL each call issues (no N+1 inside the card read)
+    // is not measured, as the unit tests run without a database
+    @Test
+    void getAllEvents_shouldMakeTwoRepositoryCalls_regardlessOfPageSize() {
+        Pageable pageable = PageRequest.of(0, 3);
+        List<EventEntity> events = List.of(event(3, "Third"), event(2, "Second"), event(1, "First"));
+
+        when(eventRepository.findEventIdsOrderByDateTimestampDesc(pageable))
+                .thenReturn(new PageImpl<>(List.of(3, 2, 1), pageable, 3));
+        when(eventCardRepository.findAllByEventIdIn(List.of(3, 2, 1)))
+                .thenReturn(cards(List.of(events.get(2), events.get(0), events.get(1))));
+
+        PageResponse<GetAllResponse> response = eventService.getAllEvents(pageable);
+
+        assertThat(response.getContent())
+                .extracting(GetAllResponse::getEventId)
+                .containsExactly(3, 2, 1);
+
+        verify(eventRepository).findEventIdsOrderByDateTimestampDesc(pageable);
+        verify(eventCardRepository).findAllByEventIdIn(List.of(3, 2, 1));
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void getAllEventsV2_shouldMakeTwoRepositoryCalls_regardlessOfPageSize() {
+        Pageable pageable = PageRequest.of(0, 3);
+        List<EventEntity> events = List.of(event(3, "Third"), event(2, "Second"), event(1, "First"));
+
+        when(eventRepository.findEventIdsOrderByDateTimestampDesc(pageable))
+                .thenReturn(new PageImpl<>(List.of(3, 2, 1), pageable, 3));
+        when(eventCardRepository.findAllByEventIdIn(List.of(3, 2, 1)))
+                .thenReturn(cards(List.of(events.get(1), events.get(2), events.get(0))));
+
+        PageResponse<EventV2Response> response = eventService.getAllEventsV2(pageable);
+
+        assertThat(response.getContent())
+                .extracting(EventV2Response::getEventId)
+                .containsExactly(3, 2, 1);
+
+        verify(eventRepository).findEventIdsOrderByDateTimestampDesc(pageable);
+        verify(eventCardRepository).findAllByEventIdIn(List.of(3, 2, 1));
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void searchEvents_shouldMakeTwoRepositoryCalls_regardlessOfPageSize() {
+        EventSearchRequest request = EventSearchRequest.builder()
+                .name("Event")
+                .mode(EventSearchMode.SUBSTRING)
+                .build();
+        Pageable pageable = PageRequest.of(0, 3);
+        List<EventEntity> events = List.of(event(1, "A Event"), event(2, "B Event"), event(3, "C Event"));
+
+        when(eventRepository.searchEventIdsByName("Event", pageable))
+                .thenReturn(new PageImpl<>(List.of(1, 2, 3), pageable, 3));
+        when(eventCardRepository.findAllByEventIdIn(List.of(1, 2, 3)))
+                .thenReturn(cards(List.of(events.get(2), events.get(1), events.get(0))));
+
+        PageResponse<GetAllResponse> response = eventService.searchEvents(request, pageable);
+
+        assertThat(response.getContent())
+                .extracting(GetAllResponse::getName)
+                .containsExactly("A Event", "B Event", "C Event");
+
+        verify(eventRepository).searchEventIdsByName("Event", pageable);
+        verify(eventCardRepository).findAllByEventIdIn(List.of(1, 2, 3));
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void searchEvents_shouldRankByFullTextQuery_andAttachHeadlines() {
+        EventSearchRequest request = EventSearchRequest.builder()
+                .name("Уборка, парка!")
+                .build();
+        Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.ASC, "name"));
+        Pageable rankedPageable = PageRequest.of(0, 2);
+
+        when(eventRepository.fullTextSearchEvents("уборка:* & парка:*", true, rankedPageable))
+                .thenReturn(new PageImpl<>(
+                        List.of(searchHit(2, 0.9, "<mark>Уборка</mark> парка"), searchHit(1, 0.4, "<mark>парка</mark>")),
+                        rankedPageable,
+                        2
+                ));
+        when(eventCardRepository.findAllByEventIdIn(List.of(2, 1)))
+                .thenReturn(cards(List.of(event(1, "First"), event(2, "Second"))));
+
+        PageResponse<GetAllResponse> response = eventService.searchEvents(request, pageable);
+
+        assertThat(response.getContent())
+                .extracting(GetAllResponse::getEventId, GetAllResponse::getSearchRank, GetAllResponse::getSearchHeadline)
+                .containsExactly(
+                        tuple(2, 0.9, "<mark>Уборка</mark> парка"),
+                        tuple(1, 0.4, "<mark>парка</mark>")
+                );
+        assertThat(response.getTotalElements()).isEqualTo(2);
+
+        verify(eventRepository).fullTextSearchEvents("уборка:* & парка:*", true, rankedPageable);
+        verify(eventCardRepository).findAllByEventIdIn(List.of(2, 1));
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void searchEvents_shouldUseExactTermsWithoutCount_whenPrefixAndTotalAreDisabled() {
+        EventSearchRequest request = EventSearchRequest.builder()
+                .name("парк")
+                .prefix(false)
+                .highlight(false)
+                .build();
+        Pageable pageable = PageRequest.of(1, 1);
+
+        when(eventRepository.fullTextSearchEventSlice("парк", false, pageable))
+                .thenReturn(new SliceImpl<>(List.of(searchHit(1, 0.1, null)), pageable, false));
+        when(eventCardRepository.findAllByEventIdIn(List.of(1))).thenReturn(cards(List.of(existingEvent)));
+
+        PageResponse<GetAllResponse> response = eventService.searchEvents(request, pageable, TotalMode.NONE);
+
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.getContent().get(0).getSearchHeadline()).isNull();
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getTotalElements()).isNull();
+
+        verify(eventRepository, never()).countFullTextSearch(any());
+    }
+
+    @Test
+    void searchEvents_shouldFallBackToSubstringSearch_whenTextHasNoSearchableTerms() {
+        EventSearchRequest request = EventSearchRequest.builder()
+                .name("%%")
+                .build();
+        Pageable pageable = PageRequest.of(0, 1);
+
+        when(eventRepository.searchEventIdsByName("\\%\\%", pageable))
+                .thenReturn(new PageImpl<>(List.of(), pageable, 0));
+
+        PageResponse<GetAllResponse> response = eventService.searchEvents(request, pageable);
+
+        assertThat(response.getContent()).isEmpty();
+
+        verify(eventRepository, never()).fullTextSearchEvents(any(), anyBoolean(), any());
+    }
+
+    @Test
+    void getUpcomingEventsNearby_shouldPrefilterByBoundingBox_andKeepDistanceOrder() {
+        Pageable pageable = PageRequest.of(0, 2);
+
+        when(eventRepository.findNearbyUpcomingEvents(
+                eq(55.75), eq(37.62), eq(10.0),
+                doubleThat(minLatitude -> Math.abs(minLatitude - (55.75 - 10.0 / 111.19)) < 0.001),
+                doubleThat(maxLatitude -> Math.abs(maxLatitude - (55.75 + 10.0 / 111.19)) < 0.001),
+                doubleThat(minLongitude -> minLongitude < 37.62 - 10.0 / 111.19),
+                doubleThat(maxLongitude -> maxLongitude > 37.62 + 10.0 / 111.19),
+                any(LocalDateTime.class),
+                eq(pageable)
+        )).thenReturn(new PageImpl<>(List.of(distanceHit(2, 0.8), distanceHit(1, 4.2)), pageable, 2));
+        when(eventCardRepository.findAllByEventIdIn(List.of(2, 1)))
+                .thenReturn(cards(List.of(event(1, "Far"), event(2, "Near"))));
+
+        PageResponse<EventV2Response> response = eventService.getUpcomingEventsNearby(55.75, 37.62, 10.0, pageable);
+
+        assertThat(response.getContent())
+                .extracting(EventV2Response::getName, EventV2Response::getDistanceKm)
+                .containsExactly(tuple("Near", 0.8), tuple("Far", 4.2));
+        assertThat(response.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    void getUpcomingEventMapClusters_shouldAggregateWithZoomCellSize_andParseSamples() {
+        EventMapClusterRow cluster = new EventMapClusterRow() {
+            @Override
+            public Long getEventCount() {
+                return 12L;
+            }
+
+            @Override
+            public Double getLatitude() {
+                return 55.76;
+            }
+
+            @Override
+            public Double getLongitude() {
+                return 37.61;
+            }
+
+            @Override
+            public String getSampleEventIds() {
+                return "4,9,1";
+            }
+        };
+
+        when(eventRepository.findUpcomingEventMapClusters(
+                eq(55.5), eq(56.0), eq(37.3), eq(37.9),
+                eq(360.0 / 1024 / 4),
+                eq(5), eq(500),
+                any(LocalDateTime.class)
+        )).thenReturn(List.of(cluster));
+
+        List<EventMapClusterResponse> response = eventService.getUpcomingEventMapClusters(55.5, 56.0, 37.3, 37.9, 10);
+
+        assertThat(response).hasSize(1);
+        assertThat(response.get(0).getCount()).isEqualTo(12L);
+        assertThat(response.get(0).getLatitude()).isEqualTo(55.76);
+        assertThat(response.get(0).getLongitude()).isEqualTo(37.61);
+        assertThat(response.get(0).getSampleEventIds()).containsExactly(4, 9, 1);
+    }
+
+    @Test
+    void getUpcomingEventMapClusters_shouldThrowException_whenViewportIsInverted() {
+        assertThatThrownBy(() -> eventService.getUpcomingEventMapClusters(56.0, 55.5, 37.3, 37.9, 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("invalid viewport - min coordinates must not exceed max coordinates");
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getRecommendations_shouldMakeTwoRepositoryCalls_andKeepRankOrder() {
+        Pageable pageable = PageRequest.of(0, 3);
+        List<EventEntity> events = List.of(event(7, "Seventh"), event(4, "Fourth"), event(9, "Ninth"));
+
+        when(eventRepository.findRecommendedEventIdSlice(eq(42), any(LocalDateTime.class), eq(PageRequest.of(0, 3))))
+                .thenReturn(new SliceImpl<>(List.of(9, 7, 4), PageRequest.of(0, 3), true));
+        when(eventRepository.countRecommendedEventIds(eq(42), any(LocalDateTime.class))).thenReturn(5L);
+        when(eventCardRepository.findAllByEventIdIn(List.of(9, 7, 4))).thenReturn(cards(events));
+
+        PageResponse<GetAllResponse> response = eventService.getRecommendations(42, pageable);
+
+        assertThat(response.getContent())
+                .extracting(GetAllResponse::getEventId)
+                .containsExactly(9, 7, 4);
+        assertThat(response.getTotalElements()).isEqualTo(5);
+        assertThat(response.isLast()).isFalse();
+
+        verify(eventRepository).findRecommendedEventIdSlice(eq(42), any(LocalDateTime.class), eq(PageRequest.of(0, 3)));
+        verify(eventRepository).countRecommendedEventIds(eq(42), any(LocalDateTime.class));
+        verify(eventCardRepository).findAllByEventIdIn(List.of(9, 7, 4));
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void getRecommendations_shouldServeLaterPagesFromCachedRanking_untilUserIsEvicted() {
+        when(eventRepository.findRecommendedEventIdSlice(eq(42), any(LocalDateTime.class), eq(PageRequest.of(0, 3))))
+                .thenReturn(new SliceImpl<>(List.of(9, 7), PageRequest.of(0, 3), false));
+        when(eventCardRepository.findAllByEventIdIn(List.of(9))).thenReturn(cards(List.of(event(9, "Ninth"))));
+        when(eventCardRepository.findAllByEventIdIn(List.of(7))).thenReturn(cards(List.of(event(7, "Seventh"))));
+
+        PageResponse<GetAllResponse> first = eventService.getRecommendations(42, PageRequest.of(0, 1));
+        PageResponse<GetAllResponse> second = eventService.getRecommendations(42, PageRequest.of(1, 1));
+
+        assertThat(first.getContent()).extracting(GetAllResponse::getEventId).containsExactly(9);
+        assertThat(second.getContent()).extracting(GetAllResponse::getEventId).containsExactly(7);
+        assertThat(second.getTotalElements()).isEqualTo(2);
+        assertThat(second.isLast()).isTrue();
+        verify(eventRepository, times(1)).findRecommendedEventIdSlice(eq(42), any(LocalDateTime.class), any(Pageable.class));
+
+        recommendationCache.evictUserAfterCommit(42);
+        eventService.getRecommendations(42, PageRequest.of(0, 1));
+
+        verify(eventRepository, times(2)).findRecommendedEventIdSlice(eq(42), any(LocalDateTime.class), any(Pageable.class));
+        verify(eventRepository, never()).countRecommendedEventIds(anyInt(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void getAllEventsByCursor_shouldReturnFirstSliceWithNextCursor() {
+        Pageable lookAhead = PageRequest.of(0, 3);
+        EventEntity newest = event(3, "Third");
+        EventEntity middle = event(2, "Second");
+
+        when(eventRepository.findFirstKeysetEventIds(lookAhead)).thenReturn(List.of(3, 2, 1));
+        when(eventCardRepository.findAllByEventIdIn(List.of(3, 2))).thenReturn(cards(List.of(middle, newest)));
+
+        CursorPageResponse<GetAllResponse> response = eventService.getAllEventsByCursor(null, 2);
+
+        assertThat(response.getContent())
+                .extracting(GetAllResponse::getEventId)
+                .containsExactly(3, 2);
+        assertThat(response.getPageSize()).isEqualTo(2);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.isHasPrev()).isFalse();
+        assertThat(response.getPrevCursor()).isNull();
+
+        EventCursor nextCursor = EventCursor.decode(response.getNextCursor());
+        assertThat(nextCursor.isPrev()).isFalse();
+        assertThat(nextCursor.getEventId()).isEqualTo(2);
+        assertThat(nextCursor.getDateTimestamp()).isEqualTo(middle.getDateTimestamp());
+
+        verify(eventRepository).findFirstKeysetEventIds(lookAhead);
+        verify(eventCardRepository).findAllByEventIdIn(List.of(3, 2));
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void getAllEventsV2ByCursor_shouldSeekAfterCursor_andStopAtLastSlice() {
+        Pageable lookAhead = PageRequest.of(0, 3);
+        LocalDateTime cursorDate = eventDate.plusDays(3);
+        String cursor = EventCursor.next(cursorDate, 3).encode();
+
+        when(eventRepository.findKeysetEventIdsAfter(cursorDate, 3, lookAhead)).thenReturn(List.of(2, 1));
+        when(eventCardRepository.findAllByEventIdIn(List.of(2, 1)))
+                .thenReturn(cards(List.of(event(1, "First"), event(2, "Second"))));
+
+        CursorPageResponse<EventV2Response> response = eventService.getAllEventsV2ByCursor(cursor, 2);
+
+        assertThat(response.getContent())
+                .extracting(EventV2Response::getEventId)
+                .containsExactly(2, 1);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getNextCursor()).isNull();
+        assertThat(response.isHasPrev()).isTrue();
+
+        EventCursor prevCursor = EventCursor.decode(response.getPrevCursor());
+        assertThat(prevCursor.isPrev()).isTrue();
+        assertThat(prevCursor.getEventId()).isEqualTo(2);
+
+        verify(eventRepository).findKeysetEventIdsAfter(cursorDate, 3, lookAhead);
+        verify(eventCardRepository).findAllByEventIdIn(List.of(2, 1));
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void getAllEventsByCursor_shouldSeekBeforeCursor_andKeepDescendingOrder() {
+        Pageable lookAhead = PageRequest.of(0, 3);
+        LocalDateTime cursorDate = eventDate.plusDays(1);
+        String cursor = EventCursor.prev(cursorDate, 1).encode();
+
+        when(eventRepository.findKeysetEventIdsBefore(cursorDate, 1, lookAhead)).thenReturn(List.of(2, 3, 4));
+        when(eventCardRepository.findAllByEventIdIn(List.of(3, 2)))
+                .thenReturn(cards(List.of(event(2, "Second"), event(3, "Third"))));
+
+        CursorPageResponse<GetAllResponse> response = eventService.getAllEventsByCursor(cursor, 2);
+
+        assertThat(response.getContent())
+                .extracting(GetAllResponse::getEventId)
+                .containsExactly(3, 2);
+        assertThat(response.isHasPrev()).isTrue();
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(EventCursor.decode(response.getPrevCursor()).getEventId()).isEqualTo(3);
+        assertThat(EventCursor.decode(response.getNextCursor()).getEventId()).isEqualTo(2);
+    }
+
+    @Test
+    void getAllEventsByCursor_shouldThrowException_whenCursorIsMalformed() {
+        assertThatThrownBy(() -> eventService.getAllEventsByCursor("%%%", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("invalid cursor - %%%");
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    void getAllEvents_shouldSkipCountQuery_whenTotalIsNotRequested() {
+        Pageable pageable = PageRequest.of(0, 1);
+
+        when(eventRepository.findEventIdSliceOrderByDateTimestampDesc(pageable))
+                .thenReturn(new SliceImpl<>(List.of(1), pageable, true));
+        when(eventCardRepository.findAllByEventIdIn(List.of(1))).thenReturn(cards(List.of(existingEvent)));
+
+        PageResponse<GetAllResponse> response = eventService.getAllEvents(pageable, TotalMode.NONE);
+
+        assertThat(response.getContent())
+                .extracting(GetAllResponse::getEventId)
+                .containsExactly(1);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.isLast()).isFalse();
+        assertThat(response.getTotalElements()).isNull();
+        assertThat(response.getTotalPages()).isNull();
+        assertThat(response.getApproximateTotal()).isNull();
+
+        verify(eventRepository).findEventIdSliceOrderByDateTimestampDesc(pageable);
+        verify(eventCardRepository).findAllByEventIdIn(List.of(1));
+        verifyNoMoreInteractions(eventRepository);
+    }
+
+    @Test
+    void getRecommendations_shouldReuseCachedApproximateTotal() {
+        Pageable pageable = PageRequest.of(0, 1);
+
+        when(eventRepository.findRecommendedEventIdSlice(eq(42), any(LocalDateTime.class), eq(PageRequest.of(0, 3))))
+                .thenReturn(new SliceImpl<>(List.of(1, 2, 3), PageRequest.of(0, 3), true));
+        when(eventCardRepository.findAllByEventIdIn(List.of(1))).thenReturn(cards(List.of(existingEvent)));
+        when(eventRepository.countRecommendedEventIds(eq(42), any(LocalDateTime.class))).thenReturn(17L);
+
+        PageResponse<GetAllResponse> first = eventService.getRecommendations(42, pageable, TotalMode.APPROXIMATE);
+        PageResponse<GetAllResponse> second = eventService.getRecommendations(42, pageable, TotalMode.APPROXIMATE);
+
+        assertThat(first.getApproximateTotal()).isEqualTo(17L);
+        assertThat(second.getApproximateTotal()).isEqualTo(17L);
+        assertThat(second.getTotalElements()).isNull();
+        assertThat(second.isHasNext()).isTrue();
+
+        verify(eventRepository, times(1)).findRecommendedEventIdSlice(eq(42), any(LocalDateTime.class), any(Pageable.class));
+        verify(eventRepository, times(1)).countRecommendedEventIds(eq(42), any(LocalDateTime.class));
+        verify(eventRepository, never()).findRecommendedEventIds(anyInt(), any(LocalDateTime.class), any(Pageable.class));
+    }
+
+    private EventIndexRow indexRow(Integer eventId, EventStatus status, LocalDateTime dateTimestamp) {
+        return new EventIndexRow() {
+            @Override
+            public Integer getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public EventStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public LocalDateTime getDateTimestamp() {
+                return dateTimestamp;
+            }
+        };
+    }
+
+    private EventTagRow tagRow(Integer eventId, Integer tagId) {
+        return new EventTagRow() {
+            @Override
+            public Integer getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public Integer getTagId() {
+                return tagId;
+            }
+        };
+    }
+
+    private EventSearchHit searchHit(Integer eventId, Double rank, String headline) {
+        return new EventSearchHit() {
+            @Override
+            public Integer getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public Double getRank() {
+                return rank;
+            }
+
+            @Override
+            public String getHeadline() {
+                return headline;
+            }
+        };
+    }
+
+    private EventDistanceHit distanceHit(Integer eventId, Double distanceKm) {
+        return new EventDistanceHit() {
+            @Override
+            public Integer getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public Double getDistanceKm() {
+                return distanceKm;
+            }
+        };
+    }
+
+    private EventSlotRow slotRow(Integer locationId, LocalDateTime dateTimestamp) {
+        return new EventSlotRow() {
+            @Override
+            public Integer getLocationId() {
+                return locationId;
+            }
+
+            @Override
+            public LocalDateTime getDateTimestamp() {
+                return dateTimestamp;
+            }
+        };
+    }
+
+    private EventCreateV2Request bulkItem(Integer locationId, LocalDateTime dateTimestamp, Integer coverId) {
+        return EventCreateV2Request.builder()
+                .name("Bulk event")
+                .status("ONGOING")
+                .coverId(coverId)
+                .coordinatorId(1)
+                .maxCapacity(20)
+                .weightMinutes(60)
+                .dateTimestamp(dateTimestamp)
+                .locationId(locationId)
+                .tagIds(Set.of(1))
+                .build();
+    }
+
+    private EventEntity event(Integer eventId, String name) {
+        return EventEntity.builder()
+                .eventId(eventId)
+                .name(name)
+                .status(EventStatus.ONGOING)
+                .description(name + " description")
+                .cover(cover)
+                .coordinator(coordinator)
+                .maxCapacity(50)
+                .dateTimestamp(eventDate.plusDays(eventId))
+                .location(location)
+                .tags(Set.of(firstTag))
+                .build();
+    }
+
+    private List<EventCardEntity> cards(List<EventEntity> events) {
+        return events.stream()
+                .map(event -> eventCardMapper.toCard(event, 0, 0))
+                .collect(Collectors.toList());
     }
 }
@@ -11,7 +11,11 @@ import org.adt.volunteerscase.exception.LocationAlreadyExistsException;
 import org.adt.volunteerscase.exception.LocationNotFoundException;
 import org.adt.volunteerscase.repository.LocationRepository;
 import org.adt.volunteerscase.service.LocationService;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.adt.volunteerscase.service.event.EventDetailCache;
 import org.adt.volunteerscase.service.impl.LocationServiceImpl;
+import org.adt.volunteerscase.service.page.TotalCountCache;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -23,6 +27,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 
 import java.util.List;
 import java.util.Optional;
@@ -38,13 +44,21 @@ public class LocationServiceTest {
     @Mock
     private LocationRepository locationRepository;
 
+    @Mock
+    private EventCardWriter eventCardWriter;
+
     private LocationService locationService;
     private LocationCreateRequest createRequest;
     private LocationEntity existingLocation;
 
     @BeforeEach
     void setUp() {
-        locationService = new LocationServiceImpl(locationRepository);
+        locationService = new LocationServiceImpl(
+                locationRepository,
+                new TotalCountCache(30_000, 100),
+                new EventDetailCache(60_000, 100),
+                eventCardWriter
+        );
 
         createRequest = LocationCreateRequest.builder()
                 .address("г. Москва, ул. Ленина, 10")
@@ -93,6 +107,30 @@ public class LocationServiceTest {
         verify(locationRepository, never()).save(any(LocationEntity.class));
     }
 
+    @Test
+    void createLocation_shouldThrowException_whenSimilarAddressesExist() {
+        when(locationRepository.existsByAddress(createRequest.getAddress())).thenReturn(false);
+        when(locationRepository.findSimilarAddresses(eq(createRequest.getAddress()), anyDouble(), anyInt()))
+                .thenReturn(List.of("Москва, ул. Ленина 10", "г. Москва, ул. Ленина, 10а"));
+
+        assertThatThrownBy(() -> locationService.createLocation(createRequest))
+                .isInstanceOf(LocationAlreadyExistsException.class)
+                .hasMessage("location with similar address already exists - Москва, ул. Ленина 10; г. Москва, ул. Ленина, 10а");
+
+        verify(locationRepository, never()).save(any(LocationEntity.class));
+    }
+
+    @Test
+    void createLocation_shouldSkipSimilarityCheck_whenSimilarAddressesAreAllowed() {
+        createRequest.setAllowSimilar(true);
+        when(locationRepository.existsByAddress(createRequest.getAddress())).thenReturn(false);
+
+        locationService.createLocation(createRequest);
+
+        verify(locationRepository, never()).findSimilarAddresses(any(), anyDouble(), anyInt());
+        verify(locationRepository).save(any(LocationEntity.class));
+    }
+
     @Test
     void createLocation_shouldThrowException_whenSaveViolatesUniqueConstraint() {
         when(locationRepository.existsByAddress(createRequest.getAddress())).thenReturn(false);
@@ -151,6 +189,54 @@ public class LocationServiceTest {
         verify(locationRepository).searchByAddress("Москва", pageable);
     }
 
+    @Test
+    void searchLocations_shouldReturnSliceWithoutCount_whenTotalIsNotRequested() {
+        LocationSearchRequest searchRequest = LocationSearchRequest.builder()
+                .address("Москва")
+                .build();
+
+        Pageable pageable = PageRequest.of(1, 1);
+
+        when(locationRepository.searchSliceByAddress("Москва", pageable))
+                .thenReturn(new SliceImpl<>(List.of(existingLocation), pageable, false));
+
+        PageResponse<LocationResponse> response =
+                locationService.searchLocations(searchRequest, pageable, TotalMode.NONE);
+
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.getPageNumber()).isEqualTo(1);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.isFirst()).isFalse();
+        assertThat(response.isLast()).isTrue();
+        assertThat(response.getTotalElements()).isNull();
+        assertThat(response.getTotalPages()).isNull();
+
+        verify(locationRepository).searchSliceByAddress("Москва", pageable);
+        verify(locationRepository, never()).searchByAddress(any(), any());
+        verify(locationRepository, never()).countByAddressSearch(any());
+    }
+
+    @Test
+    void searchLocations_shouldIgnoreCallerSort_becauseResultsAreRankedBySimilarity() {
+        LocationSearchRequest searchRequest = LocationSearchRequest.builder()
+                .address("Тверская")
+                .build();
+
+        Pageable sortedPageable = PageRequest.of(0, 5, Sort.by(Sort.Direction.ASC, "address"));
+        Pageable rankedPageable = PageRequest.of(0, 5);
+
+        when(locationRepository.searchByAddress("Тверская", rankedPageable))
+                .thenReturn(new PageImpl<>(List.of(existingLocation), rankedPageable, 1));
+
+        PageResponse<LocationResponse> response = locationService.searchLocations(searchRequest, sortedPageable);
+
+        assertThat(response.getContent())
+                .extracting(LocationResponse::getAddress)
+                .containsExactly("г. Москва, ул. Тверская, 1");
+
+        verify(locationRepository).searchByAddress("Тверская", rankedPageable);
+    }
+
     @Test
     void updateLocation_shouldUpdateOnlyProvidedFieldsAndReturnResponse() {
         LocationPatchRequest patchRequest = LocationPatchRequest.builder()
@@ -180,6 +266,8 @@ public class LocationServiceTest {
         verify(locationRepository).save(savedCaptor.capture());
         assertThat(savedCaptor.getValue().getAddress()).isEqualTo("г. Москва, ул. Новый Арбат, 15");
         assertThat(savedCaptor.getValue().getLongitude()).isEqualTo(37.6000);
+        verify(locationRepository).bumpEventVersionsByLocationId(1);
+        verify(eventCardWriter).refreshByLocationId(1);
     }
 
     @Test
@@ -17,6 +17,8 @@ import org.adt.volunteerscase.repository.UserRatingRepository;
 import org.adt.volunteerscase.repository.UserRepository;
 import org.adt.volunteerscase.service.RatingService;
 import org.adt.volunteerscase.service.impl.RatingServiceImpl;
+import org.adt.volunteerscase.service.page.TotalCountCache;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,6 +30,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -74,7 +77,8 @@ class RatingServiceTest {
                 userRepository,
                 coordinatorRepository,
                 userRatingRepository,
-                coordinatorRatingRepository
+                coordinatorRatingRepository,
+                new TotalCountCache(30_000, 100)
         );
 
         firstUser = UserEntity.builder()
@@ -255,6 +259,33 @@ class RatingServiceTest {
         verify(userRatingRepository).findByPeriodOrderByRatingPositionAscUserUserIdAsc(RatingPeriod.MONTHLY, pageable);
     }
 
+    @Test
+    void getUserRating_shouldAttachApproximateTotal_whenRequested() {
+        Pageable pageable = PageRequest.of(0, 1);
+        UserRatingEntity rating = UserRatingEntity.builder()
+                .period(RatingPeriod.OVERALL)
+                .user(firstUser)
+                .workedMinutes(300L)
+                .ratingPosition(1)
+                .calculatedAt(LocalDateTime.now())
+                .build();
+
+        when(userRatingRepository.findSliceByPeriodOrderByRatingPositionAscUserUserIdAsc(RatingPeriod.OVERALL, pageable))
+                .thenReturn(new SliceImpl<>(List.of(rating), pageable, true));
+        when(userRatingRepository.countByPeriod(RatingPeriod.OVERALL)).thenReturn(25L);
+
+        PageResponse<UserRatingResponse> response =
+                ratingService.getUserRating(RatingPeriod.OVERALL, pageable, TotalMode.APPROXIMATE);
+
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getApproximateTotal()).isEqualTo(25L);
+        assertThat(response.getTotalElements()).isNull();
+
+        verify(userRatingRepository, never())
+                .findByPeriodOrderByRatingPositionAscUserUserIdAsc(any(), any());
+    }
+
     @Test
     void getCoordinatorRating_shouldReturnMappedPageResponse() {
         Pageable pageable = PageRequest.of(0, 2);
@@ -0,0 +1,260 @@
+package org.adt.volunteerscase.unit.service;
+
+import org.adt.volunteerscase.dto.event.EventTagRow;
+import org.adt.volunteerscase.dto.event.RecommendationEventRow;
+import org.adt.volunteerscase.entity.TagEntity;
+import org.adt.volunteerscase.entity.event.EventEntity;
+import org.adt.volunteerscase.entity.event.EventStatus;
+import org.adt.volunteerscase.repository.EventRepository;
+import org.adt.volunteerscase.repository.UserEventRepository;
+import org.adt.volunteerscase.repository.UserRepository;
+import org.adt.volunteerscase.service.event.EventsChanged;
+import org.adt.volunteerscase.service.event.RecommendationIndex;
+import org.adt.volunteerscase.service.event.RecommendationIndex.Recommendations;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class RecommendationIndexTest {
+
+    private static final Integer USER_ID = 42;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserEventRepository userEventRepository;
+
+    private RecommendationIndex recommendationIndex;
+    private LocalDateTime inOneDay;
+    private List<RecommendationEventRow> eventRows;
+    private List<EventTagRow> tagRows;
+
+    @BeforeEach
+    void setUp() {
+        recommendationIndex = new RecommendationIndex(eventRepository, userRepository, userEventRepository, true);
+        inOneDay = LocalDateTime.now().plusDays(1);
+        eventRows = new ArrayList<>();
+        tagRows = new ArrayList<>();
+    }
+
+    @Test
+    void recommend_shouldRankBySharedTagsThenPopularityThenLatestDateThenEventId() {
+        indexed(1, inOneDay, 0, 1, 2);
+        indexed(2, inOneDay, 10, 1);
+        indexed(3, inOneDay.plusDays(2), 5, 1);
+        indexed(4, inOneDay.plusDays(1), 5, 1);
+        indexed(5, inOneDay.plusDays(1), 5, 1);
+        indexed(6, inOneDay, 100, 3);
+        rebuild();
+        userWith(Set.of(1, 2), List.of());
+
+        Recommendations recommendations = recommendationIndex.recommend(USER_ID, 0, 10);
+
+        // same order as the ORDER BY of EventRepository#findRecommendedEventIds
+        assertThat(recommendations.eventIds()).containsExactly(1, 2, 3, 5, 4, 6);
+        assertThat(recommendations.total()).isEqualTo(6);
+    }
+
+    @Test
+    void recommend_shouldCutRequestedPageFromRanking() {
+        for (int eventId = 1; eventId <= 6; eventId++) {
+            indexed(eventId, inOneDay, eventId);
+        }
+        rebuild();
+        userWith(Set.of(), List.of());
+
+        assertThat(recommendationIndex.recommend(USER_ID, 0, 2).eventIds()).containsExactly(6, 5);
+        assertThat(recommendationIndex.recommend(USER_ID, 2, 2).eventIds()).containsExactly(4, 3);
+        assertThat(recommendationIndex.recommend(USER_ID, 4, 10).eventIds()).containsExactly(2, 1);
+
+        Recommendations beyondLastPage = recommendationIndex.recommend(USER_ID, 10, 2);
+        assertThat(beyondLastPage.eventIds()).isEmpty();
+        assertThat(beyondLastPage.total()).isEqualTo(6);
+    }
+
+    @Test
+    void recommend_shouldSkipAppliedAndPastEvents() {
+        indexed(1, inOneDay, 0, 1);
+        indexed(2, inOneDay, 0, 1);
+        indexed(3, LocalDateTime.now().minusHours(1), 0, 1);
+        rebuild();
+        userWith(Set.of(1), List.of(2));
+
+        Recommendations recommendations = recommendationIndex.recommend(USER_ID, 0, 10);
+
+        assertThat(recommendations.eventIds()).containsExactly(1);
+        assertThat(recommendations.total()).isEqualTo(1);
+    }
+
+    @Test
+    void recommend_shouldLoadUserProfileOnce() {
+        indexed(1, inOneDay, 0, 1);
+        rebuild();
+        userWith(Set.of(1), List.of());
+
+        recommendationIndex.recommend(USER_ID, 0, 10);
+        recommendationIndex.recommend(USER_ID, 0, 10);
+
+        verify(userRepository, times(1)).findTagIdsByUserId(USER_ID);
+        verify(userEventRepository, times(1)).findEventIdsByUserId(USER_ID);
+    }
+
+    @Test
+    void onEventsChanged_shouldIndexNewEventsAndDropCompletedOrRemovedOnes() {
+        indexed(1, inOneDay, 0, 1);
+        indexed(2, inOneDay, 0, 1);
+        indexed(3, inOneDay, 0, 1);
+        rebuild();
+        userWith(Set.of(1), List.of());
+
+        EventEntity created = event(4, EventStatus.ONGOING, inOneDay, 1);
+        EventEntity completed = event(2, EventStatus.COMPLETED, inOneDay, 1);
+        recommendationIndex.onEventsChanged(new EventsChanged(List.of(completed, created), Set.of(3)));
+
+        assertThat(recommendationIndex.recommend(USER_ID, 0, 10).eventIds()).containsExactly(4, 1);
+    }
+
+    @Test
+    void onEventsChanged_shouldKeepPopularityOfReindexedEvent() {
+        indexed(1, inOneDay, 7, 1);
+        indexed(2, inOneDay, 5, 2);
+        rebuild();
+        userWith(Set.of(2), List.of());
+
+        // retagged: the loaded counters are stale, the popularity counter of the index stays authoritative
+        recommendationIndex.onEventsChanged(new EventsChanged(List.of(event(1, EventStatus.ONGOING, inOneDay, 2)), Set.of()));
+
+        assertThat(recommendationIndex.recommend(USER_ID, 0, 10).eventIds()).containsExactly(1, 2);
+    }
+
+    @Test
+    void recordApplicationsAfterCommit_shouldRaisePopularityAndHideEventFromApplicant() {
+        indexed(1, inOneDay, 1);
+        indexed(2, inOneDay, 2);
+        rebuild();
+        userWith(Set.of(), List.of());
+        assertThat(recommendationIndex.recommend(USER_ID, 0, 10).eventIds()).containsExactly(2, 1);
+
+        recommendationIndex.recordApplicationsAfterCommit(1, List.of(USER_ID), 5);
+
+        assertThat(recommendationIndex.recommend(USER_ID, 0, 10).eventIds()).containsExactly(2);
+        when(userRepository.findTagIdsByUserId(7)).thenReturn(List.of());
+        when(userEventRepository.findEventIdsByUserId(7)).thenReturn(List.of());
+        assertThat(recommendationIndex.recommend(7, 0, 10).eventIds()).containsExactly(1, 2);
+    }
+
+    @Test
+    void onEventsChanged_shouldDropRemovedEvent() {
+        indexed(1, inOneDay, 0);
+        indexed(2, inOneDay, 0);
+        rebuild();
+        userWith(Set.of(), List.of());
+
+        recommendationIndex.onEventsChanged(EventsChanged.removed(2));
+
+        assertThat(recommendationIndex.recommend(USER_ID, 0, 10).eventIds()).containsExactly(1);
+    }
+
+    @Test
+    void rebuild_shouldReplayWritesThatLandWhileSnapshotIsRead() {
+        indexed(1, inOneDay, 0);
+        indexed(2, inOneDay, 1);
+        when(eventRepository.findUpcomingEventTags(any(LocalDateTime.class))).thenReturn(tagRows);
+        // the snapshot was read before event 1 was deleted and event 2 got five more applications
+        when(eventRepository.findUpcomingRecommendationEvents(any(LocalDateTime.class))).thenAnswer(invocation -> {
+            recommendationIndex.onEventsChanged(EventsChanged.removed(1));
+            recommendationIndex.recordApplicationsAfterCommit(2, List.of(), 5);
+            return eventRows;
+        });
+        indexed(3, inOneDay, 3);
+
+        recommendationIndex.rebuild();
+        userWith(Set.of(), List.of());
+
+        assertThat(recommendationIndex.recommend(USER_ID, 0, 10).eventIds()).containsExactly(2, 3);
+    }
+
+    @Test
+    void rebuild_shouldReportReadinessOnlyWhenEnabled() {
+        RecommendationIndex disabled = new RecommendationIndex(eventRepository, userRepository, userEventRepository, false);
+        assertThat(disabled.rebuild()).isZero();
+        assertThat(disabled.isReady()).isFalse();
+        verifyNoInteractions(eventRepository);
+
+        assertThat(recommendationIndex.isReady()).isFalse();
+        indexed(1, inOneDay, 0);
+        assertThat(rebuild()).isEqualTo(1);
+        assertThat(recommendationIndex.isReady()).isTrue();
+    }
+
+    private void indexed(Integer eventId, LocalDateTime dateTimestamp, long popularity, Integer... tagIds) {
+        eventRows.add(new RecommendationEventRow() {
+            @Override
+            public Integer getEventId() {
+                return eventId;
+            }
+
+            @Override
+            public LocalDateTime getDateTimestamp() {
+                return dateTimestamp;
+            }
+
+            @Override
+            public Long getPopularity() {
+                return popularity;
+            }
+        });
+        for (Integer tagId : tagIds) {
+            tagRows.add(new EventTagRow() {
+                @Override
+                public Integer getEventId() {
+                    return eventId;
+                }
+
+                @Override
+                public Integer getTagId() {
+                    return tagId;
+                }
+            });
+        }
+    }
+
+    private int rebuild() {
+        when(eventRepository.findUpcomingEventTags(any(LocalDateTime.class))).thenReturn(tagRows);
+        when(eventRepository.findUpcomingRecommendationEvents(any(LocalDateTime.class))).thenReturn(eventRows);
+        return recommendationIndex.rebuild();
+    }
+
+    private void userWith(Set<Integer> tagIds, List<Integer> appliedEventIds) {
+        when(userRepository.findTagIdsByUserId(USER_ID)).thenReturn(List.copyOf(tagIds));
+        when(userEventRepository.findEventIdsByUserId(USER_ID)).thenReturn(appliedEventIds);
+    }
+
+    private static EventEntity event(Integer eventId, EventStatus status, LocalDateTime dateTimestamp, Integer... tagIds) {
+        return EventEntity.builder()
+                .eventId(eventId)
+                .status(status)
+                .dateTimestamp(dateTimestamp)
+                .tags(Set.of(tagIds).stream()
+                        .map(tagId -> TagEntity.builder().tagId(tagId).tagName("tag-" + tagId).build())
+                        .collect(Collectors.toSet()))
+                .build();
+    }
+}
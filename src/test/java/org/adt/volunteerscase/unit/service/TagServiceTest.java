@@ -1,5 +1,7 @@
 package org.adt.volunteerscase.unit.service;
 
+import org.adt.volunteerscase.dto.event.response.GetAllResponse;
+import org.adt.volunteerscase.dto.tag.TagEntityDTO;
 import org.adt.volunteerscase.dto.tag.request.TagCreateRequest;
 import org.adt.volunteerscase.dto.tag.request.TagUpdateRequest;
 import org.adt.volunteerscase.dto.tag.response.TagGetResponse;
@@ -8,6 +10,9 @@ import org.adt.volunteerscase.exception.TagAlreadyExistsException;
 import org.adt.volunteerscase.exception.TagNotFoundException;
 import org.adt.volunteerscase.repository.TagRepository;
 import org.adt.volunteerscase.service.TagService;
+import org.adt.volunteerscase.service.event.EventBitmapIndex;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.adt.volunteerscase.service.event.EventDetailCache;
 import org.adt.volunteerscase.service.impl.TagServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,13 +37,21 @@ public class TagServiceTest {
     @Mock
     private TagRepository tagRepository;
 
+    @Mock
+    private EventCardWriter eventCardWriter;
+
+    @Mock
+    private EventBitmapIndex eventBitmapIndex;
+
     private TagService tagService;
+    private EventDetailCache eventDetailCache;
     private TagCreateRequest createRequest;
     private TagEntity existingTag;
 
     @BeforeEach
     void setUp() {
-        tagService = new TagServiceImpl(tagRepository);
+        eventDetailCache = new EventDetailCache(60_000, 100);
+        tagService = new TagServiceImpl(tagRepository, eventDetailCache, eventCardWriter, eventBitmapIndex);
 
         createRequest = TagCreateRequest.builder()
                 .tagName("education")
@@ -152,6 +165,33 @@ public class TagServiceTest {
         verify(tagRepository).save(existingTag);
     }
 
+    @Test
+    void updateTag_shouldEvictCachedEventsCarryingTheTag() {
+        TagUpdateRequest request = TagUpdateRequest.builder()
+                .tagName("ecology")
+                .build();
+
+        GetAllResponse taggedEvent = GetAllResponse.builder()
+                .eventId(10)
+                .tags(Set.of(TagEntityDTO.builder().tagId(1).tagName("volunteer").build()))
+                .build();
+        GetAllResponse otherEvent = GetAllResponse.builder()
+                .eventId(11)
+                .tags(Set.of(TagEntityDTO.builder().tagId(2).tagName("animals").build()))
+                .build();
+        eventDetailCache.getResponse(10, () -> taggedEvent);
+        eventDetailCache.getResponse(11, () -> otherEvent);
+
+        when(tagRepository.findByTagId(1)).thenReturn(Optional.of(existingTag));
+        when(tagRepository.existsByTagNameAndTagIdNot("ecology", 1)).thenReturn(false);
+
+        tagService.updateTag(request, 1);
+
+        assertThat(eventDetailCache.getStats().getInvalidations()).isEqualTo(1L);
+        assertThat(eventDetailCache.getStats().getSize()).isEqualTo(1);
+        assertThat(eventDetailCache.getResponse(11, () -> null)).isEqualTo(otherEvent);
+    }
+
     @Test
     void updateTag_shouldThrowException_whenTagNotFound() {
         TagUpdateRequest request = TagUpdateRequest.builder()
@@ -190,14 +230,18 @@ public class TagServiceTest {
     @Test
     void deleteById_shouldDetachRelationsAndDeleteTag() {
         when(tagRepository.findByTagId(1)).thenReturn(Optional.of(existingTag));
+        when(tagRepository.findEventIdsByTagId(1)).thenReturn(List.of(3, 4));
 
         tagService.deleteById(1);
 
-        InOrder inOrder = inOrder(tagRepository);
+        InOrder inOrder = inOrder(tagRepository, eventCardWriter);
         inOrder.verify(tagRepository).findByTagId(1);
+        inOrder.verify(tagRepository).findEventIdsByTagId(1);
         inOrder.verify(tagRepository).deleteUserTagLinksByTagId(1);
         inOrder.verify(tagRepository).deleteEventTagLinksByTagId(1);
+        inOrder.verify(eventCardWriter).refreshAll(List.of(3, 4));
         inOrder.verify(tagRepository).delete(existingTag);
+        verify(eventBitmapIndex).removeTagAfterCommit(1);
     }
 
     @Test
@@ -0,0 +1,41 @@
+package org.adt.volunteerscase.unit.service;
+
+import org.adt.volunteerscase.service.page.TotalCountCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TotalCountCacheTest {
+
+    @Test
+    void get_shouldEvictOnlyLeastRecentlyUsedCount_whenCacheIsFull() {
+        TotalCountCache cache = new TotalCountCache(30_000, 2);
+        AtomicInteger counted = new AtomicInteger();
+
+        cache.get("first", () -> counted.incrementAndGet());
+        cache.get("second", () -> counted.incrementAndGet());
+        // reading "first" makes "second" the least recently used entry
+        cache.get("first", () -> counted.incrementAndGet());
+        cache.get("third", () -> counted.incrementAndGet());
+
+        assertThat(counted).hasValue(3);
+        assertThat(cache.get("first", () -> counted.incrementAndGet())).isEqualTo(1);
+        assertThat(cache.get("third", () -> counted.incrementAndGet())).isEqualTo(3);
+        assertThat(counted).hasValue(3);
+
+        assertThat(cache.get("second", () -> counted.incrementAndGet())).isEqualTo(4);
+    }
+
+    @Test
+    void get_shouldRecountExpiredEntry() {
+        TotalCountCache cache = new TotalCountCache(0, 10);
+        AtomicInteger counted = new AtomicInteger();
+
+        cache.get("key", () -> counted.incrementAndGet());
+        cache.get("key", () -> counted.incrementAndGet());
+
+        assertThat(counted).hasValue(2);
+    }
+}
@@ -1,19 +1,31 @@
 package org.adt.volunteerscase.unit.service;
 
+import org.adt.volunteerscase.dto.userEvent.request.UserEventBulkStatusPatchRequest;
 import org.adt.volunteerscase.dto.userEvent.request.UserEventStatusPatchRequest;
+import org.adt.volunteerscase.dto.userEvent.response.UserEventBulkItemResult;
+import org.adt.volunteerscase.dto.userEvent.response.UserEventBulkStatusResponse;
 import org.adt.volunteerscase.dto.userEvent.response.UserEventResponse;
 import org.adt.volunteerscase.entity.CoordinatorEntity;
 import org.adt.volunteerscase.entity.UserEventEntity;
 import org.adt.volunteerscase.entity.UserEventId;
+import org.adt.volunteerscase.entity.UserEventStatus;
 import org.adt.volunteerscase.entity.event.EventEntity;
 import org.adt.volunteerscase.entity.event.EventStatus;
 import org.adt.volunteerscase.entity.user.UserEntity;
 import org.adt.volunteerscase.exception.*;
+import org.adt.volunteerscase.repository.EventPopularityRepository;
 import org.adt.volunteerscase.repository.EventRepository;
 import org.adt.volunteerscase.repository.UserEventRepository;
 import org.adt.volunteerscase.repository.UserRepository;
 import org.adt.volunteerscase.service.UserEventService;
+import org.adt.volunteerscase.service.event.ApplicationAdmission;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.adt.volunteerscase.service.event.RecommendationCache;
+import org.adt.volunteerscase.service.event.RecommendationIndex;
+import org.adt.volunteerscase.service.event.TrendingEvents;
 import org.adt.volunteerscase.service.impl.UserEventServiceImpl;
+import org.adt.volunteerscase.service.page.TotalCountCache;
+import org.adt.volunteerscase.service.page.TotalMode;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -24,8 +36,10 @@ import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.dto.userEvent.request.CoordinatorApplicationFilterRequest;
 import org.adt.volunteerscase.dto.userEvent.response.CoordinatorApplicationResponse;
 import org.adt.volunteerscase.dto.userEvent.response.CoordinatorEventApplicationsSummaryResponse;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 
 import java.util.List;
 import java.time.LocalDateTime;
@@ -34,6 +48,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -48,6 +63,21 @@ class UserEventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EventPopularityRepository eventPopularityRepository;
+
+    @Mock
+    private EventCardWriter eventCardWriter;
+
+    @Mock
+    private RecommendationIndex recommendationIndex;
+
+    @Mock
+    private RecommendationCache recommendationCache;
+
+    @Mock
+    private TrendingEvents trendingEvents;
+
     private UserEventService userEventService;
 
     private UserEntity applicant;
@@ -61,7 +91,13 @@ class UserEventServiceTest {
         userEventService = new UserEventServiceImpl(
                 userEventRepository,
                 userRepository,
-                eventRepository
+                eventRepository,
+                eventPopularityRepository,
+                new TotalCountCache(30_000, 100),
+                eventCardWriter,
+                recommendationIndex,
+                recommendationCache,
+                trendingEvents
         );
 
         applicant = UserEntity.builder()
@@ -114,11 +150,10 @@ class UserEventServiceTest {
     @Test
     void createApplication_shouldSavePendingApplication_whenEventHasCapacity() {
         when(userRepository.findByUserIdAndDeletedAtIsNull(10)).thenReturn(Optional.of(applicant));
-        when(eventRepository.findByEventIdForUpdate(20)).thenReturn(Optional.of(event));
-        when(userEventRepository.findByUserAndEvent(applicant, event)).thenReturn(Optional.empty());
-        when(userEventRepository.countByEventAndDeletedAtIsNullAndRejectedFalseAndRevokedFalse(event))
-                .thenReturn(1L);
-        when(userEventRepository.save(any(UserEventEntity.class)))
+        when(userEventRepository.findByIdForUpdate(UserEventId.builder().userId(10).eventId(20).build())).thenReturn(Optional.empty());
+        when(eventRepository.reserveApplicationSeats(eq(20), eq(1), any(LocalDateTime.class))).thenReturn(1);
+        when(eventRepository.getReferenceById(20)).thenReturn(event);
+        when(userEventRepository.saveAndFlush(any(UserEventEntity.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         UserEventResponse response = userEventService.createApplication(20, 10);
@@ -130,7 +165,7 @@ class UserEventServiceTest {
         assertThat(response.getCreatedAt()).isNotNull();
 
         ArgumentCaptor<UserEventEntity> captor = ArgumentCaptor.forClass(UserEventEntity.class);
-        verify(userEventRepository).save(captor.capture());
+        verify(userEventRepository).saveAndFlush(captor.capture());
 
         UserEventEntity savedApplication = captor.getValue();
         assertThat(savedApplication.getId().getUserId()).isEqualTo(10);
@@ -140,33 +175,36 @@ class UserEventServiceTest {
         assertThat(savedApplication.isRevoked()).isFalse();
         assertThat(savedApplication.getRejectReason()).isNull();
         assertThat(savedApplication.getCreatedAt()).isNotNull();
+
+        verify(eventRepository, never()).findByEventIdForUpdate(anyInt());
+        verify(eventRepository, never()).adjustApplicationCounters(anyInt(), anyLong(), anyLong(), anyLong(), anyLong());
+        verify(eventCardWriter).refreshApplicationCounts(20);
+        verify(eventPopularityRepository).adjustPopularity(20, 1);
+        verify(recommendationCache).evictUsersAfterCommit(List.of(10));
+        verify(trendingEvents).recordApplicationsAfterCommit(20, 1);
     }
 
     @Test
     void createApplication_shouldThrowException_whenActiveApplicationAlreadyExists() {
         when(userRepository.findByUserIdAndDeletedAtIsNull(10)).thenReturn(Optional.of(applicant));
-        when(eventRepository.findByEventIdForUpdate(20)).thenReturn(Optional.of(event));
-        when(userEventRepository.findByUserAndEvent(applicant,
-                event)).thenReturn(Optional.of(pendingApplication));
+        when(userEventRepository.findByIdForUpdate(UserEventId.builder().userId(10).eventId(20).build()))
+                .thenReturn(Optional.of(pendingApplication));
 
         assertThatThrownBy(() -> userEventService.createApplication(20, 10))
                 .isInstanceOf(UserEventAlreadyExistsException.class)
                 .hasMessage("active application for user id - 10 and event id - 20 already exists");
 
-        verify(userEventRepository, never())
-                .countByEventAndDeletedAtIsNullAndRejectedFalseAndRevokedFalse(event);
-        verify(userEventRepository, never()).save(any(UserEventEntity.class));
+        verify(eventRepository, never()).reserveApplicationSeats(anyInt(), anyInt(), any(LocalDateTime.class));
+        verify(userEventRepository, never()).saveAndFlush(any(UserEventEntity.class));
     }
 
     @Test
     void createApplication_shouldReopenRejectedApplicationAsPending() {
         when(userRepository.findByUserIdAndDeletedAtIsNull(10)).thenReturn(Optional.of(applicant));
-        when(eventRepository.findByEventIdForUpdate(20)).thenReturn(Optional.of(event));
-        when(userEventRepository.findByUserAndEvent(applicant,
-                event)).thenReturn(Optional.of(rejectedApplication));
-        when(userEventRepository.countByEventAndDeletedAtIsNullAndRejectedFalseAndRevokedFalse(event))
-                .thenReturn(1L);
-        when(userEventRepository.save(any(UserEventEntity.class)))
+        when(userEventRepository.findByIdForUpdate(UserEventId.builder().userId(10).eventId(20).build()))
+                .thenReturn(Optional.of(rejectedApplication));
+        when(eventRepository.reserveApplicationSeats(eq(20), eq(1), any(LocalDateTime.class))).thenReturn(1);
+        when(userEventRepository.saveAndFlush(any(UserEventEntity.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
         UserEventResponse response = userEventService.createApplication(20, 10);
@@ -181,22 +219,142 @@ class UserEventServiceTest {
         assertThat(rejectedApplication.getRejectReason()).isNull();
         assertThat(rejectedApplication.getRejectedAt()).isNull();
 
-        verify(userEventRepository).save(rejectedApplication);
+        verify(userEventRepository).saveAndFlush(rejectedApplication);
+        verify(eventRepository).adjustApplicationCounters(20, 0, 0, -1, 0);
+        verify(eventRepository, never()).getReferenceById(anyInt());
+        verify(eventPopularityRepository, never()).adjustPopularity(anyInt(), anyLong());
     }
 
     @Test
     void createApplication_shouldThrowException_whenCapacityIsReached() {
+        event.setActiveCount(2L);
+
         when(userRepository.findByUserIdAndDeletedAtIsNull(10)).thenReturn(Optional.of(applicant));
-        when(eventRepository.findByEventIdForUpdate(20)).thenReturn(Optional.of(event));
-        when(userEventRepository.findByUserAndEvent(applicant, event)).thenReturn(Optional.empty());
-        when(userEventRepository.countByEventAndDeletedAtIsNullAndRejectedFalseAndRevokedFalse(event))
-                .thenReturn(2L);
+        when(userEventRepository.findByIdForUpdate(UserEventId.builder().userId(10).eventId(20).build())).thenReturn(Optional.empty());
+        when(eventRepository.reserveApplicationSeats(eq(20), eq(1), any(LocalDateTime.class))).thenReturn(0);
+        when(eventRepository.findByEventId(20)).thenReturn(Optional.of(event));
 
         assertThatThrownBy(() -> userEventService.createApplication(20, 10))
                 .isInstanceOf(EventCapacityExceededException.class)
                 .hasMessage("event with id - 20 has reached max capacity - 2");
 
-        verify(userEventRepository, never()).save(any(UserEventEntity.class));
+        verify(userEventRepository, never()).saveAndFlush(any(UserEventEntity.class));
+        verify(eventRepository, never()).adjustApplicationCounters(anyInt(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void createApplication_shouldThrowException_whenApplicationWasCreatedConcurrently() {
+        when(userRepository.findByUserIdAndDeletedAtIsNull(10)).thenReturn(Optional.of(applicant));
+        when(userEventRepository.findByIdForUpdate(UserEventId.builder().userId(10).eventId(20).build())).thenReturn(Optional.empty());
+        when(eventRepository.reserveApplicationSeats(eq(20), eq(1), any(LocalDateTime.class))).thenReturn(1);
+        when(eventRepository.getReferenceById(20)).thenReturn(event);
+        when(userEventRepository.saveAndFlush(any(UserEventEntity.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        assertThatThrownBy(() -> userEventService.createApplication(20, 10))
+                .isInstanceOf(UserEventAlreadyExistsException.class)
+                .hasMessage("active application for user id - 10 and event id - 20 already exists");
+
+        verify(eventCardWriter, never()).refreshApplicationCounts(anyInt());
+    }
+
+    @Test
+    void createGroupApplication_shouldReserveSeatsOnceAndSaveWholeGroup() {
+        UserEntity secondApplicant = UserEntity.builder().userId(11).build();
+        when(userRepository.findByUserIdAndDeletedAtIsNull(99))
+                .thenReturn(Optional.of(UserEntity.builder().userId(99).isCoordinator(true).build()));
+        event.setMaxCapacity(5);
+
+        when(userRepository.findAllByUserIdInAndDeletedAtIsNull(List.of(10, 11)))
+                .thenReturn(List.of(applicant, secondApplicant));
+        when(userEventRepository.findAllByEventIdAndUserIdInForUpdate(20, List.of(10, 11)))
+                .thenReturn(List.of(rejectedApplication));
+        when(eventRepository.reserveApplicationSeats(eq(20), eq(2), any(LocalDateTime.class))).thenReturn(1);
+        when(eventRepository.getReferenceById(20)).thenReturn(event);
+        when(userEventRepository.saveAllAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<UserEventResponse> responses = userEventService.createGroupApplication(20, List.of(10, 11), 99);
+
+        assertThat(responses)
+                .extracting(UserEventResponse::getUserId)
+                .containsExactly(10, 11);
+        assertThat(responses)
+                .extracting(UserEventResponse::getStatus)
+                .containsOnly("PENDING");
+        assertThat(rejectedApplication.isRejected()).isFalse();
+
+        verify(eventRepository).adjustApplicationCounters(20, 0, 0, -1, 0);
+        verify(eventCardWriter).refreshApplicationCounts(20);
+    }
+
+    @Test
+    void createGroupApplication_shouldCreateNothing_whenGroupDoesNotFit() {
+        UserEntity secondApplicant = UserEntity.builder().userId(11).build();
+        when(userRepository.findByUserIdAndDeletedAtIsNull(99))
+                .thenReturn(Optional.of(UserEntity.builder().userId(99).isCoordinator(true).build()));
+        event.setActiveCount(1L);
+
+        when(userRepository.findAllByUserIdInAndDeletedAtIsNull(List.of(10, 11)))
+                .thenReturn(List.of(applicant, secondApplicant));
+        when(userEventRepository.findAllByEventIdAndUserIdInForUpdate(20, List.of(10, 11))).thenReturn(List.of());
+        when(eventRepository.reserveApplicationSeats(eq(20), eq(2), any(LocalDateTime.class))).thenReturn(0);
+        when(eventRepository.findByEventId(20)).thenReturn(Optional.of(event));
+
+        assertThatThrownBy(() -> userEventService.createGroupApplication(20, List.of(10, 11), 99))
+                .isInstanceOf(EventCapacityExceededException.class)
+                .hasMessage("event with id - 20 has reached max capacity - 2");
+
+        verify(userEventRepository, never()).saveAllAndFlush(any());
+        verify(eventRepository, never()).adjustApplicationCounters(anyInt(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
+    @Test
+    void createGroupApplication_shouldDenyPlainVolunteer() {
+        when(userRepository.findByUserIdAndDeletedAtIsNull(10)).thenReturn(Optional.of(applicant));
+
+        assertThatThrownBy(() -> userEventService.createGroupApplication(20, List.of(10, 11, 12), 10))
+                .isInstanceOf(UserEventAccessDeniedException.class)
+                .hasMessage("user with id - 10 is not a coordinator and can not apply for a group");
+
+        verify(userRepository, never()).findAllByUserIdInAndDeletedAtIsNull(any());
+        verify(eventRepository, never()).reserveApplicationSeats(anyInt(), anyInt(), any(LocalDateTime.class));
+        verify(userEventRepository, never()).saveAllAndFlush(any());
+    }
+
+    @Test
+    void admitApplications_shouldAdmitBatchWithinCapacityAndRefuseTheRest() {
+        UserEntity secondApplicant = UserEntity.builder().userId(11).build();
+        UserEntity thirdApplicant = UserEntity.builder().userId(12).build();
+        List<Integer> userIds = List.of(10, 11, 10, 12, 13);
+
+        when(eventRepository.findByEventIdForUpdate(20)).thenReturn(Optional.of(event));
+        when(userRepository.findAllByUserIdInAndDeletedAtIsNull(userIds))
+                .thenReturn(List.of(applicant, secondApplicant, thirdApplicant));
+        when(userEventRepository.findAllById(any())).thenReturn(List.of(rejectedApplication));
+        when(userEventRepository.saveAll(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<ApplicationAdmission> admissions = userEventService.admitApplications(20, userIds);
+
+        assertThat(admissions).hasSize(5);
+        assertThat(admissions.get(0).response().getStatus()).isEqualTo("PENDING");
+        assertThat(admissions.get(0).response().getUserId()).isEqualTo(10);
+        assertThat(admissions.get(1).response().getUserId()).isEqualTo(11);
+        assertThat(admissions.get(2).failure())
+                .isInstanceOf(UserEventAlreadyExistsException.class)
+                .hasMessage("active application for user id - 10 and event id - 20 already exists");
+        assertThat(admissions.get(3).failure())
+                .isInstanceOf(EventCapacityExceededException.class)
+                .hasMessage("event with id - 20 has reached max capacity - 2");
+        assertThat(admissions.get(4).failure())
+                .isInstanceOf(UserNotFoundException.class)
+                .hasMessage("user with id - 13 not found");
+
+        assertThat(rejectedApplication.isRejected()).isFalse();
+        assertThat(rejectedApplication.getRejectReason()).isNull();
+
+        verify(userEventRepository).saveAll(any());
+        verify(eventRepository).adjustApplicationCounters(20, 2, 0, -1, 0);
+        verify(eventCardWriter).refreshApplicationCounts(20);
     }
 
     @Test
@@ -209,8 +367,6 @@ class UserEventServiceTest {
         when(userRepository.findByUserIdAndDeletedAtIsNull(10)).thenReturn(Optional.of(applicant));
         when(userEventRepository.findByUserAndEventAndDeletedAtIsNull(applicant, event))
                 .thenReturn(Optional.of(pendingApplication));
-        when(userEventRepository.countByEventAndDeletedAtIsNullAndAcceptedTrueAndRevokedFalse(event))
-                .thenReturn(0L);
         when(userEventRepository.save(any(UserEventEntity.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -226,7 +382,7 @@ class UserEventServiceTest {
         assertThat(pendingApplication.isRevoked()).isFalse();
 
 
-        verify(userEventRepository).countByEventAndDeletedAtIsNullAndAcceptedTrueAndRevokedFalse(event);
+        verify(eventRepository).adjustApplicationCounters(20, 0, 1, 0, 0);
         verify(userEventRepository).save(pendingApplication);
     }
 
@@ -256,8 +412,7 @@ class UserEventServiceTest {
         assertThat(pendingApplication.getRejectReason()).isEqualTo("No available slots");
         assertThat(pendingApplication.getRejectedAt()).isNotNull();
 
-        verify(userEventRepository,
-                never()).countByEventAndDeletedAtIsNullAndAcceptedTrueAndRevokedFalse(event);
+        verify(eventRepository).adjustApplicationCounters(20, -1, 0, 1, 0);
         verify(userEventRepository).save(pendingApplication);
     }
 
@@ -279,6 +434,9 @@ class UserEventServiceTest {
 
     @Test
     void updateApplicationStatus_shouldThrowException_whenAcceptedCapacityIsReached() {
+        event.setActiveCount(2L);
+        event.setAcceptedCount(2L);
+
         UserEventStatusPatchRequest request = UserEventStatusPatchRequest.builder()
                 .status("ACCEPTED")
                 .build();
@@ -287,8 +445,6 @@ class UserEventServiceTest {
         when(userRepository.findByUserIdAndDeletedAtIsNull(10)).thenReturn(Optional.of(applicant));
         when(userEventRepository.findByUserAndEventAndDeletedAtIsNull(applicant, event))
                 .thenReturn(Optional.of(pendingApplication));
-        when(userEventRepository.countByEventAndDeletedAtIsNullAndAcceptedTrueAndRevokedFalse(event))
-                .thenReturn(2L);
 
         assertThatThrownBy(() -> userEventService.updateApplicationStatus(20, 10, request, 99))
                 .isInstanceOf(EventCapacityExceededException.class)
@@ -297,19 +453,92 @@ class UserEventServiceTest {
         verify(userEventRepository, never()).save(any(UserEventEntity.class));
     }
 
+    @Test
+    void updateApplicationStatuses_shouldUpdateSetWithOneStatementAndReportEveryUser() {
+        UserEventEntity revokedApplication = UserEventEntity.builder()
+                .id(UserEventId.builder().userId(12).eventId(20).build())
+                .user(UserEntity.builder().userId(12).build())
+                .event(event)
+                .revoked(true)
+                .build();
+        rejectedApplication.setId(UserEventId.builder().userId(11).eventId(20).build());
+        rejectedApplication.setUser(UserEntity.builder().userId(11).build());
+        event.setActiveCount(1L);
+        event.setRejectedCount(1L);
+
+        when(eventRepository.findByEventIdForUpdate(20)).thenReturn(Optional.of(event));
+        when(userEventRepository.findAllByEventIdAndUserIdIn(20, List.of(10, 11, 12, 13)))
+                .thenReturn(List.of(pendingApplication, rejectedApplication, revokedApplication));
+
+        UserEventBulkStatusResponse response = userEventService.updateApplicationStatuses(
+                20,
+                UserEventBulkStatusPatchRequest.builder()
+                        .userIds(List.of(10, 11, 12, 13, 10))
+                        .status("ACCEPTED")
+                        .build(),
+                99
+        );
+
+        assertThat(response.getUpdated()).isEqualTo(2);
+        assertThat(response.getUnchanged()).isZero();
+        assertThat(response.getFailed()).isEqualTo(2);
+        assertThat(response.getItems())
+                .extracting(UserEventBulkItemResult::getUserId)
+                .containsExactly(10, 11, 12, 13);
+        assertThat(response.getItems().get(0).getApplication().getStatus()).isEqualTo("ACCEPTED");
+        assertThat(response.getItems().get(1).getApplication().getStatus()).isEqualTo("ACCEPTED");
+        assertThat(response.getItems().get(2).getErrorCode()).isEqualTo("USER_EVENT_STATE_CONFLICT");
+        assertThat(response.getItems().get(3).getErrorCode()).isEqualTo("USER_EVENT_NOT_FOUND");
+
+        verify(userEventRepository).acceptApplications(20, List.of(10, 11));
+        verify(eventRepository).adjustApplicationCounters(20, 1, 2, -1, 0);
+        verify(eventCardWriter).refreshApplicationCounts(20);
+        verify(userEventRepository, never()).save(any(UserEventEntity.class));
+    }
+
+    @Test
+    void updateApplicationStatuses_shouldRejectWholeSet_whenAcceptedApplicationsDoNotFit() {
+        UserEventEntity secondPendingApplication = UserEventEntity.builder()
+                .id(UserEventId.builder().userId(11).eventId(20).build())
+                .user(UserEntity.builder().userId(11).build())
+                .event(event)
+                .build();
+        event.setActiveCount(2L);
+        event.setAcceptedCount(1L);
+
+        when(eventRepository.findByEventIdForUpdate(20)).thenReturn(Optional.of(event));
+        when(userEventRepository.findAllByEventIdAndUserIdIn(20, List.of(10, 11)))
+                .thenReturn(List.of(pendingApplication, secondPendingApplication));
+
+        assertThatThrownBy(() -> userEventService.updateApplicationStatuses(
+                20,
+                UserEventBulkStatusPatchRequest.builder()
+                        .userIds(List.of(10, 11))
+                        .status("ACCEPTED")
+                        .build(),
+                99
+        ))
+                .isInstanceOf(EventCapacityExceededException.class)
+                .hasMessage("accepting 2 applications exceeds max capacity - 2 of event with id - 20");
+
+        verify(userEventRepository, never()).acceptApplications(anyInt(), any());
+        verify(eventRepository, never()).adjustApplicationCounters(anyInt(), anyLong(), anyLong(), anyLong(), anyLong());
+    }
+
     @Test
     void createApplication_shouldThrowException_whenEventDoesNotAcceptApplications() {
         event.setStatus(EventStatus.COMPLETED);
 
         when(userRepository.findByUserIdAndDeletedAtIsNull(10)).thenReturn(Optional.of(applicant));
-        when(eventRepository.findByEventIdForUpdate(20)).thenReturn(Optional.of(event));
+        when(userEventRepository.findByIdForUpdate(UserEventId.builder().userId(10).eventId(20).build())).thenReturn(Optional.empty());
+        when(eventRepository.reserveApplicationSeats(eq(20), eq(1), any(LocalDateTime.class))).thenReturn(0);
+        when(eventRepository.findByEventId(20)).thenReturn(Optional.of(event));
 
         assertThatThrownBy(() -> userEventService.createApplication(20, 10))
                 .isInstanceOf(UserEventStateConflictException.class)
                 .hasMessage("event with id - 20 does not accept applications");
 
-        verify(userEventRepository, never()).findByUserAndEvent(any(), any());
-        verify(userEventRepository, never()).save(any(UserEventEntity.class));
+        verify(userEventRepository, never()).saveAndFlush(any(UserEventEntity.class));
     }
 
     @Test
@@ -330,8 +559,7 @@ class UserEventServiceTest {
                 .isInstanceOf(UserEventStateConflictException.class)
                 .hasMessage("application for user id - 10 and event id - 20 is revoked and cannot be updated");
 
-        verify(userEventRepository, never()).countByEventAndDeletedAtIsNullAndRejectedFalseAndRevokedFalse(event);
-        verify(userEventRepository, never()).countByEventAndDeletedAtIsNullAndAcceptedTrueAndRevokedFalse(event);
+        verify(eventRepository, never()).adjustApplicationCounters(anyInt(), anyLong(), anyLong(), anyLong(), anyLong());
         verify(userEventRepository, never()).save(any(UserEventEntity.class));
     }
 
@@ -370,13 +598,15 @@ class UserEventServiceTest {
                 .isInstanceOf(UserEventStateConflictException.class)
                 .hasMessage("event with id - 20 does not accept applications");
 
-        verify(userEventRepository, never()).countByEventAndDeletedAtIsNullAndRejectedFalseAndRevokedFalse(event);
-        verify(userEventRepository, never()).countByEventAndDeletedAtIsNullAndAcceptedTrueAndRevokedFalse(event);
+        verify(eventRepository, never()).adjustApplicationCounters(anyInt(), anyLong(), anyLong(), anyLong(), anyLong());
         verify(userEventRepository, never()).save(any(UserEventEntity.class));
     }
 
     @Test
     void updateApplicationStatus_shouldAcceptPreviouslyRejectedApplication_whenCapacityAllows() {
+        event.setActiveCount(1L);
+        event.setRejectedCount(1L);
+
         UserEventStatusPatchRequest request = UserEventStatusPatchRequest.builder()
                 .status("ACCEPTED")
                 .build();
@@ -385,10 +615,6 @@ class UserEventServiceTest {
         when(userRepository.findByUserIdAndDeletedAtIsNull(10)).thenReturn(Optional.of(applicant));
         when(userEventRepository.findByUserAndEventAndDeletedAtIsNull(applicant, event))
                 .thenReturn(Optional.of(rejectedApplication));
-        when(userEventRepository.countByEventAndDeletedAtIsNullAndRejectedFalseAndRevokedFalse(event))
-                .thenReturn(1L);
-        when(userEventRepository.countByEventAndDeletedAtIsNullAndAcceptedTrueAndRevokedFalse(event))
-                .thenReturn(0L);
         when(userEventRepository.save(any(UserEventEntity.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -403,8 +629,7 @@ class UserEventServiceTest {
         assertThat(rejectedApplication.getRejectReason()).isNull();
         assertThat(rejectedApplication.getRejectedAt()).isNull();
 
-        verify(userEventRepository).countByEventAndDeletedAtIsNullAndRejectedFalseAndRevokedFalse(event);
-        verify(userEventRepository).countByEventAndDeletedAtIsNullAndAcceptedTrueAndRevokedFalse(event);
+        verify(eventRepository).adjustApplicationCounters(20, 1, 1, -1, 0);
         verify(userEventRepository).save(rejectedApplication);
     }
 
@@ -431,8 +656,7 @@ class UserEventServiceTest {
         assertThat(pendingApplication.isRejected()).isTrue();
         assertThat(pendingApplication.getRejectReason()).isNull();
 
-        verify(userEventRepository, never()).countByEventAndDeletedAtIsNullAndRejectedFalseAndRevokedFalse(event);
-        verify(userEventRepository, never()).countByEventAndDeletedAtIsNullAndAcceptedTrueAndRevokedFalse(event);
+        verify(eventRepository).adjustApplicationCounters(20, -1, 0, 1, 0);
         verify(userEventRepository).save(pendingApplication);
     }
 
@@ -532,7 +756,7 @@ class UserEventServiceTest {
                 .build();
 
         when(eventRepository.findByEventId(20)).thenReturn(Optional.of(event));
-        when(userEventRepository.findApplicationsByCoordinatorAndEvent(20, 99, "PENDING", pageable))
+        when(userEventRepository.findApplicationsByCoordinatorAndEventAndStatus(20, 99, UserEventStatus.PENDING, pageable))
                 .thenReturn(new PageImpl<>(List.of(pendingApplication), pageable, 1));
 
         PageResponse<CoordinatorApplicationResponse> response =
@@ -543,7 +767,35 @@ class UserEventServiceTest {
         assertThat(response.getContent().get(0).getEventId()).isEqualTo(20);
         assertThat(response.getContent().get(0).getStatus()).isEqualTo("PENDING");
 
-        verify(userEventRepository).findApplicationsByCoordinatorAndEvent(20, 99, "PENDING", pageable);
+        verify(userEventRepository).findApplicationsByCoordinatorAndEventAndStatus(20, 99, UserEventStatus.PENDING, pageable);
+    }
+
+    @Test
+    void getApplicationsForMyEvent_shouldReturnSliceWithoutCount_whenTotalIsNotRequested() {
+        applicant.setFirstname("Ivan");
+        applicant.setLastname("Petrov");
+
+        PageRequest pageable = PageRequest.of(0, 20);
+
+        when(eventRepository.findByEventId(20)).thenReturn(Optional.of(event));
+        when(userEventRepository.findApplicationSliceByCoordinatorAndEvent(20, 99, pageable))
+                .thenReturn(new SliceImpl<>(List.of(pendingApplication), pageable, false));
+
+        PageResponse<CoordinatorApplicationResponse> response = userEventService.getApplicationsForMyEvent(
+                20,
+                null,
+                99,
+                pageable,
+                TotalMode.NONE
+        );
+
+        assertThat(response.getContent()).hasSize(1);
+        assertThat(response.isHasNext()).isFalse();
+        assertThat(response.getTotalElements()).isNull();
+        assertThat(response.getApproximateTotal()).isNull();
+
+        verify(userEventRepository, never()).findApplicationsByCoordinatorAndEvent(any(), any(), any());
+        verify(userEventRepository, never()).countApplicationsByCoordinatorAndEvent(any(), any());
     }
 
     @Test
@@ -562,7 +814,7 @@ class UserEventServiceTest {
                 .hasMessage("user with id - 77 is not coordinator of event with id - 20");
 
         verify(userEventRepository, never())
-                .findApplicationsByCoordinatorAndEvent(anyInt(), anyInt(), any(), any());
+                .findApplicationsByCoordinatorAndEvent(anyInt(), anyInt(), any());
     }
 
 }
\ No newline at end of file
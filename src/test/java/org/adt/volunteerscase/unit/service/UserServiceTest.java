@@ -1,5 +1,8 @@
 package org.adt.volunteerscase.unit.service;
 
+import org.adt.volunteerscase.dto.coordinator.CoordinatorEntityDTO;
+import org.adt.volunteerscase.dto.event.response.GetAllResponse;
+import org.adt.volunteerscase.dto.page.response.CursorPageResponse;
 import org.adt.volunteerscase.dto.page.response.PageResponse;
 import org.adt.volunteerscase.dto.tag.TagEntityDTO;
 import org.adt.volunteerscase.dto.user.request.UpdateCoordinatorRequest;
@@ -10,6 +13,7 @@ import org.adt.volunteerscase.entity.CoordinatorEntity;
 import org.adt.volunteerscase.entity.LocationEntity;
 import org.adt.volunteerscase.entity.TagEntity;
 import org.adt.volunteerscase.entity.UserEventEntity;
+import org.adt.volunteerscase.entity.UserEventId;
 import org.adt.volunteerscase.entity.event.EventEntity;
 import org.adt.volunteerscase.entity.event.EventStatus;
 import org.adt.volunteerscase.entity.rating.RatingPeriod;
@@ -20,11 +24,17 @@ import org.adt.volunteerscase.exception.UserAlreadyExistsException;
 import org.adt.volunteerscase.exception.UserNotCoordinatorException;
 import org.adt.volunteerscase.exception.UserNotFoundException;
 import org.adt.volunteerscase.repository.CoordinatorRepository;
+import org.adt.volunteerscase.repository.EventPopularityRepository;
 import org.adt.volunteerscase.repository.EventRepository;
 import org.adt.volunteerscase.repository.UserEventRepository;
 import org.adt.volunteerscase.repository.UserRepository;
 import org.adt.volunteerscase.service.RatingService;
 import org.adt.volunteerscase.service.UserService;
+import org.adt.volunteerscase.service.event.EventCardWriter;
+import org.adt.volunteerscase.service.event.EventDetailCache;
+import org.adt.volunteerscase.service.event.RecommendationCache;
+import org.adt.volunteerscase.service.event.RecommendationIndex;
+import org.adt.volunteerscase.service.event.EventCursor;
 import org.adt.volunteerscase.service.impl.UserServiceImpl;
 import org.adt.volunteerscase.service.security.RefreshTokenService;
 import org.junit.jupiter.api.BeforeEach;
@@ -61,12 +71,25 @@ public class UserServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EventPopularityRepository eventPopularityRepository;
+
     @Mock
     private UserEventRepository userEventRepository;
 
     @Mock
     private RatingService ratingService;
 
+    @Mock
+    private EventCardWriter eventCardWriter;
+
+    @Mock
+    private RecommendationIndex recommendationIndex;
+
+    @Mock
+    private RecommendationCache recommendationCache;
+
+    private EventDetailCache eventDetailCache;
     private UserService userService;
     private UserEntity coordinatorUser;
     private CoordinatorEntity coordinatorEntity;
@@ -75,13 +98,19 @@ public class UserServiceTest {
 
     @BeforeEach
     void setUp() {
+        eventDetailCache = new EventDetailCache(60_000, 100);
         userService = new UserServiceImpl(
                 userRepository,
                 refreshTokenService,
                 coordinatorRepository,
                 eventRepository,
+                eventPopularityRepository,
                 userEventRepository,
-                ratingService
+                ratingService,
+                eventCardWriter,
+                recommendationIndex,
+                recommendationCache,
+                eventDetailCache
         );
 
         userTag = TagEntity.builder()
@@ -134,6 +163,7 @@ public class UserServiceTest {
         when(coordinatorRepository.findById(1)).thenReturn(Optional.of(coordinatorEntity));
         when(userRepository.existsByEmail("maria@example.com")).thenReturn(false);
         when(userRepository.existsByPhoneNumber("+79990001122")).thenReturn(false);
+        when(eventRepository.findEventIdsByCoordinatorId(1)).thenReturn(List.of());
         when(userEventRepository.findActiveUpcomingEventsByUserId(eq(1), any(LocalDateTime.class)))
                 .thenReturn(List.of());
 
@@ -171,7 +201,7 @@ public class UserServiceTest {
         verify(userRepository).save(coordinatorUser);
         verify(coordinatorRepository).save(coordinatorEntity);
         verify(userEventRepository).findActiveUpcomingEventsByUserId(eq(1), any(LocalDateTime.class));
-        verifyNoInteractions(eventRepository, refreshTokenService);
+        verifyNoInteractions(refreshTokenService);
     }
 
     @Test
@@ -284,13 +314,61 @@ public class UserServiceTest {
         verify(userEventRepository).findActiveUpcomingEventsByUserId(eq(1), any(LocalDateTime.class));
     }
 
+    @Test
+    void updateCoordinatorByEmail_shouldBumpVersionsAndRefreshCardsOfCoordinatorEvents() {
+        UpdateCoordinatorRequest request = UpdateCoordinatorRequest.builder()
+                .workLocation("Branch office")
+                .build();
+
+        when(userRepository.findByEmailAndDeletedAtIsNull("coordinator@example.com"))
+                .thenReturn(Optional.of(coordinatorUser));
+        when(coordinatorRepository.findById(1)).thenReturn(Optional.of(coordinatorEntity));
+        when(eventRepository.findEventIdsByCoordinatorId(1)).thenReturn(List.of(100, 101));
+        when(userEventRepository.findActiveUpcomingEventsByUserId(eq(1), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        userService.updateCoordinatorByEmail(request, "coordinator@example.com");
+
+        InOrder inOrder = inOrder(coordinatorRepository, eventCardWriter);
+        inOrder.verify(coordinatorRepository).save(coordinatorEntity);
+        inOrder.verify(coordinatorRepository).bumpEventVersionsByCoordinatorId(1);
+        inOrder.verify(eventCardWriter).refreshAll(List.of(100, 101));
+    }
+
+    @Test
+    void updateCoordinatorById_shouldEvictCachedDetailsOfCoordinatorEvents() {
+        GetAllResponse cached = GetAllResponse.builder()
+                .eventId(100)
+                .coordinator(CoordinatorEntityDTO.builder().userId(1).workLocation("Main office").build())
+                .build();
+        GetAllResponse otherCoordinatorEvent = GetAllResponse.builder()
+                .eventId(200)
+                .coordinator(CoordinatorEntityDTO.builder().userId(7).workLocation("Other office").build())
+                .build();
+        eventDetailCache.getResponse(100, () -> cached);
+        eventDetailCache.getResponse(200, () -> otherCoordinatorEvent);
+
+        when(userRepository.findByUserIdAndDeletedAtIsNull(1)).thenReturn(Optional.of(coordinatorUser));
+        when(coordinatorRepository.findById(1)).thenReturn(Optional.of(coordinatorEntity));
+        when(userEventRepository.findActiveUpcomingEventsByUserId(eq(1), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        userService.updateCoordinatorById(UpdateCoordinatorRequest.builder().workLocation("Branch office").build(), 1);
+
+        GetAllResponse reloaded = GetAllResponse.builder().eventId(100).build();
+        assertThat(eventDetailCache.getResponse(100, () -> reloaded)).isSameAs(reloaded);
+        assertThat(eventDetailCache.getResponse(200, () -> reloaded)).isEqualTo(otherCoordinatorEvent);
+    }
+
     @Test
     void deleteCoordinatorById_shouldSoftDeleteUserAndActiveUserEvents() {
         UserEventEntity firstUserEvent = UserEventEntity.builder()
+                .id(UserEventId.builder().userId(1).eventId(100).build())
                 .user(coordinatorUser)
                 .build();
 
         UserEventEntity secondUserEvent = UserEventEntity.builder()
+                .id(UserEventId.builder().userId(1).eventId(101).build())
                 .user(coordinatorUser)
                 .build();
 
@@ -320,9 +398,12 @@ public class UserServiceTest {
         inOrder.verify(eventRepository).existsByCoordinator(coordinatorEntity);
         inOrder.verify(refreshTokenService).deleteAllByUser(coordinatorUser);
         inOrder.verify(coordinatorRepository).delete(coordinatorEntity);
+        inOrder.verify(eventRepository).releaseApplicationCountersOfUser(1);
         inOrder.verify(userEventRepository).findAllByUserAndDeletedAtIsNull(coordinatorUser);
         inOrder.verify(userEventRepository).saveAll(activeUserEvents);
         inOrder.verify(userRepository).save(coordinatorUser);
+        verify(eventCardWriter).refreshApplicationCounts(100);
+        verify(eventCardWriter).refreshApplicationCounts(101);
     }
 
     @Test
@@ -542,6 +623,80 @@ public class UserServiceTest {
         verify(userEventRepository, never()).findRegisteredEventsByUserId(anyInt(), any(Pageable.class));
     }
 
+    @Test
+    void getRegisteredEventsByCursor_shouldReturnNextCursorWithoutCount_whenMoreRowsExist() {
+        UserEntity currentUser = UserEntity.builder()
+                .userId(2)
+                .build();
+        Pageable lookAhead = PageRequest.of(0, 3);
+
+        UserEventEntity first = buildUserEvent(buildEvent(13, "First", EventStatus.ONGOING), false, false, false);
+        UserEventEntity second = buildUserEvent(buildEvent(12, "Second", EventStatus.ONGOING), true, false, false);
+        UserEventEntity lookAheadRow = buildUserEvent(buildEvent(11, "Third", EventStatus.ONGOING), false, false, false);
+
+        when(userRepository.findByUserIdAndDeletedAtIsNull(2)).thenReturn(Optional.of(regularUser));
+        when(userEventRepository.findFirstKeysetRegisteredEvents(2, lookAhead))
+                .thenReturn(List.of(first, second, lookAheadRow));
+
+        CursorPageResponse<RegisteredEventResponse> response =
+                userService.getRegisteredEventsByCursor(currentUser, null, 2);
+
+        assertThat(response.getContent())
+                .extracting(RegisteredEventResponse::getEventId)
+                .containsExactly(13, 12);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.isHasPrev()).isFalse();
+        assertThat(response.getPrevCursor()).isNull();
+
+        EventCursor nextCursor = EventCursor.decode(response.getNextCursor());
+        assertThat(nextCursor.isPrev()).isFalse();
+        assertThat(nextCursor.getEventId()).isEqualTo(12);
+        assertThat(nextCursor.getDateTimestamp()).isEqualTo(LocalDateTime.of(2026, 5, 16, 14, 0));
+
+        verify(userEventRepository).findFirstKeysetRegisteredEvents(2, lookAhead);
+        verify(userEventRepository, never()).findRegisteredEventsByUserId(anyInt(), any(Pageable.class));
+    }
+
+    @Test
+    void getRegisteredEventsByCursor_shouldReverseBackwardSlice() {
+        UserEntity currentUser = UserEntity.builder()
+                .userId(2)
+                .build();
+        LocalDateTime cursorDate = LocalDateTime.of(2026, 5, 16, 14, 0);
+        String cursor = EventCursor.prev(cursorDate, 10).encode();
+        Pageable lookAhead = PageRequest.of(0, 3);
+
+        UserEventEntity older = buildUserEvent(buildEvent(11, "Older", EventStatus.ONGOING), false, false, false);
+        UserEventEntity newer = buildUserEvent(buildEvent(12, "Newer", EventStatus.ONGOING), false, false, false);
+
+        when(userRepository.findByUserIdAndDeletedAtIsNull(2)).thenReturn(Optional.of(regularUser));
+        when(userEventRepository.findKeysetRegisteredEventsBefore(2, cursorDate, 10, lookAhead))
+                .thenReturn(List.of(older, newer));
+
+        CursorPageResponse<RegisteredEventResponse> response =
+                userService.getRegisteredEventsByCursor(currentUser, cursor, 2);
+
+        assertThat(response.getContent())
+                .extracting(RegisteredEventResponse::getEventId)
+                .containsExactly(12, 11);
+        assertThat(response.isHasPrev()).isFalse();
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(EventCursor.decode(response.getNextCursor()).getEventId()).isEqualTo(11);
+    }
+
+    @Test
+    void getRegisteredEventsByCursor_shouldThrowException_whenCursorIsMalformed() {
+        UserEntity currentUser = UserEntity.builder()
+                .userId(2)
+                .build();
+
+        assertThatThrownBy(() -> userService.getRegisteredEventsByCursor(currentUser, "not-a-cursor", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("invalid cursor - not-a-cursor");
+
+        verifyNoInteractions(userEventRepository);
+    }
+
     private EventEntity buildEvent(Integer eventId, String name, EventStatus status) {
         LocationEntity location = LocationEntity.builder()
                 .locationId(1)